@@ -0,0 +1,372 @@
+package benchmark;
+
+import com.homeworkhopper.Tuple;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+/**
+ * Checks the number of bytes allocated by each public {@code Tuple} operation against a fixed budget, and exits with
+ * a non-zero status if any operation exceeds its budget. Running this after a change to {@code Tuple} catches new
+ * allocations on paths which were previously allocation-free.
+ * <p>
+ * Every operation is warmed up before any operation is measured, so that the shared call sites within each operation
+ * have seen every record. Unlike in a micro benchmark dedicated to a single record, the JIT compiler then cannot
+ * inline an operation into its caller and eliminate the objects it returns, so the budgets describe what each
+ * operation genuinely allocates.
+ * <p>
+ * Object sizes assume a 64-bit HotSpot JVM using compressed references and class pointers, which is the default for
+ * heaps smaller than 32 GiB. Allocation figures rely on {@code com.sun.management.ThreadMXBean}.
+ *
+ * @author Shaun Thornton
+ */
+public class AllocationBudgets {
+
+    private static final int WARMUP_ROUNDS = 10;
+
+    private static final int ITERATIONS = 20_000;
+
+    /**
+     * The number of bytes per operation by which a measurement may exceed its budget, which absorbs allocations made
+     * by the JVM itself while measuring.
+     */
+    private static final double TOLERANCE = 1.0;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final List<Budget> BUDGETS = new ArrayList<>();
+
+    /**
+     * Prevents the JIT compiler from eliminating the measured operations as dead code.
+     */
+    private static int blackhole;
+
+    /**
+     * Forces the results of measured operations onto the heap, so that their allocations are not eliminated.
+     */
+    private static Object sink;
+
+    /**
+     * The number of bytes allocated by summing a stream of items: the spliterator, the stages of the pipeline and the
+     * terminal operation. None of these depend on the arity of the tuple, and the value created for each item is
+     * eliminated once the pipeline is compiled together with the spliterator.
+     */
+    private static final long STREAM = 200;
+
+    /**
+     * The array every tuple is copied into, which is large enough for the largest tuple measured.
+     */
+    private static final Object[] ITEMS = new Object[64];
+
+    /**
+     * The appendable every tuple is appended to, which discards what it is given so that appending never allocates
+     * within the appendable itself.
+     */
+    private static final Discard DISCARD = new Discard();
+
+    /**
+     * The number of calls of {@code alternate(Tuple, Tuple)}, which selects the tuple each call returns.
+     */
+    private static int turn;
+
+    public static void main(final String[] args) {
+        // Constructing a tuple allocates the record, and nothing else
+        final Integer a = 1, b = 2, c = 3, d = 4, e = 5, f = 6, g = 7;
+        budget("Tuple.of() arity 1", object(1), null, t -> escape(Tuple.of(a)));
+        budget("Tuple.of() arity 2", object(2), null, t -> escape(Tuple.of(a, b)));
+        budget("Tuple.of() arity 3", object(3), null, t -> escape(Tuple.of(a, b, c)));
+        budget("Tuple.of() arity 4", object(4), null, t -> escape(Tuple.of(a, b, c, d)));
+        budget("Tuple.of() arity 5", object(5), null, t -> escape(Tuple.of(a, b, c, d, e)));
+        budget("Tuple.of() arity 6", object(6), null, t -> escape(Tuple.of(a, b, c, d, e, f)));
+        budget("Tuple.of() arity 7", object(7), null, t -> escape(Tuple.of(a, b, c, d, e, f, g)));
+        budget("Tuple.of() int pair", 24, null, t -> escape(Tuple.ofInts(1, 2)));
+        budget("Tuple.of() long pair", 32, null, t -> escape(Tuple.ofLongs(1L, 2L)));
+        budget("Tuple.of() double pair", 32, null, t -> escape(Tuple.ofDoubles(1.0, 2.0)));
+        budget("Tuple.of() int long pair", 24, null, t -> escape(Tuple.ofIntLong(1, 2L)));
+        budget("Tuple.of() double triple", 40, null, t -> escape(Tuple.ofDoubles(1.0, 2.0, 3.0)));
+
+        // Every generic record, flat up to sixteen items and nested beyond
+        for (int arity = 1; arity <= 16; arity++)
+            generic(Tuple.fromArray(integers(arity)), Tuple.fromArray(integers(arity)));
+        generic(TupleBenchmark.nested(56), TupleBenchmark.nested(56));
+
+        // Every primitive-specialized record, whose items are boxed whenever they are returned as objects
+        specialized(Tuple.ofInts(1, 2), Tuple.ofInts(1, 2), 0);
+        specialized(Tuple.ofLongs(1L, 2L), Tuple.ofLongs(1L, 2L), 0);
+        specialized(Tuple.ofDoubles(1.0, 2.0), Tuple.ofDoubles(1.0, 2.0), 2);
+        specialized(Tuple.ofIntLong(1, 2L), Tuple.ofIntLong(1, 2L), 0);
+        specialized(Tuple.ofDoubles(1.0, 2.0, 3.0), Tuple.ofDoubles(1.0, 2.0, 3.0), 3);
+        budget("getInt() int pair", 0, Tuple.ofInts(1, 2), t -> t.getInt(1));
+        budget("getLong() long pair", 0, Tuple.ofLongs(1L, 2L), t -> (int) t.getLong(1));
+        budget("getDouble() double pair", 0, Tuple.ofDoubles(1.0, 2.0), t -> (int) t.getDouble(1));
+
+        // Tuples of the same record class with alternating runtime shapes are described without allocating
+        final Tuple swapped = Tuple.of(1, "one");
+        budget("shape() alternating shapes", 0, Tuple.of("one", 1), t -> alternate(t, swapped).shape().size());
+        budget("types() alternating shapes", 0, Tuple.of("one", 1), t -> alternate(t, swapped).types().size());
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++)
+            for (final Budget budget : BUDGETS)
+                measure(budget);
+
+        System.out.printf("%-40s %12s %12s %8s%n", "operation", "budget", "bytes/op", "result");
+        int exceeded = 0;
+        for (final Budget budget : BUDGETS) {
+            final double allocated = measure(budget);
+            final boolean within = allocated <= budget.bytes + TOLERANCE;
+            if (!within)
+                exceeded++;
+            System.out.printf("%-40s %12d %12.2f %8s%n", budget.name, budget.bytes, allocated,
+                    within ? "ok" : "EXCEEDED");
+        }
+        System.out.printf("%d of %d operations exceeded their budgets%n", exceeded, BUDGETS.size());
+        if (exceeded > 0)
+            System.exit(1);
+    }
+
+    /**
+     * Registers the budgets of the operations common to every generic record.
+     *
+     * @param tuple a generic tuple containing the integers from zero to its arity
+     * @param copy  a tuple equal to, but distinct from, {@code tuple}
+     */
+    private static void generic(final Tuple tuple, final Tuple copy) {
+        final int arity = tuple.arity();
+        final String suffix = " arity " + arity;
+        // Reading, hashing, comparing and describing items never allocates
+        budget("get(last)" + suffix, 0, tuple, t -> (Integer) t.get(arity - 1));
+        budget("size()" + suffix, 0, tuple, Tuple::size);
+        budget("isNested()" + suffix, 0, tuple, t -> t.isNested() ? 1 : 0);
+        budget("hashCode()" + suffix, 0, tuple, Object::hashCode);
+        budget("equals()" + suffix, 0, tuple, t -> t.equals(copy) ? 1 : 0);
+        budget("forEachValue()" + suffix, 0, tuple, AllocationBudgets::forEachValue);
+        budget("copyInto()" + suffix, 0, tuple, AllocationBudgets::copyInto);
+        budget("shape()" + suffix, 0, tuple, t -> t.shape().size());
+        budget("types()" + suffix, 0, tuple, t -> t.types().size());
+        // Flattening allocates a single array. Iterating allocates only the iterator, since the value created for each
+        // item is eliminated once the loop consuming it is compiled together with the iterator
+        budget("items()" + suffix, array(arity), tuple, t -> t.items().length);
+        budget("iterator()" + suffix, object(3), tuple, AllocationBudgets::iterate);
+        budget("stream()" + suffix, STREAM, tuple, AllocationBudgets::stream);
+        budget("key()" + suffix, object(2), tuple, t -> escape(t.key()));
+        budget("as" + name(arity) + "()" + suffix, object(1), tuple, AllocationBudgets::cast);
+        budget("toString()" + suffix, string(tuple), tuple, t -> t.toString().length());
+        // Integer items are written to an appendable digit by digit, without creating a string for each of them
+        budget("appendTo(Appendable)" + suffix, 0, tuple, AllocationBudgets::appendTo);
+    }
+
+    /**
+     * Registers the budgets of the operations common to every primitive-specialized record.
+     *
+     * @param tuple a primitive-specialized tuple containing the values from one to its arity
+     * @param copy  a tuple equal to, but distinct from, {@code tuple}
+     * @param boxes the number of items which cannot be boxed from a cache, and so must be allocated
+     */
+    private static void specialized(final Tuple tuple, final Tuple copy, final int boxes) {
+        final String suffix = " " + tuple.getClass().getSimpleName();
+        final int arity = tuple.arity();
+        budget("hashCode()" + suffix, 0, tuple, Object::hashCode);
+        budget("equals()" + suffix, 0, tuple, t -> t.equals(copy) ? 1 : 0);
+        budget("shape()" + suffix, 0, tuple, t -> t.shape().size());
+        budget("items()" + suffix, array(arity) + boxes * object(2), tuple, t -> t.items().length);
+        budget("copyInto()" + suffix, boxes * object(2), tuple, AllocationBudgets::copyInto);
+        // Casting copies the items into a boxed record, wrapped in an optional
+        budget("as" + name(arity) + "()" + suffix, object(1) + object(arity) + boxes * object(2), tuple,
+                AllocationBudgets::cast);
+        budget("toString()" + suffix, string(tuple), tuple, t -> t.toString().length());
+        // Integers and longs are written digit by digit, but each double is written as a string of its own
+        final long doubles = tuple instanceof Tuple.DoublePair || tuple instanceof Tuple.DoubleTriple ? arity : 0;
+        budget("appendTo(Appendable)" + suffix, doubles * (object(3) + bytes(3)), tuple, AllocationBudgets::appendTo);
+    }
+
+    private static void budget(final String name, final long bytes, final Tuple tuple,
+                               final ToIntFunction<Tuple> operation) {
+        BUDGETS.add(new Budget(name, bytes, tuple, operation));
+    }
+
+    /**
+     * Measures the average number of bytes allocated by a single call of the specified operation.
+     *
+     * @param budget the operation to measure
+     * @return the average number of bytes allocated per operation
+     */
+    private static double measure(final Budget budget) {
+        final long thread = Thread.currentThread().getId();
+        final long start = THREAD_BEAN.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < ITERATIONS; i++)
+            blackhole += budget.operation.applyAsInt(budget.tuple);
+        return (double) (THREAD_BEAN.getThreadAllocatedBytes(thread) - start) / ITERATIONS;
+    }
+
+    /**
+     * Returns the size of an object holding the specified number of references (or 32-bit fields), rounded up to the
+     * object alignment of eight bytes.
+     *
+     * @param fields the number of 32-bit fields
+     * @return the size of the object in bytes
+     */
+    private static long object(final int fields) {
+        return (12 + 4L * fields + 7) & ~7;
+    }
+
+    /**
+     * Returns the size of an array of the specified number of references, rounded up to the object alignment of eight
+     * bytes.
+     *
+     * @param length the length of the array
+     * @return the size of the array in bytes
+     */
+    private static long array(final int length) {
+        return (16 + 4L * length + 7) & ~7;
+    }
+
+    /**
+     * Returns the number of bytes allocated to build the string representation of the specified tuple, which are those
+     * of a builder presized to fit it, and of the resulting string. Representations are assumed to be Latin-1.
+     *
+     * @param tuple a tuple object
+     * @return the size of the builder and the string in bytes
+     */
+    private static long string(final Tuple tuple) {
+        final int length = tuple.toString().length(), capacity = 2 + 8 * tuple.arity();
+        return object(3) + bytes(capacity) + object(3) + bytes(length);
+    }
+
+    private static long bytes(final int length) {
+        return (16 + length + 7) & ~7;
+    }
+
+    private static Object[] integers(final int arity) {
+        final Object[] items = new Object[arity];
+        for (int i = 0; i < arity; i++)
+            items[i] = i;
+        return items;
+    }
+
+    private static String name(final int arity) {
+        return switch (arity) {
+            case 1 -> "Single";
+            case 2 -> "Two";
+            case 3 -> "Three";
+            case 4 -> "Four";
+            case 5 -> "Five";
+            case 6 -> "Six";
+            case 7 -> "Seven";
+            case 8 -> "Eight";
+            case 9 -> "Nine";
+            case 10 -> "Ten";
+            case 11 -> "Eleven";
+            case 12 -> "Twelve";
+            case 13 -> "Thirteen";
+            case 14 -> "Fourteen";
+            case 15 -> "Fifteen";
+            case 16 -> "Sixteen";
+            default -> "Nested";
+        };
+    }
+
+    private static int cast(final Tuple tuple) {
+        final Class<Number> type = Number.class;
+        final Optional<?> cast = switch (tuple.arity()) {
+            case 1 -> tuple.asSingle(type);
+            case 2 -> tuple.asTwo(type);
+            case 3 -> tuple.asThree(type);
+            case 4 -> tuple.asFour(type);
+            case 5 -> tuple.asFive(type);
+            case 6 -> tuple.asSix(type);
+            case 7 -> tuple.asSeven(type);
+            case 8 -> tuple.asEight(type);
+            case 9 -> tuple.asNine(type);
+            case 10 -> tuple.asTen(type);
+            case 11 -> tuple.asEleven(type);
+            case 12 -> tuple.asTwelve(type);
+            case 13 -> tuple.asThirteen(type);
+            case 14 -> tuple.asFourteen(type);
+            case 15 -> tuple.asFifteen(type);
+            case 16 -> tuple.asSixteen(type);
+            default -> tuple.asNested(type);
+        };
+        sink = cast;
+        return cast.isPresent() ? 1 : 0;
+    }
+
+    private static Tuple alternate(final Tuple first, final Tuple second) {
+        return (turn++ & 1) == 0 ? first : second;
+    }
+
+    private static int escape(final Object object) {
+        sink = object;
+        return 1;
+    }
+
+    private static int iterate(final Tuple tuple) {
+        int hash = 0;
+        for (final Tuple.TupleValue value : tuple)
+            hash += value.value().hashCode();
+        return hash;
+    }
+
+    private static int forEachValue(final Tuple tuple) {
+        tuple.forEachValue(AllocationBudgets::consume);
+        return 0;
+    }
+
+    private static int copyInto(final Tuple tuple) {
+        tuple.copyInto(ITEMS, 0);
+        return 0;
+    }
+
+    private static int stream(final Tuple tuple) {
+        return tuple.stream().mapToInt(value -> value.value().hashCode()).sum();
+    }
+
+    private static int appendTo(final Tuple tuple) {
+        try {
+            return tuple.appendTo(DISCARD).length;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void consume(final Object item) {
+        blackhole += item.hashCode();
+    }
+
+    /**
+     * An appendable which counts the characters appended to it and otherwise discards them.
+     */
+    private static final class Discard implements Appendable {
+
+        private int length;
+
+        @Override
+        public Appendable append(final CharSequence csq) {
+            this.length += String.valueOf(csq).length();
+            return this;
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq, final int start, final int end) {
+            this.length += end - start;
+            return this;
+        }
+
+        @Override
+        public Appendable append(final char c) {
+            this.length++;
+            return this;
+        }
+    }
+
+    /**
+     * The maximum number of bytes a single call of an operation may allocate.
+     */
+    private record Budget(String name, long bytes, Tuple tuple, ToIntFunction<Tuple> operation) {
+    }
+}
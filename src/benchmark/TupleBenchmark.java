@@ -0,0 +1,264 @@
+package benchmark;
+
+import com.homeworkhopper.Tuple;
+import com.homeworkhopper.TupleCodec;
+import com.homeworkhopper.TupleComparator;
+import com.homeworkhopper.TupleInterner;
+import com.homeworkhopper.TupleJson;
+import com.homeworkhopper.TupleKey;
+import com.homeworkhopper.TupleShape;
+import com.homeworkhopper.TypedView;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * A small, dependency-free micro benchmark harness for {@code Tuple} operations.
+ * <p>
+ * Each benchmark is warmed up before being measured, and reports both the average time and the average number of
+ * bytes allocated per operation. Allocation figures rely on {@code com.sun.management.ThreadMXBean}, which is
+ * available on all HotSpot based JVMs.
+ * <p>
+ * If arguments are given, only the benchmarks whose names contain one of them are run. The output of a full run is
+ * kept in {@code baseline.txt}, next to this class, so that changes to hot paths can be compared against it.
+ *
+ * @author Shaun Thornton
+ */
+public class TupleBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+
+    private static final int MEASURED_ITERATIONS = 1_000_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Prevents the JIT compiler from eliminating the benchmarked operations as dead code.
+     */
+    private static int blackhole;
+
+    /**
+     * Forces the results of benchmarked operations onto the heap, so that their allocations are not eliminated.
+     */
+    private static Object sink;
+
+    /**
+     * The substrings selecting which benchmarks to run, or an empty array to run every benchmark.
+     */
+    private static String[] filters = new String[0];
+
+    public static void main(final String[] args) {
+        filters = args.clone();
+        System.out.printf("%-40s %12s %12s%n", "benchmark", "ns/op", "bytes/op");
+
+        // Constructing flat tuples of each arity, both generic and primitive-specialized
+        final Integer a = 1, b = 2, c = 3, d = 4, e = 5, f = 6, g = 7;
+        run("Tuple.of() arity 1", null, t -> escape(Tuple.of(a)));
+        run("Tuple.of() arity 2", null, t -> escape(Tuple.of(a, b)));
+        run("Tuple.of() arity 3", null, t -> escape(Tuple.of(a, b, c)));
+        run("Tuple.of() arity 4", null, t -> escape(Tuple.of(a, b, c, d)));
+        run("Tuple.of() arity 5", null, t -> escape(Tuple.of(a, b, c, d, e)));
+        run("Tuple.of() arity 6", null, t -> escape(Tuple.of(a, b, c, d, e, f)));
+        run("Tuple.of() arity 7", null, t -> escape(Tuple.of(a, b, c, d, e, f, g)));
+        run("Tuple.of() int pair", null, t -> escape(Tuple.ofInts(1, 2)));
+        run("Tuple.of() double triple", null, t -> escape(Tuple.ofDoubles(1.0, 2.0, 3.0)));
+
+        // Constructing, flattening and hashing nested tuples should scale linearly with their arity
+        for (final int arity : new int[]{7, 14, 28, 56, 112, 224}) {
+            final Tuple tuple = nested(arity), copy = nested(arity);
+            final Object[] items = tuple.items();
+            run("Tuple.fromArray() arity " + arity, null, t -> escape(Tuple.fromArray(items)));
+            run("items() arity " + arity, tuple, t -> t.items().length);
+            run("get(last) arity " + arity, tuple, t -> (Integer) t.get(arity - 1));
+            run("hashCode() arity " + arity, tuple, Object::hashCode);
+            run("equals() arity " + arity, tuple, t -> t.equals(copy) ? 1 : 0);
+        }
+
+        // Iterating a flat tuple, both externally and internally
+        final Tuple seven = Tuple.of(1, 2, 3, 4, 5, 6, 7);
+        run("iterator() arity 7", seven, TupleBenchmark::iterate);
+        run("forEachValue() arity 7", seven, TupleBenchmark::forEachValue);
+        run("iterator() arity 56", nested(56), TupleBenchmark::iterate);
+        run("forEachValue() arity 56", nested(56), TupleBenchmark::forEachValue);
+        run("stream() arity 56", nested(56), t -> t.stream().mapToInt(value -> value.value().hashCode()).sum());
+        run("size() arity 7", seven, Tuple::size);
+        run("size() arity 56", nested(56), Tuple::size);
+
+        // Accessing the last item of a wide tuple, both flat and nested
+        final Tuple flat = Tuple.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13);
+        run("get(13) flat arity 14", flat, t -> (Integer) t.get(13));
+        run("get(13) nested arity 14", nested(14), t -> (Integer) t.get(13));
+
+        // Hashing and looking up composite keys
+        final Tuple three = Tuple.of("dimension", 42, 7L);
+        final TupleKey threeKey = three.key();
+        final Map<Tuple, Integer> tuples = new HashMap<>();
+        final Map<TupleKey, Integer> keys = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            tuples.put(Tuple.of("dimension", i, 7L), i);
+            keys.put(Tuple.of("dimension", i, 7L).key(), i);
+        }
+        run("hashCode() record arity 3", three, Object::hashCode);
+        run("hashCode() TupleKey arity 3", three, t -> threeKey.hashCode());
+        run("HashMap.get() record key", three, tuples::get);
+        run("HashMap.get() TupleKey key", three, t -> keys.get(threeKey));
+        final TupleInterner interner = TupleInterner.withMaximumSize(1_000);
+        run("TupleInterner.intern() hit", three, t -> interner.intern(t).arity());
+
+        // Probing for equality, where most probes miss
+        final Tuple wide = nested(56), wider = nested(63);
+        run("equals() nested arity 56 identity", wide, t -> t.equals(wide) ? 1 : 0);
+        run("equals() nested arity mismatch", wide, t -> t.equals(wider) ? 1 : 0);
+        final TupleKey otherKey = Tuple.of("dimension", 43, 7L).key();
+        run("equals() TupleKey hash mismatch", three, t -> threeKey.equals(otherKey) ? 1 : 0);
+
+        // Resolving the runtime types of a tuple whose shape has been seen before
+        run("types() arity 7", seven, t -> t.types().size());
+        run("types() arity 56", nested(56), t -> t.types().size());
+
+        // Recovering a statically typed tuple, with and without a precompiled type guard
+        final TypedView<Tuple.OfThree<String, Integer, Long>> view =
+                TypedView.ofThree(String.class, Integer.class, Long.class);
+        run("asThree() arity 3", three, t -> t.asThree(String.class, Integer.class, Long.class).isPresent() ? 1 : 0);
+        run("TypedView.test() arity 3", three, t -> view.test(t) ? 1 : 0);
+        final Tuple pair = Tuple.of(a, b);
+        run("asTwo() arity 2", pair, t -> t.asTwo(Integer.class).isPresent() ? 1 : 0);
+        run("asSeven() arity 7", seven, t -> t.asSeven(Integer.class).isPresent() ? 1 : 0);
+        run("asTwo() int pair", Tuple.ofInts(1, 2), t -> t.asTwo(Integer.class).isPresent() ? 1 : 0);
+
+        // Ordering tuples through a precompiled comparator, and lexicographically
+        final TupleComparator byInts = TupleComparator.builder().ascendingInt(0).descendingInt(1).build();
+        final Tuple ints = Tuple.ofInts(1, 2), otherInts = Tuple.ofInts(1, 3);
+        run("TupleComparator.compare() int pair", ints, t -> byInts.compare(t, otherInts));
+        final TupleComparator byRow = TupleComparator.builder().ascendingInt(1).ascendingLong(2).ascending(0).build();
+        final Tuple otherThree = Tuple.of("dimensions", 42, 7L);
+        run("TupleComparator.compare() arity 3", three, t -> byRow.compare(t, otherThree));
+        run("naturalOrder().compare() arity 3", three, t -> TupleComparator.naturalOrder().compare(t, otherThree));
+
+        // Rendering tuples as strings
+        run("toString() arity 3", three, t -> t.toString().length());
+        run("toString() arity 7", seven, t -> t.toString().length());
+        run("toString() arity 56", nested(56), t -> t.toString().length());
+
+        // Encoding and decoding a tuple, compared against Java serialization of the same items
+        final Tuple row = Tuple.of(42, 7L, "dimension");
+        final ByteBuffer buffer = ByteBuffer.allocate(1_024);
+        final byte[] encoded = TupleCodec.encode(row);
+        run("TupleCodec.encode() arity 3", row, t -> encode(t, buffer));
+        run("TupleCodec.decode() arity 3", row, t -> TupleCodec.decode(encoded).arity());
+        run("ObjectOutputStream items() arity 3", row, TupleBenchmark::serialize);
+
+        // Encoding and decoding a tuple as a JSON array
+        final StringBuilder json = new StringBuilder(64);
+        final String rowJson = TupleJson.toJson(row);
+        final TupleShape rowShape = row.shape();
+        run("TupleJson.appendTo() arity 3", row, t -> TupleJson.appendTo(t, json.delete(0, json.length())).length());
+        run("TupleJson.appendTo() int pair", Tuple.ofInts(1, 2),
+                t -> TupleJson.appendTo(t, json.delete(0, json.length())).length());
+        run("TupleJson.fromJson() arity 3", row, t -> TupleJson.fromJson(rowJson, rowShape).arity());
+    }
+
+    /**
+     * Measures the specified operation against the specified tuple and prints the results.
+     *
+     * @param name      the name of the benchmark
+     * @param tuple     the tuple to benchmark against, which may be {@code null} if the operation ignores it
+     * @param operation the operation to benchmark
+     */
+    static void run(final String name, final Tuple tuple, final ToIntFunction<Tuple> operation) {
+        if (filters.length > 0 && Arrays.stream(filters).noneMatch(name::contains))
+            return;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++)
+            blackhole += operation.applyAsInt(tuple);
+
+        final long thread = Thread.currentThread().getId();
+        final long startBytes = THREAD_BEAN.getThreadAllocatedBytes(thread);
+        final long startTime = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++)
+            blackhole += operation.applyAsInt(tuple);
+        final long elapsed = System.nanoTime() - startTime;
+        final long allocated = THREAD_BEAN.getThreadAllocatedBytes(thread) - startBytes;
+
+        System.out.printf("%-40s %12.2f %12.2f%n", name,
+                (double) elapsed / MEASURED_ITERATIONS, (double) allocated / MEASURED_ITERATIONS);
+    }
+
+    private static int escape(final Tuple tuple) {
+        sink = tuple;
+        return tuple.arity();
+    }
+
+    private static int iterate(final Tuple tuple) {
+        int hash = 0;
+        for (final Tuple.TupleValue value : tuple)
+            hash += value.value().hashCode();
+        return hash;
+    }
+
+    private static int forEachValue(final Tuple tuple) {
+        tuple.forEachValue(TupleBenchmark::consume);
+        return 0;
+    }
+
+    private static void consume(final Object item) {
+        blackhole += item.hashCode();
+    }
+
+    private static int encode(final Tuple tuple, final ByteBuffer buffer) {
+        TupleCodec.encode(tuple, buffer.clear());
+        return buffer.position();
+    }
+
+    private static int serialize(final Tuple tuple) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(tuple.items());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.size();
+    }
+
+    /**
+     * Returns a tuple containing the specified number of items, nesting tuples as required.
+     *
+     * @param arity the number of items
+     * @return a tuple containing {@code arity} items
+     */
+    static Tuple nested(final int arity) {
+        final List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < arity; i++)
+            items.add(i);
+        return nested(items, 0);
+    }
+
+    private static Tuple nested(final List<Integer> items, final int from) {
+        final int remaining = items.size() - from;
+        if (remaining <= 7)
+            return switch (remaining) {
+                case 1 -> Tuple.of(items.get(from));
+                case 2 -> Tuple.of(items.get(from), items.get(from + 1));
+                case 3 -> Tuple.of(items.get(from), items.get(from + 1), items.get(from + 2));
+                case 4 -> Tuple.of(items.get(from), items.get(from + 1), items.get(from + 2), items.get(from + 3));
+                case 5 -> Tuple.of(items.get(from), items.get(from + 1), items.get(from + 2), items.get(from + 3),
+                        items.get(from + 4));
+                case 6 -> Tuple.of(items.get(from), items.get(from + 1), items.get(from + 2), items.get(from + 3),
+                        items.get(from + 4), items.get(from + 5));
+                default -> Tuple.of(items.get(from), items.get(from + 1), items.get(from + 2), items.get(from + 3),
+                        items.get(from + 4), items.get(from + 5), items.get(from + 6));
+            };
+        return Tuple.of(items.get(from), items.get(from + 1), items.get(from + 2), items.get(from + 3),
+                items.get(from + 4), items.get(from + 5), items.get(from + 6), nested(items, from + 7));
+    }
+}
@@ -0,0 +1,107 @@
+package check;
+
+import java.util.Objects;
+
+/**
+ * Records the outcome of a sequence of behavioral checks, prints each outcome as it is recorded, and exits with a
+ * non-zero status once the checks are complete if any of them failed.
+ * <p>
+ * The programs within this package are run directly, in the same way as those within the {@code benchmark} package,
+ * for example {@code java -cp out check.FactoryChecks}.
+ *
+ * @author Shaun Thornton
+ */
+final class Checks {
+
+    private final String title;
+
+    private int passed;
+
+    private int failed;
+
+    Checks(final String title) {
+        this.title = title;
+        System.out.println(title);
+    }
+
+    /**
+     * Records a check which passes if the specified condition holds.
+     *
+     * @param name      a description of the check
+     * @param condition whether the check passed
+     */
+    void expect(final String name, final boolean condition) {
+        this.record(name, condition, null);
+    }
+
+    /**
+     * Records a check which passes if the specified values are equal.
+     *
+     * @param name     a description of the check
+     * @param expected the expected value
+     * @param actual   the actual value
+     */
+    void expectEquals(final String name, final Object expected, final Object actual) {
+        this.record(name, Objects.equals(expected, actual), "expected " + expected + ", but got " + actual);
+    }
+
+    /**
+     * Records a check which passes if the specified action throws an exception of the specified type.
+     *
+     * @param name   a description of the check
+     * @param type   the expected type of exception
+     * @param action the action expected to throw
+     */
+    void expectThrows(final String name, final Class<? extends Throwable> type, final Action action) {
+        try {
+            action.run();
+            this.record(name, false, "expected " + type.getSimpleName() + ", but nothing was thrown");
+        } catch (final Throwable e) {
+            this.record(name, type.isInstance(e), "expected " + type.getSimpleName() + ", but got " + e);
+        }
+    }
+
+    /**
+     * Records a check which passes if the specified action completes without throwing.
+     *
+     * @param name   a description of the check
+     * @param action the action expected to complete
+     */
+    void expectCompletes(final String name, final Action action) {
+        try {
+            action.run();
+            this.record(name, true, null);
+        } catch (final Throwable e) {
+            this.record(name, false, "threw " + e);
+        }
+    }
+
+    /**
+     * Prints a summary of every recorded check, and exits with a non-zero status if any check failed.
+     */
+    void finish() {
+        System.out.printf("%s: %d passed, %d failed%n", this.title, this.passed, this.failed);
+        if (this.failed > 0)
+            System.exit(1);
+    }
+
+    private void record(final String name, final boolean condition, final String detail) {
+        if (condition) {
+            this.passed++;
+            System.out.printf("  %-72s ok%n", name);
+        } else {
+            this.failed++;
+            System.out.printf("  %-72s FAILED%n", name);
+            if (detail != null)
+                System.out.println("      " + detail);
+        }
+    }
+
+    /**
+     * An action which may throw any exception.
+     */
+    @FunctionalInterface
+    interface Action {
+        void run() throws Exception;
+    }
+}
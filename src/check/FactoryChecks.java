@@ -0,0 +1,83 @@
+package check;
+
+import com.homeworkhopper.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks which record each {@code Tuple} factory returns for primitive arguments.
+ * <p>
+ * Every call to {@code Tuple.of(...)} must box its arguments as their own wrapper types and return a generic record,
+ * exactly as it did before the primitive-specialized records existed. Each call below is also assigned to its
+ * expected static type, so an overload which silently widens its arguments fails to compile as well as to run.
+ *
+ * @author Shaun Thornton
+ */
+public class FactoryChecks {
+
+    public static void main(final String[] args) {
+        final Checks checks = new Checks("Tuple factories");
+
+        final Tuple.OfTwo<Character, Character> chars = Tuple.of('a', 'b');
+        expectItems(checks, "Tuple.of(char, char)", chars, Tuple.OfTwo.class, 'a', 'b');
+        final Tuple.OfTwo<Float, Float> floats = Tuple.of(1f, 2f);
+        expectItems(checks, "Tuple.of(float, float)", floats, Tuple.OfTwo.class, 1f, 2f);
+        final Tuple.OfTwo<Short, Byte> small = Tuple.of((short) 1, (byte) 2);
+        expectItems(checks, "Tuple.of(short, byte)", small, Tuple.OfTwo.class, (short) 1, (byte) 2);
+        final Tuple.OfThree<Float, Integer, Integer> mixed = Tuple.of(1f, 2, 3);
+        expectItems(checks, "Tuple.of(float, int, int)", mixed, Tuple.OfThree.class, 1f, 2, 3);
+        final Tuple.OfTwo<Integer, Integer> ints = Tuple.of(1, 2);
+        expectItems(checks, "Tuple.of(int, int)", ints, Tuple.OfTwo.class, 1, 2);
+        final Tuple.OfTwo<Long, Long> longs = Tuple.of(1L, 2L);
+        expectItems(checks, "Tuple.of(long, long)", longs, Tuple.OfTwo.class, 1L, 2L);
+        final Tuple.OfTwo<Double, Double> doubles = Tuple.of(1.0, 2.0);
+        expectItems(checks, "Tuple.of(double, double)", doubles, Tuple.OfTwo.class, 1.0, 2.0);
+        final Tuple.OfTwo<Integer, Long> intLong = Tuple.of(1, 2L);
+        expectItems(checks, "Tuple.of(int, long)", intLong, Tuple.OfTwo.class, 1, 2L);
+        final Tuple.OfTwo<Integer, Double> intDouble = Tuple.of(1, 2.0);
+        expectItems(checks, "Tuple.of(int, double)", intDouble, Tuple.OfTwo.class, 1, 2.0);
+        final Tuple.OfThree<Integer, Integer, Integer> triple = Tuple.of(1, 2, 3);
+        expectItems(checks, "Tuple.of(int, int, int)", triple, Tuple.OfThree.class, 1, 2, 3);
+        final Tuple.OfThree<Double, Double, Double> doubleTriple = Tuple.of(1.0, 2.0, 3.0);
+        expectItems(checks, "Tuple.of(double, double, double)", doubleTriple, Tuple.OfThree.class, 1.0, 2.0, 3.0);
+        final Tuple.OfThree<Character, Byte, Float> odd = Tuple.of('x', (byte) 1, 1f);
+        expectItems(checks, "Tuple.of(char, byte, float)", odd, Tuple.OfThree.class, 'x', (byte) 1, 1f);
+        final Tuple.OfTwo<Boolean, Integer> flag = Tuple.of(true, 1);
+        expectItems(checks, "Tuple.of(boolean, int)", flag, Tuple.OfTwo.class, true, 1);
+
+        // The primitive-specialized records are only ever returned by the named factories
+        expectItems(checks, "Tuple.ofInts(int, int)", Tuple.ofInts(1, 2), Tuple.IntPair.class, 1, 2);
+        expectItems(checks, "Tuple.ofLongs(long, long)", Tuple.ofLongs(1L, 2L), Tuple.LongPair.class, 1L, 2L);
+        expectItems(checks, "Tuple.ofDoubles(double, double)", Tuple.ofDoubles(1.0, 2.0), Tuple.DoublePair.class,
+                1.0, 2.0);
+        expectItems(checks, "Tuple.ofIntLong(int, long)", Tuple.ofIntLong(1, 2L), Tuple.IntLongPair.class, 1, 2L);
+        expectItems(checks, "Tuple.ofDoubles(double, double, double)", Tuple.ofDoubles(1.0, 2.0, 3.0),
+                Tuple.DoubleTriple.class, 1.0, 2.0, 3.0);
+
+        // Tuple.fromArray never returns a primitive-specialized record
+        expectItems(checks, "Tuple.fromArray(Integer, Integer)", Tuple.fromArray(1, 2), Tuple.OfTwo.class, 1, 2);
+        expectItems(checks, "Tuple.fromArray(Double, Double, Double)", Tuple.fromArray(1.0, 2.0, 3.0),
+                Tuple.OfThree.class, 1.0, 2.0, 3.0);
+
+        checks.finish();
+    }
+
+    /**
+     * Checks that the specified tuple is an instance of the specified record, and contains items equal to, and of the
+     * same classes as, the specified items.
+     */
+    private static void expectItems(final Checks checks, final String name, final Tuple tuple, final Class<?> record,
+                                    final Object... items) {
+        checks.expectEquals(name + " record", record.getSimpleName(), tuple.getClass().getSimpleName());
+        checks.expectEquals(name + " items", List.of(items), List.of(tuple.items()));
+        checks.expectEquals(name + " item types", types(items), types(tuple.items()));
+    }
+
+    private static List<Class<?>> types(final Object[] items) {
+        final List<Class<?>> types = new ArrayList<>();
+        for (final Object item : items)
+            types.add(item.getClass());
+        return types;
+    }
+}
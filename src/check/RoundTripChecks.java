@@ -0,0 +1,349 @@
+package check;
+
+import com.homeworkhopper.Tuple;
+import com.homeworkhopper.TupleChannelReader;
+import com.homeworkhopper.TupleChannelWriter;
+import com.homeworkhopper.TupleCodec;
+import com.homeworkhopper.TupleCsvReader;
+import com.homeworkhopper.TupleCsvWriter;
+import com.homeworkhopper.TupleFile;
+import com.homeworkhopper.TupleJson;
+import com.homeworkhopper.TupleSegmentStore;
+import com.homeworkhopper.TupleShape;
+import com.homeworkhopper.TupleTable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Checks that tuples survive every encoding and container of this library unchanged, and that malformed or oversized
+ * input is rejected with the documented exception.
+ * <p>
+ * A tuple survives a round trip only if it comes back equal to the original, which also requires it to come back as
+ * the same record: a primitive-specialized tuple which returns as a boxed generic record is a failure.
+ *
+ * @author Shaun Thornton
+ */
+public class RoundTripChecks {
+
+    /**
+     * The number of random tuples encoded by the codec checks.
+     */
+    private static final int RANDOM_TUPLES = 2_000;
+
+    public static void main(final String[] args) throws IOException {
+        final Checks checks = new Checks("Round trips");
+        codec(checks);
+        channels(checks);
+        csv(checks);
+        json(checks);
+        table(checks);
+        store(checks);
+        file(checks);
+        checks.finish();
+    }
+
+    private static void codec(final Checks checks) {
+        for (final Tuple tuple : samples())
+            checks.expectEquals("TupleCodec " + describe(tuple), tuple, TupleCodec.decode(TupleCodec.encode(tuple)));
+
+        final Random random = new Random(42);
+        int failures = 0;
+        for (int i = 0; i < RANDOM_TUPLES; i++) {
+            final Tuple tuple = random(random, 0);
+            if (!tuple.equals(TupleCodec.decode(TupleCodec.encode(tuple))))
+                failures++;
+        }
+        checks.expectEquals("TupleCodec " + RANDOM_TUPLES + " random tuples", 0, failures);
+
+        // Tuple items may be nested up to 64 levels deep, counting the outermost tuple as the first level
+        Tuple deep = Tuple.of(1);
+        for (int level = 1; level < 64; level++)
+            deep = Tuple.of(deep);
+        final Tuple deepest = deep, tooDeep = Tuple.of(deep);
+        checks.expectCompletes("TupleCodec encodes items 64 levels deep", () -> TupleCodec.encode(deepest));
+        checks.expectThrows("TupleCodec rejects items 65 levels deep", IllegalArgumentException.class,
+                () -> TupleCodec.encode(tooDeep));
+        checks.expectThrows("TupleCodec rejects unsupported items", IllegalArgumentException.class,
+                () -> TupleCodec.encode(Tuple.of(1, new Object())));
+
+        final byte[] encoded = TupleCodec.encode(Tuple.of(1, "two", 3L));
+        int truncations = 0;
+        for (int length = 0; length < encoded.length; length++) {
+            try {
+                TupleCodec.decode(Arrays.copyOf(encoded, length));
+            } catch (final IllegalArgumentException e) {
+                truncations++;
+            }
+        }
+        checks.expectEquals("TupleCodec rejects every truncation with IllegalArgumentException", encoded.length,
+                truncations);
+
+        // Records compare arrays by identity, so a decoded byte[] item is only equal to the original by its contents
+        final byte[] bytes = {1, 2, 3};
+        final Tuple decoded = TupleCodec.decode(TupleCodec.encode(Tuple.of("bytes", bytes)));
+        checks.expect("TupleCodec decodes byte[] items as equal arrays", decoded.get(1) != bytes
+                && Arrays.equals(bytes, (byte[]) decoded.get(1)));
+    }
+
+    private static void channels(final Checks checks) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TupleChannelWriter writer = new TupleChannelWriter(Channels.newChannel(out), 16)) {
+            writer.writeAll(samples());
+        }
+        final List<Tuple> read = new ArrayList<>();
+        try (TupleChannelReader reader = new TupleChannelReader(channel(out.toByteArray()), 16)) {
+            reader.readAll(read::add);
+        }
+        checks.expectEquals("TupleChannelReader reads what TupleChannelWriter wrote", samples(), read);
+
+        final Tuple large = Tuple.of("x".repeat(1_000));
+        checks.expectThrows("TupleChannelWriter rejects tuples larger than a frame", IllegalArgumentException.class,
+                () -> new TupleChannelWriter(Channels.newChannel(new ByteArrayOutputStream()), 16, 64).write(large));
+        checks.expectThrows("TupleChannelReader rejects lengths larger than a frame", StreamCorruptedException.class,
+                () -> new TupleChannelReader(channel(new byte[]{0x7f, -1, -1, -1})).read());
+        checks.expectThrows("TupleChannelReader rejects negative lengths", StreamCorruptedException.class,
+                () -> new TupleChannelReader(channel(new byte[]{-1, -1, -1, -1})).read());
+        checks.expectThrows("TupleChannelReader rejects truncated frames", EOFException.class,
+                () -> new TupleChannelReader(channel(new byte[]{0, 0, 0, 8, 1})).read());
+    }
+
+    private static void csv(final Checks checks) throws IOException {
+        final TupleShape shape = TupleShape.of(int.class, long.class, double.class, String.class);
+        final List<Tuple> rows = List.of(
+                Tuple.of(1, 2L, 0.5, "plain"),
+                Tuple.of(-7, Long.MIN_VALUE, -1e-300, "with, a comma"),
+                Tuple.of(Integer.MAX_VALUE, 0L, 12345.678901234567, "with \"quotes\"\nand a line break"),
+                Tuple.of(0, -1L, Double.NaN, ""),
+                Tuple.of(3, 4L, Double.NEGATIVE_INFINITY, null));
+        checks.expectEquals("TupleCsvReader reads what TupleCsvWriter wrote", rows, csvRoundTrip(shape, rows));
+
+        final TupleShape pair = TupleShape.of(int.class, int.class);
+        final List<Tuple> pairs = List.of(Tuple.ofInts(1, 2), Tuple.ofInts(-3, 4));
+        checks.expectEquals("TupleCsvReader reads (int, int) rows as IntPair", pairs, csvRoundTrip(pair, pairs));
+
+        for (final String field : new String[]{" 1.5", "1.5 ", "1.5\t", "0x1p3", "2f", "1.5d", "1e", ""})
+            checks.expectThrows("TupleCsvReader rejects the double \"" + field.replace("\t", "\\t") + "\"",
+                    StreamCorruptedException.class, () -> csvRead(TupleShape.of(double.class), field));
+        for (final String field : new String[]{" 1", "1 ", "+", "2147483648"})
+            checks.expectThrows("TupleCsvReader rejects the int \"" + field + "\"", StreamCorruptedException.class,
+                    () -> csvRead(TupleShape.of(int.class), field));
+    }
+
+    private static void json(final Checks checks) throws IOException {
+        for (final Tuple tuple : jsonSamples())
+            checks.expectEquals("TupleJson " + describe(tuple), tuple,
+                    TupleJson.fromJson(TupleJson.toJson(tuple), TupleShape.of(tuple)));
+        checks.expectEquals("TupleJson reads (int, int) as IntPair", Tuple.ofInts(1, 2),
+                TupleJson.fromJson(new StringBuilder(" [1, 2] "), TupleShape.of(int.class, int.class)));
+
+        final StringWriter out = new StringWriter();
+        try (TupleJson.ArrayWriter writer = TupleJson.writer(out)) {
+            for (int i = 0; i < 1_000; i++)
+                writer.write(Tuple.of(i, "item " + i));
+        }
+        final List<Tuple> read = new ArrayList<>();
+        try (TupleJson.ArrayReader reader = TupleJson.reader(new StringReader(out.toString()),
+                TupleShape.of(Integer.class, String.class))) {
+            reader.readAll(read::add);
+        }
+        checks.expect("TupleJson.ArrayReader reads what TupleJson.ArrayWriter wrote",
+                read.size() == 1_000 && read.get(999).equals(Tuple.of(999, "item 999")));
+
+        checks.expectThrows("TupleJson rejects trailing content", IllegalArgumentException.class,
+                () -> TupleJson.fromJson("[1, 2] 3", TupleShape.of(int.class, int.class)));
+        checks.expectThrows("TupleJson rejects null primitives", IllegalArgumentException.class,
+                () -> TupleJson.fromJson("[1, null]", TupleShape.of(int.class, int.class)));
+        checks.expectThrows("TupleJson rejects non-finite numbers", IllegalArgumentException.class,
+                () -> TupleJson.toJson(Tuple.of(Double.NaN)));
+    }
+
+    private static void table(final Checks checks) {
+        for (final Map.Entry<Tuple, TupleShape> row : rows().entrySet()) {
+            final TupleTable table = TupleTable.of(row.getValue());
+            table.append(row.getKey());
+            checks.expectEquals("TupleTable.row " + describe(row.getKey()), row.getKey(), table.row(0));
+        }
+    }
+
+    private static void store(final Checks checks) {
+        for (final Map.Entry<Tuple, TupleShape> row : rows().entrySet()) {
+            try (TupleSegmentStore store = TupleSegmentStore.of(row.getValue())) {
+                store.append(row.getKey());
+                checks.expectEquals("TupleSegmentStore.row " + describe(row.getKey()), row.getKey(), store.row(0));
+            }
+        }
+
+        final TupleSegmentStore store = TupleSegmentStore.of(int.class, String.class);
+        store.append(Tuple.of(1, "one"));
+        final TupleSegmentStore.Cursor cursor = store.cursor();
+        checks.expectThrows("TupleSegmentStore cursors fail before their first row", IllegalStateException.class,
+                () -> cursor.getInt(0));
+        checks.expectThrows("TupleSegmentStore cursors fail to copy before their first row",
+                IllegalStateException.class, cursor::toTuple);
+        cursor.next();
+        checks.expectEquals("TupleSegmentStore cursors read their current row", Tuple.of(1, "one"), cursor.toTuple());
+        final TupleSegmentStore.Cursor exhausted = store.cursor();
+        while (exhausted.next())
+            exhausted.getInt(0);
+        checks.expectThrows("TupleSegmentStore cursors fail after their last row", IllegalStateException.class,
+                () -> exhausted.getString(1));
+        store.close();
+        checks.expectThrows("TupleSegmentStore cursors fail once the store is closed", IllegalStateException.class,
+                () -> cursor.getInt(0));
+    }
+
+    private static void file(final Checks checks) throws IOException {
+        for (final Map.Entry<Tuple, TupleShape> row : rows().entrySet()) {
+            final Path path = Files.createTempFile("round-trip", ".tuples");
+            try {
+                TupleFile.write(path, row.getValue(), List.of(row.getKey()));
+                try (TupleFile file = TupleFile.open(path)) {
+                    checks.expectEquals("TupleFile.row " + describe(row.getKey()), row.getKey(), file.row(0));
+                }
+            } finally {
+                Files.delete(path);
+            }
+        }
+
+        // A corrupt string location is only detected once the string is read. The length of the string of the
+        // second row lies after the 32 bytes of the header, the 16 bytes of the first row, and the 12 bytes of the
+        // int and string offset of the second row
+        final Path path = Files.createTempFile("round-trip", ".tuples");
+        try {
+            TupleFile.write(path, TupleShape.of(int.class, String.class), List.of(Tuple.of(1, "one"),
+                    Tuple.of(2, "two")));
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 1 << 20), 32 + 16 + 12);
+            }
+            try (TupleFile file = TupleFile.open(path)) {
+                checks.expectEquals("TupleFile reads rows beside a corrupt string location", Tuple.of(1, "one"),
+                        file.row(0));
+                checks.expectThrows("TupleFile rejects a corrupt string location when it is read",
+                        UncheckedIOException.class, () -> file.getString(1, 1));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Returns rows of each shape with a primitive-specialized record, which must be rebuilt as that record, and of
+     * generic shapes, with the shape of each.
+     */
+    private static Map<Tuple, TupleShape> rows() {
+        final Map<Tuple, TupleShape> rows = new LinkedHashMap<>();
+        rows.put(Tuple.ofInts(1, 2), TupleShape.of(int.class, int.class));
+        rows.put(Tuple.ofLongs(3L, 4L), TupleShape.of(long.class, long.class));
+        rows.put(Tuple.ofDoubles(0.5, 1.5), TupleShape.of(double.class, double.class));
+        rows.put(Tuple.ofIntLong(5, 6L), TupleShape.of(int.class, long.class));
+        rows.put(Tuple.ofDoubles(1.0, 2.0, 3.0), TupleShape.of(double.class, double.class, double.class));
+        rows.put(Tuple.of(1, 2L, 3.0, "four"), TupleShape.of(int.class, long.class, double.class, String.class));
+        rows.put(Tuple.of(1, (String) null), TupleShape.of(int.class, String.class));
+        return rows;
+    }
+
+    private static List<Tuple> samples() {
+        return List.of(
+                Tuple.of(1),
+                Tuple.of(1, "two", 3.0, 4L, (short) 5, (byte) 6, '7', 8f, true, null),
+                Tuple.of("", "unicode \u00e9 \u2603 \ud83d\ude00", "\u0000"),
+                Tuple.of(Integer.MIN_VALUE, Long.MAX_VALUE, -0.0, Double.NaN, Float.NEGATIVE_INFINITY),
+                Tuple.of(Tuple.of(1, 2), Tuple.ofInts(3, 4), Tuple.of(Tuple.of("deep"))),
+                Tuple.ofInts(-1, Integer.MAX_VALUE),
+                Tuple.ofLongs(Long.MIN_VALUE, 0L),
+                Tuple.ofDoubles(0.1, -2.5),
+                Tuple.ofIntLong(7, -8L),
+                Tuple.ofDoubles(1.0, Double.MIN_VALUE, Double.MAX_VALUE),
+                Tuple.fromArray(sequence(30)),
+                Tuple.fromArray(sequence(8)));
+    }
+
+    private static List<Tuple> jsonSamples() {
+        return List.of(
+                Tuple.of(1),
+                Tuple.of(1, "two", 3.0, 4L, (short) 5, (byte) 6, '7', 8f, true, null),
+                Tuple.of("", "unicode \u00e9 \u2603 \ud83d\ude00", "quote \" backslash \\ control \u0001"),
+                Tuple.of(Integer.MIN_VALUE, Long.MAX_VALUE, -0.0, 1e-300, 123456.789),
+                Tuple.fromArray(sequence(30)));
+    }
+
+    private static Object[] sequence(final int length) {
+        final Object[] items = new Object[length];
+        for (int i = 0; i < length; i++)
+            items[i] = i % 3 == 0 ? "item " + i : i;
+        return items;
+    }
+
+    /**
+     * Returns a random tuple of random items, which may themselves be tuples up to a few levels deep.
+     */
+    private static Tuple random(final Random random, final int depth) {
+        final Object[] items = new Object[1 + random.nextInt(depth == 0 ? 24 : 4)];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = switch (random.nextInt(depth < 3 ? 12 : 11)) {
+                case 0 -> null;
+                case 1 -> random.nextBoolean();
+                case 2 -> (byte) random.nextInt();
+                case 3 -> (short) random.nextInt();
+                case 4 -> (char) random.nextInt(Character.MAX_VALUE + 1);
+                case 5 -> random.nextInt() >> random.nextInt(32);
+                case 6 -> random.nextLong() >> random.nextInt(64);
+                case 7 -> random.nextFloat();
+                case 8 -> random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+                case 9 -> "s".repeat(random.nextInt(5)) + (char) ('a' + random.nextInt(26));
+                case 10 -> Tuple.ofInts(random.nextInt(), random.nextInt());
+                default -> random(random, depth + 1);
+            };
+        }
+        return Tuple.fromArray(items);
+    }
+
+    private static List<Tuple> csvRoundTrip(final TupleShape shape, final List<Tuple> rows) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TupleCsvWriter writer = new TupleCsvWriter(Channels.newChannel(out), shape)) {
+            writer.writeAll(rows);
+        }
+        final List<Tuple> read = new ArrayList<>();
+        try (TupleCsvReader reader = new TupleCsvReader(channel(out.toByteArray()), shape)) {
+            reader.readAll(read::add);
+        }
+        return read;
+    }
+
+    private static Tuple csvRead(final TupleShape shape, final String record) throws IOException {
+        try (TupleCsvReader reader = new TupleCsvReader(channel((record + "\n").getBytes(StandardCharsets.UTF_8)),
+                shape)) {
+            return reader.read();
+        }
+    }
+
+    private static ReadableByteChannel channel(final byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+
+    private static String describe(final Tuple tuple) {
+        final String text = tuple.getClass().getSimpleName() + " " + tuple;
+        return text.length() <= 56 ? text : text.substring(0, 53) + "...";
+    }
+}
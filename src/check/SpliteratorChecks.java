@@ -0,0 +1,92 @@
+package check;
+
+import com.homeworkhopper.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+/**
+ * Checks that splitting the spliterator of a tuple, to any depth, covers every item exactly once and in order.
+ * <p>
+ * The first split of a nested tuple must also fall on a nesting boundary, a multiple of seven items from the start, so
+ * that both halves begin their walk at the start of a level of nesting.
+ *
+ * @author Shaun Thornton
+ */
+public class SpliteratorChecks {
+
+    /**
+     * The largest arity checked, which covers several levels of nesting beyond the largest flat record.
+     */
+    private static final int MAX_ARITY = 40;
+
+    public static void main(final String[] args) {
+        final Checks checks = new Checks("Tuple spliterators");
+
+        for (int arity = 1; arity <= MAX_ARITY; arity++) {
+            final Tuple tuple = Tuple.fromArray(sequence(arity));
+            final String name = "Tuple.spliterator arity " + arity;
+
+            final List<Object> walked = new ArrayList<>();
+            tuple.spliterator().forEachRemaining(value -> walked.add(value.value()));
+            checks.expectEquals(name + " walks every item", List.of(tuple.items()), walked);
+
+            final List<Object> split = new ArrayList<>();
+            final boolean sized = splitFully(tuple.spliterator(), split);
+            checks.expectEquals(name + " split covers every item in order", List.of(tuple.items()), split);
+            checks.expect(name + " split halves report exact sizes", sized);
+
+            checks.expectEquals(name + " parallel stream", List.of(tuple.items()),
+                    tuple.stream().parallel().map(Tuple.TupleValue::value).collect(Collectors.toList()));
+
+            if (tuple instanceof Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?>) {
+                final Spliterator<Tuple.TupleValue> spliterator = tuple.spliterator();
+                final Spliterator<Tuple.TupleValue> prefix = spliterator.trySplit();
+                checks.expect(name + " splits on a nesting boundary",
+                        prefix != null && prefix.estimateSize() % 7 == 0
+                                && prefix.estimateSize() + spliterator.estimateSize() == arity);
+            }
+        }
+
+        final Spliterator<Tuple.TupleValue> single = Tuple.of(1).spliterator();
+        checks.expect("Tuple.spliterator does not split a single item", single.trySplit() == null);
+        final Spliterator<Tuple.TupleValue> consumed = Tuple.of(1, 2, 3).spliterator();
+        consumed.forEachRemaining(value -> { });
+        checks.expect("Tuple.spliterator does not advance past its last item",
+                consumed.estimateSize() == 0 && !consumed.tryAdvance(value -> { }));
+        checks.expect("Tuple.spliterator characteristics", Tuple.of(1, 2).spliterator().hasCharacteristics(
+                Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE));
+
+        checks.finish();
+    }
+
+    /**
+     * Splits the specified spliterator recursively until no further split is possible, adding the items of each
+     * prefix before those of the remainder.
+     *
+     * @return whether every spliterator reported exactly the number of items it went on to walk
+     */
+    private static boolean splitFully(final Spliterator<Tuple.TupleValue> spliterator, final List<Object> items) {
+        final long size = spliterator.estimateSize();
+        final int start = items.size();
+        final Spliterator<Tuple.TupleValue> prefix = spliterator.trySplit();
+        boolean sized = true;
+        if (prefix != null) {
+            sized = size == prefix.estimateSize() + spliterator.estimateSize();
+            sized &= splitFully(prefix, items);
+            sized &= splitFully(spliterator, items);
+        } else {
+            spliterator.forEachRemaining(value -> items.add(value.value()));
+        }
+        return sized && items.size() - start == size;
+    }
+
+    private static Object[] sequence(final int length) {
+        final Object[] items = new Object[length];
+        for (int i = 0; i < length; i++)
+            items[i] = i % 2 == 0 ? i : "item " + i;
+        return items;
+    }
+}
@@ -0,0 +1,117 @@
+package check;
+
+import com.homeworkhopper.Tuple;
+import com.homeworkhopper.TupleKey;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Checks that the hash codes of {@code TupleKey} are well distributed for the tuples which typically collide under the
+ * hash codes of the records themselves, and that keys sharing a hash code are still told apart by their items.
+ * <p>
+ * Each key set below holds a million tuples of small integers. The record hash codes of such tuples are confined to a
+ * narrow range, since each item's hash code is the integer itself, so most of them collide.
+ *
+ * @author Shaun Thornton
+ */
+public class TupleKeyChecks {
+
+    private static final int KEYS = 1_000_000;
+
+    /**
+     * The number of buckets the keys are spread across, which is the table size {@code HashMap} would use for a
+     * million keys at its default load factor.
+     */
+    private static final int BUCKETS = 1 << 21;
+
+    public static void main(final String[] args) {
+        final Checks checks = new Checks("Tuple keys");
+
+        distribution(checks, "sequential (int, int) pairs", i -> Tuple.of(i / 1_000, i % 1_000));
+        distribution(checks, "small (int, int, int) triples", i -> Tuple.of(i / 10_000, i / 100 % 100, i % 100));
+        distribution(checks, "sequential nested tuples", i -> Tuple.fromArray(20, 19, 18, 17, 16, 15, 14, 13, 12,
+                11, 10, 9, 8, 7, 6, 5, 4, 3, 2, i / 1_000, i % 1_000));
+
+        checks.expect("TupleKey.hash differs for swapped items",
+                TupleKey.hash(Tuple.of(1, 2)) != TupleKey.hash(Tuple.of(2, 1)));
+        checks.expect("TupleKey.hash differs for a trailing null item",
+                TupleKey.hash(Tuple.of(1, 2)) != TupleKey.hash(Tuple.of(1, 2, null)));
+        checks.expectEquals("TupleKey of equal tuples", Tuple.of(1, "two").key(), Tuple.of(1, "two").key());
+        checks.expectEquals("TupleKey hash code of equal tuples", Tuple.of(1, "two").key().hashCode(),
+                Tuple.of(1, "two").key().hashCode());
+        checks.expect("TupleKey of unequal records with equal items",
+                !Tuple.ofInts(1, 2).key().equals(Tuple.of(1, 2).key()));
+
+        // Keys with equal hash codes but unequal items must fall through to comparing their items
+        final TupleKey[] collision = collision();
+        checks.expect("TupleKey collision found among (int, int) pairs", collision != null);
+        if (collision != null) {
+            checks.expectEquals("TupleKey collision " + collision[0] + " and " + collision[1] + " hash codes",
+                    collision[0].hashCode(), collision[1].hashCode());
+            checks.expect("TupleKey with an equal hash code and unequal items", !collision[0].equals(collision[1]));
+            final Map<TupleKey, Integer> map = new HashMap<>();
+            map.put(collision[0], 0);
+            map.put(collision[1], 1);
+            checks.expect("HashMap keeps colliding keys apart", map.size() == 2 && map.get(collision[0]) == 0
+                    && map.get(collision[1]) == 1);
+        }
+
+        checks.finish();
+    }
+
+    /**
+     * Checks that the keys of the specified tuples have almost entirely distinct hash codes, and spread evenly across
+     * the buckets of a table sized as {@code HashMap} would size it.
+     */
+    private static void distribution(final Checks checks, final String name, final IntFunction<Tuple> tuples) {
+        final int[] hashes = new int[KEYS];
+        final int[] buckets = new int[BUCKETS];
+        for (int i = 0; i < KEYS; i++) {
+            final int hash = tuples.apply(i).key().hashCode();
+            hashes[i] = hash;
+            // Bucket by the low bits alone, without the spreading HashMap applies, so that weak low bits show
+            buckets[hash & BUCKETS - 1]++;
+        }
+        final int distinct = distinct(hashes);
+        int longest = 0, empty = 0;
+        for (final int bucket : buckets) {
+            longest = Math.max(longest, bucket);
+            if (bucket == 0)
+                empty++;
+        }
+        // A uniform hash leaves about 62% of the buckets empty, and no bucket holds more than about ten keys
+        final double emptyShare = (double) empty / BUCKETS, expected = Math.exp(-(double) KEYS / BUCKETS);
+        checks.expect(String.format("TupleKey %s: %,d distinct hashes", name, distinct), distinct >= KEYS * 0.999);
+        checks.expect(String.format("TupleKey %s: %.1f%% empty buckets", name, 100 * emptyShare),
+                Math.abs(emptyShare - expected) < 0.01);
+        checks.expect(String.format("TupleKey %s: longest bucket %d", name, longest), longest <= 12);
+    }
+
+    /**
+     * Returns two keys of unequal {@code (int, int)} pairs whose hash codes are equal, or {@code null} if none exist
+     * among the pairs searched.
+     */
+    private static TupleKey[] collision() {
+        final Map<Integer, TupleKey> seen = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            final TupleKey key = Tuple.of(i / 1_000, i % 1_000).key();
+            final TupleKey previous = seen.putIfAbsent(key.hashCode(), key);
+            if (previous != null)
+                return new TupleKey[]{previous, key};
+        }
+        return null;
+    }
+
+    private static int distinct(final int[] hashes) {
+        final int[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+        int distinct = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++)
+            if (sorted[i] != sorted[i - 1])
+                distinct++;
+        return distinct;
+    }
+}
@@ -1,7 +1,15 @@
 package com.homeworkhopper;
 
+import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.homeworkhopper.Tuple.*;
 
@@ -17,10 +25,11 @@ import static com.homeworkhopper.Tuple.*;
  * speaking, both the number of items and type of each individual item within a given tuple must be explicitly defined
  * in order for the types of those items to be properly maintained.
  * <p>
- * The {@code Tuple} interface provides static factory methods capable of producing tuples of up to seven items in
- * size, as this is the maximum tuple size supported by this interface. If more than seven items need to be stored,
- * a tuple may be created with another tuple an eighth (and final) item. This functionality allows for tuple objects
- * to be nested and effectively allows for arbitrarily large tuples with more than seven items to be created.
+ * The {@code Tuple} interface provides static factory methods capable of producing flat tuples of up to sixteen items
+ * in size, as this is the maximum flat tuple size supported by this interface. If more than sixteen items need to be
+ * stored, a tuple may be created with seven items and another tuple as an eighth (and final) item. This functionality
+ * allows for tuple objects to be nested and effectively allows for arbitrarily large tuples to be created. Please note
+ * that whenever the eighth of eight items is itself a tuple, a nested tuple is created rather than a flat one.
  *
  * @author Shaun Thornton
  * @see Tuple.Single
@@ -30,11 +39,27 @@ import static com.homeworkhopper.Tuple.*;
  * @see Tuple.OfFive
  * @see Tuple.OfSix
  * @see Tuple.OfSeven
+ * @see Tuple.OfEight
+ * @see Tuple.OfNine
+ * @see Tuple.OfTen
+ * @see Tuple.OfEleven
+ * @see Tuple.OfTwelve
+ * @see Tuple.OfThirteen
+ * @see Tuple.OfFourteen
+ * @see Tuple.OfFifteen
+ * @see Tuple.OfSixteen
  * @see Tuple.OfNested
+ * @see Tuple.IntPair
+ * @see Tuple.LongPair
+ * @see Tuple.DoublePair
+ * @see Tuple.IntLongPair
+ * @see Tuple.DoubleTriple
  * @see Tuple.TupleValue
  */
 public sealed interface Tuple extends Iterable<TupleValue>
-        permits Single, OfTwo, OfThree, OfFour, OfFive, OfSix, OfSeven, OfNested {
+        permits Single, OfTwo, OfThree, OfFour, OfFive, OfSix, OfSeven, OfEight, OfNine, OfTen, OfEleven, OfTwelve,
+        OfThirteen, OfFourteen, OfFifteen, OfSixteen, OfNested, IntPair, LongPair, DoublePair, IntLongPair,
+        DoubleTriple {
 
     /**
      * Returns a String representation of a given {@code Tuple} value.
@@ -46,14 +71,23 @@ public sealed interface Tuple extends Iterable<TupleValue>
      * @return A string representation of the provided Tuple object
      */
     static String toString(final Tuple tuple) {
-        final Iterator<TupleValue> iterator = tuple.iterator();
-        // It is safe to assume that the provided tuple contains at least one item
-        final StringBuilder sb = new StringBuilder("(").append(iterator.next().value);
-        // The provided tuple MAY contain further items
-        iterator.forEachRemaining(tupleValue -> sb.append(", ").append(tupleValue.value));
-        return sb.append(")").toString();
+        return tuple.appendTo(new StringBuilder(estimateLength(tuple))).toString();
     }
 
+    /**
+     * Returns the estimated length of the {@code String} representation of the specified tuple, used to size builders
+     * so that they rarely need to grow.
+     *
+     * @param tuple A tuple object
+     * @return The estimated length of the tuple's string representation
+     */
+    private static int estimateLength(final Tuple tuple) {
+        // Allow for the parentheses, and for each item to be about as long as a small number or a short word
+        return 2 + 8 * tuple.arity();
+    }
+
+    // region generated: factories
+
     /**
      * Returns a new {@code Tuple.Single} containing one item.
      *
@@ -198,8 +232,6 @@ public sealed interface Tuple extends Iterable<TupleValue>
 
     /**
      * Returns a new {@code Tuple.OfEight} containing eight items.
-     * <p>
-     * Please note that the eighth item must be another {@code Tuple}
      *
      * @param <TypeA> the first item type
      * @param <TypeB> the second item type
@@ -208,7 +240,7 @@ public sealed interface Tuple extends Iterable<TupleValue>
      * @param <TypeE> the fifth item type
      * @param <TypeF> the sixth item type
      * @param <TypeG> the seventh item type
-     * @param <TypeH> the eighth item type which extends {@code Tuple}
+     * @param <TypeH> the eighth item type
      * @param item1   the first item
      * @param item2   the second item
      * @param item3   the third item
@@ -216,153 +248,970 @@ public sealed interface Tuple extends Iterable<TupleValue>
      * @param item5   the fifth item
      * @param item6   the sixth item
      * @param item7   the seventh item
-     * @param rest    the eighth item of type {@code Tuple}
-     * @return a {@code Tuple.OfSeven} containing the specified items
+     * @param item8   the eighth item
+     * @return a {@code Tuple.OfEight} containing the specified items
      */
-    static <TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH extends Tuple>
-    OfNested<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH>
+    static <TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH>
+    OfEight<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH>
     of(final TypeA item1, final TypeB item2, final TypeC item3, final TypeD item4, final TypeE item5, final TypeF item6,
-       final TypeG item7, final TypeH rest) {
-        // Return a new tuple containing the eight specified items, as well as another tuple
-        return new OfNested<>(item1, item2, item3, item4, item5, item6, item7, rest);
+       final TypeG item7, final TypeH item8) {
+        // Return a new tuple containing the eight specified items
+        return new OfEight<>(item1, item2, item3, item4, item5, item6, item7, item8);
     }
 
     /**
-     * Returns an array containing all the items in this {@code Tuple}.
-     * <p>
-     * Nested tuples (in which the eighth item of a Tuple is another tuple object) are properly handled, meaning that
-     * the array returned by this method will contain unpacked nested items if any are present.
+     * Returns a new {@code Tuple.OfNine} containing nine items.
      *
-     * @return An array of this {@code Tuple}'s items
+     * @param <TypeA> the first item type
+     * @param <TypeB> the second item type
+     * @param <TypeC> the third item type
+     * @param <TypeD> the fourth item type
+     * @param <TypeE> the fifth item type
+     * @param <TypeF> the sixth item type
+     * @param <TypeG> the seventh item type
+     * @param <TypeH> the eighth item type
+     * @param <TypeI> the ninth item type
+     * @param item1   the first item
+     * @param item2   the second item
+     * @param item3   the third item
+     * @param item4   the fourth item
+     * @param item5   the fifth item
+     * @param item6   the sixth item
+     * @param item7   the seventh item
+     * @param item8   the eighth item
+     * @param item9   the ninth item
+     * @return a {@code Tuple.OfNine} containing the specified items
      */
-    Object[] items();
+    static <TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI>
+    OfNine<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI>
+    of(final TypeA item1, final TypeB item2, final TypeC item3, final TypeD item4, final TypeE item5, final TypeF item6,
+       final TypeG item7, final TypeH item8, final TypeI item9) {
+        // Return a new tuple containing the nine specified items
+        return new OfNine<>(item1, item2, item3, item4, item5, item6, item7, item8, item9);
+    }
 
     /**
-     * Returns an array containing the types of each item in this {@code Tuple}
-     * The types returned by this method are backed by the {@code items()} method.
+     * Returns a new {@code Tuple.OfTen} containing ten items.
      *
-     * @return An array of this {@code Tuple}'s types
+     * @param <TypeA> the first item type
+     * @param <TypeB> the second item type
+     * @param <TypeC> the third item type
+     * @param <TypeD> the fourth item type
+     * @param <TypeE> the fifth item type
+     * @param <TypeF> the sixth item type
+     * @param <TypeG> the seventh item type
+     * @param <TypeH> the eighth item type
+     * @param <TypeI> the ninth item type
+     * @param <TypeJ> the tenth item type
+     * @param item1   the first item
+     * @param item2   the second item
+     * @param item3   the third item
+     * @param item4   the fourth item
+     * @param item5   the fifth item
+     * @param item6   the sixth item
+     * @param item7   the seventh item
+     * @param item8   the eighth item
+     * @param item9   the ninth item
+     * @param item10  the tenth item
+     * @return a {@code Tuple.OfTen} containing the specified items
      */
-    default Class<?>[] types() {
-        final Object[] items = this.items();
-        final int size = items.length;
-        final Class<?>[] types = new Class<?>[size];
-        for (int i = 0; i < size; i++)
-            types[i] = items[i].getClass();
-        return types;
+    static <TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ>
+    OfTen<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ>
+    of(final TypeA item1, final TypeB item2, final TypeC item3, final TypeD item4, final TypeE item5, final TypeF item6,
+       final TypeG item7, final TypeH item8, final TypeI item9, final TypeJ item10) {
+        // Return a new tuple containing the ten specified items
+        return new OfTen<>(item1, item2, item3, item4, item5, item6, item7, item8, item9, item10);
     }
 
     /**
-     * Returns {@code true} if this tuple nests another tuple. This will be true if, and only if, this tuple is an
-     * {@code Tuple.OfNested} instance.
+     * Returns a new {@code Tuple.OfEleven} containing eleven items.
      *
-     * @return {@code true} if this tuple nests another tuple
+     * @param <TypeA> the first item type
+     * @param <TypeB> the second item type
+     * @param <TypeC> the third item type
+     * @param <TypeD> the fourth item type
+     * @param <TypeE> the fifth item type
+     * @param <TypeF> the sixth item type
+     * @param <TypeG> the seventh item type
+     * @param <TypeH> the eighth item type
+     * @param <TypeI> the ninth item type
+     * @param <TypeJ> the tenth item type
+     * @param <TypeK> the eleventh item type
+     * @param item1   the first item
+     * @param item2   the second item
+     * @param item3   the third item
+     * @param item4   the fourth item
+     * @param item5   the fifth item
+     * @param item6   the sixth item
+     * @param item7   the seventh item
+     * @param item8   the eighth item
+     * @param item9   the ninth item
+     * @param item10  the tenth item
+     * @param item11  the eleventh item
+     * @return a {@code Tuple.OfEleven} containing the specified items
      */
-    default boolean isNested() {
-        return this.getClass() == OfNested.class;
+    static <TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK>
+    OfEleven<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK>
+    of(final TypeA item1, final TypeB item2, final TypeC item3, final TypeD item4, final TypeE item5, final TypeF item6,
+       final TypeG item7, final TypeH item8, final TypeI item9, final TypeJ item10, final TypeK item11) {
+        // Return a new tuple containing the eleven specified items
+        return new OfEleven<>(item1, item2, item3, item4, item5, item6, item7, item8, item9, item10, item11);
     }
 
     /**
-     * Returns an iterator which returns all the items in this tuple in proper sequence.
-     * <p>
-     * Since the returned iterator is backed by the {@code items()} method, nested tuples can be properly iterated over.
+     * Returns a new {@code Tuple.OfTwelve} containing twelve items.
      *
-     * @return an iterator over the items in this tuple in proper sequence
+     * @param <TypeA> the first item type
+     * @param <TypeB> the second item type
+     * @param <TypeC> the third item type
+     * @param <TypeD> the fourth item type
+     * @param <TypeE> the fifth item type
+     * @param <TypeF> the sixth item type
+     * @param <TypeG> the seventh item type
+     * @param <TypeH> the eighth item type
+     * @param <TypeI> the ninth item type
+     * @param <TypeJ> the tenth item type
+     * @param <TypeK> the eleventh item type
+     * @param <TypeL> the twelfth item type
+     * @param item1   the first item
+     * @param item2   the second item
+     * @param item3   the third item
+     * @param item4   the fourth item
+     * @param item5   the fifth item
+     * @param item6   the sixth item
+     * @param item7   the seventh item
+     * @param item8   the eighth item
+     * @param item9   the ninth item
+     * @param item10  the tenth item
+     * @param item11  the eleventh item
+     * @param item12  the twelfth item
+     * @return a {@code Tuple.OfTwelve} containing the specified items
      */
-    default Iterator<TupleValue> iterator() {
-        return new Iterator<>() {
-            private final Object[] items = items();
+    static <TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL>
+    OfTwelve<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL>
+    of(final TypeA item1, final TypeB item2, final TypeC item3, final TypeD item4, final TypeE item5, final TypeF item6,
+       final TypeG item7, final TypeH item8, final TypeI item9, final TypeJ item10, final TypeK item11,
+       final TypeL item12) {
+        // Return a new tuple containing the twelve specified items
+        return new OfTwelve<>(item1, item2, item3, item4, item5, item6, item7, item8, item9, item10, item11, item12);
+    }
 
-            private int pos = 0;
+    /**
+     * Returns a new {@code Tuple.OfThirteen} containing thirteen items.
+     *
+     * @param <TypeA> the first item type
+     * @param <TypeB> the second item type
+     * @param <TypeC> the third item type
+     * @param <TypeD> the fourth item type
+     * @param <TypeE> the fifth item type
+     * @param <TypeF> the sixth item type
+     * @param <TypeG> the seventh item type
+     * @param <TypeH> the eighth item type
+     * @param <TypeI> the ninth item type
+     * @param <TypeJ> the tenth item type
+     * @param <TypeK> the eleventh item type
+     * @param <TypeL> the twelfth item type
+     * @param <TypeM> the thirteenth item type
+     * @param item1   the first item
+     * @param item2   the second item
+     * @param item3   the third item
+     * @param item4   the fourth item
+     * @param item5   the fifth item
+     * @param item6   the sixth item
+     * @param item7   the seventh item
+     * @param item8   the eighth item
+     * @param item9   the ninth item
+     * @param item10  the tenth item
+     * @param item11  the eleventh item
+     * @param item12  the twelfth item
+     * @param item13  the thirteenth item
+     * @return a {@code Tuple.OfThirteen} containing the specified items
+     */
+    static <TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM>
+    OfThirteen<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM>
+    of(final TypeA item1, final TypeB item2, final TypeC item3, final TypeD item4, final TypeE item5, final TypeF item6,
+       final TypeG item7, final TypeH item8, final TypeI item9, final TypeJ item10, final TypeK item11,
+       final TypeL item12, final TypeM item13) {
+        // Return a new tuple containing the thirteen specified items
+        return new OfThirteen<>(item1, item2, item3, item4, item5, item6, item7, item8, item9, item10, item11, item12,
+                item13);
+    }
 
-            @Override
-            public boolean hasNext() {
-                return this.items.length > pos;
-            }
+    /**
+     * Returns a new {@code Tuple.OfFourteen} containing fourteen items.
+     *
+     * @param <TypeA> the first item type
+     * @param <TypeB> the second item type
+     * @param <TypeC> the third item type
+     * @param <TypeD> the fourth item type
+     * @param <TypeE> the fifth item type
+     * @param <TypeF> the sixth item type
+     * @param <TypeG> the seventh item type
+     * @param <TypeH> the eighth item type
+     * @param <TypeI> the ninth item type
+     * @param <TypeJ> the tenth item type
+     * @param <TypeK> the eleventh item type
+     * @param <TypeL> the twelfth item type
+     * @param <TypeM> the thirteenth item type
+     * @param <TypeN> the fourteenth item type
+     * @param item1   the first item
+     * @param item2   the second item
+     * @param item3   the third item
+     * @param item4   the fourth item
+     * @param item5   the fifth item
+     * @param item6   the sixth item
+     * @param item7   the seventh item
+     * @param item8   the eighth item
+     * @param item9   the ninth item
+     * @param item10  the tenth item
+     * @param item11  the eleventh item
+     * @param item12  the twelfth item
+     * @param item13  the thirteenth item
+     * @param item14  the fourteenth item
+     * @return a {@code Tuple.OfFourteen} containing the specified items
+     */
+    static <TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM, TypeN>
+    OfFourteen<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM, TypeN>
+    of(final TypeA item1, final TypeB item2, final TypeC item3, final TypeD item4, final TypeE item5, final TypeF item6,
+       final TypeG item7, final TypeH item8, final TypeI item9, final TypeJ item10, final TypeK item11,
+       final TypeL item12, final TypeM item13, final TypeN item14) {
+        // Return a new tuple containing the fourteen specified items
+        return new OfFourteen<>(item1, item2, item3, item4, item5, item6, item7, item8, item9, item10, item11, item12,
+                item13, item14);
+    }
 
-            @Override
-            public TupleValue next() {
-                return new TupleValue(this.items[pos], this.items[pos++].getClass());
-            }
-        };
+    /**
+     * Returns a new {@code Tuple.OfFifteen} containing fifteen items.
+     *
+     * @param <TypeA> the first item type
+     * @param <TypeB> the second item type
+     * @param <TypeC> the third item type
+     * @param <TypeD> the fourth item type
+     * @param <TypeE> the fifth item type
+     * @param <TypeF> the sixth item type
+     * @param <TypeG> the seventh item type
+     * @param <TypeH> the eighth item type
+     * @param <TypeI> the ninth item type
+     * @param <TypeJ> the tenth item type
+     * @param <TypeK> the eleventh item type
+     * @param <TypeL> the twelfth item type
+     * @param <TypeM> the thirteenth item type
+     * @param <TypeN> the fourteenth item type
+     * @param <TypeO> the fifteenth item type
+     * @param item1   the first item
+     * @param item2   the second item
+     * @param item3   the third item
+     * @param item4   the fourth item
+     * @param item5   the fifth item
+     * @param item6   the sixth item
+     * @param item7   the seventh item
+     * @param item8   the eighth item
+     * @param item9   the ninth item
+     * @param item10  the tenth item
+     * @param item11  the eleventh item
+     * @param item12  the twelfth item
+     * @param item13  the thirteenth item
+     * @param item14  the fourteenth item
+     * @param item15  the fifteenth item
+     * @return a {@code Tuple.OfFifteen} containing the specified items
+     */
+    static <TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM, TypeN, TypeO>
+    OfFifteen<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM, TypeN, TypeO>
+    of(final TypeA item1, final TypeB item2, final TypeC item3, final TypeD item4, final TypeE item5, final TypeF item6,
+       final TypeG item7, final TypeH item8, final TypeI item9, final TypeJ item10, final TypeK item11,
+       final TypeL item12, final TypeM item13, final TypeN item14, final TypeO item15) {
+        // Return a new tuple containing the fifteen specified items
+        return new OfFifteen<>(item1, item2, item3, item4, item5, item6, item7, item8, item9, item10, item11, item12,
+                item13, item14, item15);
     }
 
     /**
-     * Returns the number of items in this {@code Tuple}.
+     * Returns a new {@code Tuple.OfSixteen} containing sixteen items.
+     *
+     * @param <TypeA> the first item type
+     * @param <TypeB> the second item type
+     * @param <TypeC> the third item type
+     * @param <TypeD> the fourth item type
+     * @param <TypeE> the fifth item type
+     * @param <TypeF> the sixth item type
+     * @param <TypeG> the seventh item type
+     * @param <TypeH> the eighth item type
+     * @param <TypeI> the ninth item type
+     * @param <TypeJ> the tenth item type
+     * @param <TypeK> the eleventh item type
+     * @param <TypeL> the twelfth item type
+     * @param <TypeM> the thirteenth item type
+     * @param <TypeN> the fourteenth item type
+     * @param <TypeO> the fifteenth item type
+     * @param <TypeP> the sixteenth item type
+     * @param item1   the first item
+     * @param item2   the second item
+     * @param item3   the third item
+     * @param item4   the fourth item
+     * @param item5   the fifth item
+     * @param item6   the sixth item
+     * @param item7   the seventh item
+     * @param item8   the eighth item
+     * @param item9   the ninth item
+     * @param item10  the tenth item
+     * @param item11  the eleventh item
+     * @param item12  the twelfth item
+     * @param item13  the thirteenth item
+     * @param item14  the fourteenth item
+     * @param item15  the fifteenth item
+     * @param item16  the sixteenth item
+     * @return a {@code Tuple.OfSixteen} containing the specified items
+     */
+    static <TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM, TypeN, TypeO,
+            TypeP>
+    OfSixteen<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM, TypeN, TypeO,
+            TypeP>
+    of(final TypeA item1, final TypeB item2, final TypeC item3, final TypeD item4, final TypeE item5, final TypeF item6,
+       final TypeG item7, final TypeH item8, final TypeI item9, final TypeJ item10, final TypeK item11,
+       final TypeL item12, final TypeM item13, final TypeN item14, final TypeO item15, final TypeP item16) {
+        // Return a new tuple containing the sixteen specified items
+        return new OfSixteen<>(item1, item2, item3, item4, item5, item6, item7, item8, item9, item10, item11, item12,
+                item13, item14, item15, item16);
+    }
+
+    // endregion
+
+    /**
+     * Returns a new {@code Tuple.OfNested} containing seven items and a nested tuple.
      * <p>
-     * The size returned by this method is backed by {@code items()} method. Nested tuples (in which the eighth item
-     * of a Tuple is another tuple object) are properly handled, meaning that the size returned by this method will
-     * represent the size of this tuple plus the nested tuple's size if one is present.
+     * Please note that the eighth item must be another {@code Tuple}. This overload is preferred over the one which
+     * produces a flat {@code Tuple.OfEight} whenever the eighth item is statically known to be a {@code Tuple}.
      *
-     * @return the number of items in this {@code Tuple}
+     * @param <TypeA> the first item type
+     * @param <TypeB> the second item type
+     * @param <TypeC> the third item type
+     * @param <TypeD> the fourth item type
+     * @param <TypeE> the fifth item type
+     * @param <TypeF> the sixth item type
+     * @param <TypeG> the seventh item type
+     * @param <TypeH> the eighth item type which extends {@code Tuple}
+     * @param item1   the first item
+     * @param item2   the second item
+     * @param item3   the third item
+     * @param item4   the fourth item
+     * @param item5   the fifth item
+     * @param item6   the sixth item
+     * @param item7   the seventh item
+     * @param rest    the eighth item of type {@code Tuple}
+     * @return a {@code Tuple.OfNested} containing the specified items
      */
-    default int size() {
-        // The array returned by the overridden items() method includes all items, included nested ones.
-        return this.items().length;
+    static <TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH extends Tuple>
+    OfNested<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH>
+    of(final TypeA item1, final TypeB item2, final TypeC item3, final TypeD item4, final TypeE item5, final TypeF item6,
+       final TypeG item7, final TypeH rest) {
+        // Return a new tuple containing the eight specified items, as well as another tuple
+        return new OfNested<>(item1, item2, item3, item4, item5, item6, item7, rest);
     }
 
+    // region generated: array factory
+
     /**
-     * Attempts to represent this tuple as an {@code Tuple.Single} of the specified type. If this tuple is not an
-     * {@code Tuple.Single} instance, or does not conform to the specified type, {@code Optional.empty()} is returned.
+     * Returns a new tuple containing the items of the specified array, in order. The returned tuple is a flat tuple
+     * whenever the array contains no more than sixteen items, and a nested tuple otherwise.
      * <p>
-     * Default implementation returns {@code Optional.empty()}.
+     * Since the type of each item is not statically known, the returned tuple is typed only as a {@code Tuple}, and
+     * primitive-specialized tuples are never returned.
      *
-     * @param typeA      the desired type's class
-     * @param <DesiredA> the desired type
-     * @return An {@code Optional} containing an {@code Tuple.Single} representation of this tuple. If this tuple cannot
-     * be represented as an {@code Tuple.Single}, {@code Optional.empty()} is returned instead.
+     * @param items the items of the tuple
+     * @return a tuple containing the specified items
+     * @throws IllegalArgumentException if the specified array is empty
      */
-    default <DesiredA> Optional<Single<DesiredA>> asSingle(final Class<DesiredA> typeA) {
-        // Default implementation returns Optional.empty()
-        return Optional.empty();
+    static Tuple fromArray(final Object... items) {
+        if (items.length == 0)
+            throw new IllegalArgumentException("A tuple must contain at least one item");
+        // Larger tuples nest the remaining items within their eighth item, and are built from the innermost tuple
+        // outwards, so that building a long tuple does not recurse once for every seven items
+        int from = items.length <= 16 ? 0 : (items.length - 16 + 6) / 7 * 7;
+        Tuple tuple = flat(items, from);
+        while (from > 0) {
+            from -= 7;
+            tuple = new OfNested<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6], tuple);
+        }
+        return tuple;
+    }
+
+    private static Tuple flat(final Object[] items, final int from) {
+        return switch (items.length - from) {
+            case 1 -> new Single<>(items[from]);
+            case 2 -> new OfTwo<>(items[from], items[from + 1]);
+            case 3 -> new OfThree<>(items[from], items[from + 1], items[from + 2]);
+            case 4 -> new OfFour<>(items[from], items[from + 1], items[from + 2], items[from + 3]);
+            case 5 -> new OfFive<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4]);
+            case 6 -> new OfSix<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5]);
+            case 7 -> new OfSeven<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6]);
+            case 8 -> new OfEight<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6], items[from + 7]);
+            case 9 -> new OfNine<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6], items[from + 7], items[from + 8]);
+            case 10 -> new OfTen<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6], items[from + 7], items[from + 8], items[from + 9]);
+            case 11 -> new OfEleven<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6], items[from + 7], items[from + 8], items[from + 9],
+                    items[from + 10]);
+            case 12 -> new OfTwelve<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6], items[from + 7], items[from + 8], items[from + 9],
+                    items[from + 10], items[from + 11]);
+            case 13 -> new OfThirteen<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6], items[from + 7], items[from + 8], items[from + 9],
+                    items[from + 10], items[from + 11], items[from + 12]);
+            case 14 -> new OfFourteen<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6], items[from + 7], items[from + 8], items[from + 9],
+                    items[from + 10], items[from + 11], items[from + 12], items[from + 13]);
+            case 15 -> new OfFifteen<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6], items[from + 7], items[from + 8], items[from + 9],
+                    items[from + 10], items[from + 11], items[from + 12], items[from + 13], items[from + 14]);
+            case 16 -> new OfSixteen<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6], items[from + 7], items[from + 8], items[from + 9],
+                    items[from + 10], items[from + 11], items[from + 12], items[from + 13], items[from + 14],
+                    items[from + 15]);
+            default -> throw new IllegalArgumentException("Too many items for a flat tuple: "
+                    + (items.length - from));
+        };
     }
 
+    // endregion
+
+    // region generated: specialized factories
+
     /**
-     * Attempts to represent this tuple as an {@code Tuple.OfTwo} of the specified types. If this tuple is not an
-     * {@code Tuple.OfTwo} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
+     * Returns a new {@code Tuple.IntPair} containing two {@code int} items.
      * <p>
-     * Default implementation returns {@code Optional.empty()}.
+     * Unlike {@code Tuple.of(...)}, which always boxes its items, this factory stores the specified items unboxed. It
+     * is named rather than overloaded so that primitive arguments passed to {@code Tuple.of(...)} are never widened to
+     * match it.
      *
-     * @param typeA      the first desired type's class
-     * @param typeB      the second desired type's class
-     * @param <DesiredA> the first desired type
-     * @param <DesiredB> the second desired type
-     * @return An {@code Optional} containing an {@code Tuple.OfTwo} representation of this tuple. If this tuple cannot
-     * be represented as an {@code Tuple.OfTwo}, {@code Optional.empty()} is returned instead.
+     * @param item1 the first item
+     * @param item2 the second item
+     * @return a {@code Tuple.IntPair} containing the specified items
      */
-    default <DesiredA, DesiredB>
-    Optional<OfTwo<DesiredA, DesiredB>>
-    asTwo(final Class<DesiredA> typeA, final Class<DesiredB> typeB) {
-        // Default implementation returns Optional.empty()
-        return Optional.empty();
+    static IntPair ofInts(final int item1, final int item2) {
+        // Return a new primitive-specialized tuple containing the specified items
+        return new IntPair(item1, item2);
     }
 
     /**
-     * Attempts to represent this tuple as an {@code Tuple.OfTwo} of the specified types. If this tuple is not an
-     * {@code Tuple.OfTwo} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
+     * Returns a new {@code Tuple.LongPair} containing two {@code long} items.
      * <p>
-     * This is a specialized version of the {@code asTwo(typeA, typeB)} method which assumes that all items contained
-     * within the tuple can be represented as the specified type.
+     * Unlike {@code Tuple.of(...)}, which always boxes its items, this factory stores the specified items unboxed. It
+     * is named rather than overloaded so that primitive arguments passed to {@code Tuple.of(...)} are never widened to
+     * match it.
+     *
+     * @param item1 the first item
+     * @param item2 the second item
+     * @return a {@code Tuple.LongPair} containing the specified items
+     */
+    static LongPair ofLongs(final long item1, final long item2) {
+        // Return a new primitive-specialized tuple containing the specified items
+        return new LongPair(item1, item2);
+    }
+
+    /**
+     * Returns a new {@code Tuple.DoublePair} containing two {@code double} items.
      * <p>
-     * Default implementation returns {@code Optional.empty()}.
+     * Unlike {@code Tuple.of(...)}, which always boxes its items, this factory stores the specified items unboxed. It
+     * is named rather than overloaded so that primitive arguments passed to {@code Tuple.of(...)} are never widened to
+     * match it.
      *
-     * @param onlyType   the singular desired type's class
-     * @param <OnlyType> the singular desired type
-     * @return An {@code Optional} containing an {@code Tuple.OfTwo} representation of this tuple. If this tuple cannot
-     * be represented as an {@code Tuple.OfTwo}, {@code Optional.empty()} is returned instead.
+     * @param item1 the first item
+     * @param item2 the second item
+     * @return a {@code Tuple.DoublePair} containing the specified items
      */
-    default <OnlyType>
-    Optional<OfTwo<OnlyType, OnlyType>>
-    asTwo(final Class<OnlyType> onlyType) {
-        // Delegate to explicit type implementation
-        return this.asTwo(onlyType, onlyType);
+    static DoublePair ofDoubles(final double item1, final double item2) {
+        // Return a new primitive-specialized tuple containing the specified items
+        return new DoublePair(item1, item2);
     }
 
     /**
-     * Attempts to represent this tuple as an {@code Tuple.OfThree} of the specified types. If this tuple is not an
-     * {@code Tuple.OfThree} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
+     * Returns a new {@code Tuple.IntLongPair} containing an {@code int} item followed by a {@code long} item.
      * <p>
-     * Default implementation returns {@code Optional.empty()}.
+     * Unlike {@code Tuple.of(...)}, which always boxes its items, this factory stores the specified items unboxed. It
+     * is named rather than overloaded so that primitive arguments passed to {@code Tuple.of(...)} are never widened to
+     * match it.
+     *
+     * @param item1 the first item
+     * @param item2 the second item
+     * @return a {@code Tuple.IntLongPair} containing the specified items
+     */
+    static IntLongPair ofIntLong(final int item1, final long item2) {
+        // Return a new primitive-specialized tuple containing the specified items
+        return new IntLongPair(item1, item2);
+    }
+
+    /**
+     * Returns a new {@code Tuple.DoubleTriple} containing three {@code double} items.
+     * <p>
+     * Unlike {@code Tuple.of(...)}, which always boxes its items, this factory stores the specified items unboxed. It
+     * is named rather than overloaded so that primitive arguments passed to {@code Tuple.of(...)} are never widened to
+     * match it.
+     *
+     * @param item1 the first item
+     * @param item2 the second item
+     * @param item3 the third item
+     * @return a {@code Tuple.DoubleTriple} containing the specified items
+     */
+    static DoubleTriple ofDoubles(final double item1, final double item2, final double item3) {
+        // Return a new primitive-specialized tuple containing the specified items
+        return new DoubleTriple(item1, item2, item3);
+    }
+
+    // endregion
+
+    /**
+     * Returns the item at the specified position in this {@code Tuple}.
+     * <p>
+     * Nested tuples (in which the eighth item of a Tuple is another tuple object) are properly handled, meaning that
+     * indices beyond the seventh item are resolved against the nested tuple. Unlike {@code items()}, this method
+     * never allocates and should be preferred when accessing individual items by position.
+     *
+     * @param index the index of the item to return
+     * @return the item at the specified position in this {@code Tuple}
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index >= arity()})
+     */
+    Object get(int index);
+
+    /**
+     * Returns the {@code int} item at the specified position in this {@code Tuple}.
+     * <p>
+     * Primitive-specialized tuples override this method to return their {@code int} items without boxing. The
+     * default implementation unboxes the item returned by {@code get(int)}.
+     *
+     * @param index the index of the item to return
+     * @return the {@code int} item at the specified position in this {@code Tuple}
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index >= arity()})
+     * @throws ClassCastException        if the item at the specified position is not a {@code Integer}
+     * @throws NullPointerException      if the item at the specified position is null
+     */
+    default int getInt(final int index) {
+        return (Integer) this.get(index);
+    }
+
+    /**
+     * Returns the {@code long} item at the specified position in this {@code Tuple}.
+     * <p>
+     * Primitive-specialized tuples override this method to return their {@code long} items without boxing. The
+     * default implementation unboxes the item returned by {@code get(int)}.
+     *
+     * @param index the index of the item to return
+     * @return the {@code long} item at the specified position in this {@code Tuple}
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index >= arity()})
+     * @throws ClassCastException        if the item at the specified position is not a {@code Long}
+     * @throws NullPointerException      if the item at the specified position is null
+     */
+    default long getLong(final int index) {
+        return (Long) this.get(index);
+    }
+
+    /**
+     * Returns the {@code double} item at the specified position in this {@code Tuple}.
+     * <p>
+     * Primitive-specialized tuples override this method to return their {@code double} items without boxing. The
+     * default implementation unboxes the item returned by {@code get(int)}.
+     *
+     * @param index the index of the item to return
+     * @return the {@code double} item at the specified position in this {@code Tuple}
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index >= arity()})
+     * @throws ClassCastException        if the item at the specified position is not a {@code Double}
+     * @throws NullPointerException      if the item at the specified position is null
+     */
+    default double getDouble(final int index) {
+        return (Double) this.get(index);
+    }
+
+    /**
+     * Returns the number of items in this {@code Tuple}.
+     * <p>
+     * The arity is derived from the structure of each tuple rather than from its items, and is answered without
+     * allocating. Nested tuples are properly handled, meaning that the arity of a {@code Tuple.OfNested} includes the
+     * arity of its nested tuple. The arity of every flat record is a constant, while that of a {@code Tuple.OfNested}
+     * is computed from each level of nesting, of which there is one for every seven items beyond the sixteenth.
+     *
+     * @return the number of items in this {@code Tuple}
+     */
+    int arity();
+
+    /**
+     * Returns an array containing all the items in this {@code Tuple}.
+     * <p>
+     * Nested tuples (in which the eighth item of a Tuple is another tuple object) are properly handled, meaning that
+     * the array returned by this method will contain unpacked nested items if any are present.
+     * <p>
+     * A new array is allocated on every call; use {@code get(int)} to access individual items instead.
+     *
+     * @return An array of this {@code Tuple}'s items
+     */
+    default Object[] items() {
+        // A single pre-sized array is filled in one pass, regardless of how deeply tuples are nested
+        final Object[] items = new Object[this.arity()];
+        this.copyInto(items, 0);
+        return items;
+    }
+
+    /**
+     * Copies all the items in this {@code Tuple} into the specified array, starting at the specified offset.
+     * <p>
+     * Nested tuples are properly handled, meaning that the items of a nested tuple are copied directly after the
+     * seventh item of an {@code Tuple.OfNested}. Every item is written exactly once, so copying is linear in the
+     * arity of this tuple.
+     *
+     * @param dest   the destination array
+     * @param offset the index in the destination array at which the first item is written
+     * @throws IndexOutOfBoundsException if the destination array cannot hold {@code arity()} items starting at
+     *                                   {@code offset}
+     */
+    void copyInto(Object[] dest, int offset);
+
+    /**
+     * Returns an unmodifiable list containing the runtime types of each item in this {@code Tuple}.
+     * The types returned by this method are backed by the {@code shape()} method, meaning that tuples sharing the
+     * same runtime shape share the same list. Null items are represented by a {@code null} type.
+     *
+     * @return An unmodifiable list of this {@code Tuple}'s types
+     */
+    default List<Class<?>> types() {
+        return this.shape().types();
+    }
+
+    /**
+     * Returns the canonical shape describing the runtime types of each item in this {@code Tuple}.
+     *
+     * @return the runtime shape of this {@code Tuple}
+     * @see TupleShape#of(Tuple)
+     */
+    default TupleShape shape() {
+        return TupleShape.of(this);
+    }
+
+    /**
+     * Returns the canonical shape describing the declared (erased) types of each item in this {@code Tuple}.
+     *
+     * @return the declared shape of this {@code Tuple}
+     * @see TupleShape#declared(Tuple)
+     */
+    default TupleShape declaredShape() {
+        return TupleShape.declared(this);
+    }
+
+    /**
+     * Returns a new {@code TupleKey} wrapping this tuple, whose hash code is computed once and cached. Keys should be
+     * preferred over tuples when used heavily within hash based collections.
+     *
+     * @return a new key wrapping this tuple
+     * @see TupleKey#of(Tuple)
+     */
+    default TupleKey key() {
+        return TupleKey.of(this);
+    }
+
+    /**
+     * Returns {@code true} if this tuple nests another tuple. This will be true if, and only if, this tuple is an
+     * {@code Tuple.OfNested} instance.
+     *
+     * @return {@code true} if this tuple nests another tuple
+     */
+    default boolean isNested() {
+        return this.getClass() == OfNested.class;
+    }
+
+    /**
+     * Returns an iterator which returns all the items in this tuple in proper sequence.
+     * <p>
+     * The returned iterator walks the components of this tuple directly, stepping into nested tuples as it reaches
+     * them, meaning that no intermediate array is created and nested tuples can be properly iterated over. Please
+     * note that a {@code Tuple.TupleValue} is still created for every item; use {@code forEachValue(Consumer)} when
+     * only the items themselves are of interest.
+     *
+     * @return an iterator over the items in this tuple in proper sequence
+     */
+    default Iterator<TupleValue> iterator() {
+        return new Iterator<>() {
+            private Tuple tuple = Tuple.this;
+
+            private int pos = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.tuple.arity() > pos;
+            }
+
+            @Override
+            public TupleValue next() {
+                if (!this.hasNext())
+                    throw new NoSuchElementException();
+                final Object item = this.tuple.get(pos++);
+                // Step into the nested tuple once its parent's own items have been exhausted
+                if (pos == 7 && this.tuple instanceof OfNested<?, ?, ?, ?, ?, ?, ?, ?> nested) {
+                    this.tuple = nested.rest();
+                    this.pos = 0;
+                }
+                return new TupleValue(item, TupleShape.typeOf(item));
+            }
+        };
+    }
+
+    /**
+     * Performs the specified action for each item in this tuple in proper sequence.
+     * <p>
+     * Unlike {@code iterator()}, this method does not wrap items in {@code Tuple.TupleValue} objects, and performs
+     * no allocations of its own. Nested tuples are properly handled, meaning that the action is also performed for
+     * every item of a nested tuple.
+     *
+     * @param action the action to be performed for each item
+     */
+    default void forEachValue(final Consumer<Object> action) {
+        Tuple tuple = this;
+        // Walk each level of nesting once, rather than resolving every index from the outermost tuple
+        while (tuple instanceof OfNested<?, ?, ?, ?, ?, ?, ?, ?> nested) {
+            for (int i = 0; i < 7; i++)
+                action.accept(nested.get(i));
+            tuple = nested.rest();
+        }
+        for (int i = 0, size = tuple.arity(); i < size; i++)
+            action.accept(tuple.get(i));
+    }
+
+    /**
+     * Returns a spliterator over all the items in this tuple in proper sequence.
+     * <p>
+     * The returned spliterator is {@code SIZED}, {@code SUBSIZED}, {@code ORDERED}, {@code IMMUTABLE} and
+     * {@code NONNULL}. Like {@code iterator()}, it walks the components of this tuple directly, and it splits nested
+     * tuples at their nesting boundaries, meaning that wide tuples can be processed in parallel without any items
+     * being buffered.
+     *
+     * @return a spliterator over the items in this tuple in proper sequence
+     */
+    @Override
+    default Spliterator<TupleValue> spliterator() {
+        return new TupleSpliterator(this);
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of all the items in this tuple in proper sequence. The returned stream may be
+     * made parallel by calling {@code parallel()}.
+     *
+     * @return a stream of the items in this tuple
+     */
+    default Stream<TupleValue> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Appends the {@code String} representation of this tuple, as returned by {@code toString()}, to the specified
+     * builder.
+     * <p>
+     * Items are appended directly from the components of this tuple, meaning that neither an iterator nor any
+     * {@code Tuple.TupleValue} objects are created and primitive items are never boxed. Integers, longs, doubles and
+     * items which are themselves tuples are appended without creating intermediate strings. Nested tuples are properly
+     * handled, meaning that the items of a nested tuple are appended as though they belonged to this tuple.
+     *
+     * @param sb the builder to append to
+     * @return the specified builder
+     */
+    default StringBuilder appendTo(final StringBuilder sb) {
+        sb.append('(');
+        // Primitive-specialized tuples append their components as they are, rather than boxing them through get(int)
+        if (this instanceof IntPair pair)
+            return sb.append(pair.item1()).append(", ").append(pair.item2()).append(')');
+        if (this instanceof LongPair pair)
+            return sb.append(pair.item1()).append(", ").append(pair.item2()).append(')');
+        if (this instanceof DoublePair pair)
+            return sb.append(pair.item1()).append(", ").append(pair.item2()).append(')');
+        if (this instanceof IntLongPair pair)
+            return sb.append(pair.item1()).append(", ").append(pair.item2()).append(')');
+        if (this instanceof DoubleTriple triple)
+            return sb.append(triple.item1()).append(", ").append(triple.item2()).append(", ").append(triple.item3())
+                    .append(')');
+
+        Tuple tuple = this;
+        // Walk each level of nesting once, rather than resolving every index from the outermost tuple
+        while (tuple instanceof OfNested<?, ?, ?, ?, ?, ?, ?, ?> nested) {
+            for (int i = 0; i < 7; i++)
+                appendItem(sb, nested.get(i), tuple == this && i == 0);
+            tuple = nested.rest();
+        }
+        for (int i = 0, size = tuple.arity(); i < size; i++)
+            appendItem(sb, tuple.get(i), tuple == this && i == 0);
+        return sb.append(')');
+    }
+
+    /**
+     * Appends the {@code String} representation of this tuple, as returned by {@code toString()}, to the specified
+     * {@code Appendable}.
+     * <p>
+     * Builders are appended to directly, as by {@code appendTo(StringBuilder)}. Other appendables, such as writers,
+     * are written each item in turn as it is reached, so the representation of the whole tuple is never built. Strings
+     * and nested tuples are written as they are, and integers and longs are written digit by digit, so none of these
+     * create any intermediate strings. Any other item is converted to a string of its own.
+     *
+     * @param appendable the appendable to append to
+     * @param <A>        the type of the appendable
+     * @return the specified appendable
+     * @throws IOException if the appendable throws an {@code IOException}
+     */
+    default <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        if (appendable instanceof StringBuilder sb) {
+            this.appendTo(sb);
+            return appendable;
+        }
+        appendable.append('(');
+        if (this instanceof IntPair pair) {
+            appendDigits(appendable, pair.item1());
+            appendDigits(appendable.append(", "), pair.item2());
+        } else if (this instanceof LongPair pair) {
+            appendDigits(appendable, pair.item1());
+            appendDigits(appendable.append(", "), pair.item2());
+        } else if (this instanceof DoublePair pair) {
+            appendable.append(Double.toString(pair.item1())).append(", ").append(Double.toString(pair.item2()));
+        } else if (this instanceof IntLongPair pair) {
+            appendDigits(appendable, pair.item1());
+            appendDigits(appendable.append(", "), pair.item2());
+        } else if (this instanceof DoubleTriple triple) {
+            appendable.append(Double.toString(triple.item1())).append(", ").append(Double.toString(triple.item2()))
+                    .append(", ").append(Double.toString(triple.item3()));
+        } else {
+            Tuple tuple = this;
+            while (tuple instanceof OfNested<?, ?, ?, ?, ?, ?, ?, ?> nested) {
+                for (int i = 0; i < 7; i++)
+                    appendItem(appendable, nested.get(i), tuple == this && i == 0);
+                tuple = nested.rest();
+            }
+            for (int i = 0, size = tuple.arity(); i < size; i++)
+                appendItem(appendable, tuple.get(i), tuple == this && i == 0);
+        }
+        appendable.append(')');
+        return appendable;
+    }
+
+    private static void appendItem(final StringBuilder sb, final Object item, final boolean first) {
+        if (!first)
+            sb.append(", ");
+        // Common boxed numbers are appended as primitives, which avoids creating a string for each of them
+        if (item instanceof Integer value)
+            sb.append(value.intValue());
+        else if (item instanceof Long value)
+            sb.append(value.longValue());
+        else if (item instanceof Double value)
+            sb.append(value.doubleValue());
+        else if (item instanceof Tuple tuple)
+            tuple.appendTo(sb);
+        else
+            sb.append(item);
+    }
+
+    private static void appendItem(final Appendable appendable, final Object item, final boolean first)
+            throws IOException {
+        if (!first)
+            appendable.append(", ");
+        if (item instanceof Integer value)
+            appendDigits(appendable, value);
+        else if (item instanceof Long value)
+            appendDigits(appendable, value);
+        else if (item instanceof Tuple tuple)
+            tuple.appendTo(appendable);
+        else
+            appendable.append(String.valueOf(item));
+    }
+
+    /**
+     * Writes the decimal digits of the specified value, as {@code Long.toString(long)} would, without creating a
+     * string.
+     */
+    private static void appendDigits(final Appendable appendable, final long value) throws IOException {
+        // The digits are found from the negated magnitude, which unlike the magnitude itself exists for every long
+        final long negated = value < 0 ? value : -value;
+        if (value < 0)
+            appendable.append('-');
+        long divisor = 1;
+        while (negated / divisor <= -10)
+            divisor *= 10;
+        for (; divisor > 0; divisor /= 10)
+            appendable.append((char) ('0' - negated / divisor % 10));
+    }
+
+    /**
+     * Returns the number of items in this {@code Tuple}.
+     * <p>
+     * The size returned by this method is backed by the {@code arity()} method. Nested tuples (in which the eighth
+     * item of a Tuple is another tuple object) are properly handled, meaning that the size returned by this method
+     * will represent the size of this tuple plus the nested tuple's size if one is present.
+     *
+     * @return the number of items in this {@code Tuple}
+     */
+    default int size() {
+        return this.arity();
+    }
+
+    // region generated: casts
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.Single} of the specified type. If this tuple is not an
+     * {@code Tuple.Single} instance, or does not conform to the specified type, {@code Optional.empty()} is returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param typeA      the desired type's class
+     * @param <DesiredA> the desired type
+     * @return An {@code Optional} containing an {@code Tuple.Single} representation of this tuple. If this tuple cannot
+     * be represented as an {@code Tuple.Single}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA> Optional<Single<DesiredA>> asSingle(final Class<DesiredA> typeA) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfTwo} of the specified types. If this tuple is not an
+     * {@code Tuple.OfTwo} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param typeA      the first desired type's class
+     * @param typeB      the second desired type's class
+     * @param <DesiredA> the first desired type
+     * @param <DesiredB> the second desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfTwo} representation of this tuple. If this tuple cannot
+     * be represented as an {@code Tuple.OfTwo}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA, DesiredB>
+    Optional<OfTwo<DesiredA, DesiredB>>
+    asTwo(final Class<DesiredA> typeA, final Class<DesiredB> typeB) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfTwo} of the specified types. If this tuple is not an
+     * {@code Tuple.OfTwo} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
+     * <p>
+     * This is a specialized version of the {@code asTwo(typeA, typeB)} method which assumes that all items contained
+     * within the tuple can be represented as the specified type.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param onlyType   the singular desired type's class
+     * @param <OnlyType> the singular desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfTwo} representation of this tuple. If this tuple cannot
+     * be represented as an {@code Tuple.OfTwo}, {@code Optional.empty()} is returned instead.
+     */
+    default <OnlyType>
+    Optional<OfTwo<OnlyType, OnlyType>>
+    asTwo(final Class<OnlyType> onlyType) {
+        // Delegate to explicit type implementation
+        return this.asTwo(onlyType, onlyType);
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfThree} of the specified types. If this tuple is not an
+     * {@code Tuple.OfThree} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
      *
      * @param typeA      the first desired type's class
      * @param typeB      the second desired type's class
@@ -599,9 +1448,8 @@ public sealed interface Tuple extends Iterable<TupleValue>
     }
 
     /**
-     * Attempts to represent this tuple as an {@code Tuple.OfNested} of the specified types. If this tuple is not an
-     * {@code Tuple.OfNested} instance, or does not conform to the specified types, {@code Optional.empty()} is
-     * returned.
+     * Attempts to represent this tuple as an {@code Tuple.OfEight} of the specified types. If this tuple is not an
+     * {@code Tuple.OfEight} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
      * <p>
      * Default implementation returns {@code Optional.empty()}.
      *
@@ -612,6 +1460,7 @@ public sealed interface Tuple extends Iterable<TupleValue>
      * @param typeE      the fifth desired type's class
      * @param typeF      the sixth desired type's class
      * @param typeG      the seventh desired type's class
+     * @param typeH      the eighth desired type's class
      * @param <DesiredA> the first desired type
      * @param <DesiredB> the second desired type
      * @param <DesiredC> the third desired type
@@ -619,69 +1468,2215 @@ public sealed interface Tuple extends Iterable<TupleValue>
      * @param <DesiredE> the fifth desired type
      * @param <DesiredF> the sixth desired type
      * @param <DesiredG> the seventh desired type
-     * @return An {@code Optional} containing an {@code Tuple.OfNested} representation of this tuple. If this tuple
-     * cannot be represented as an {@code Tuple.OfNested}, {@code Optional.empty()} is returned instead.
+     * @param <DesiredH> the eighth desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfEight} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfEight}, {@code Optional.empty()} is returned instead.
      */
-    default <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG>
-    Optional<OfNested<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, Tuple>>
-    asNested(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
-             final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
-             final Class<DesiredG> typeG) {
+    default <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH>
+    Optional<OfEight<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH>>
+    asEight(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+            final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+            final Class<DesiredG> typeG, final Class<DesiredH> typeH) {
         // Default implementation returns Optional.empty()
         return Optional.empty();
     }
 
     /**
-     * Attempts to represent this tuple as an {@code Tuple.OfNested} of the specified types. If this tuple is not an
-     * {@code Tuple.OfNested} instance, or does not conform to the specified types, {@code Optional.empty()} is
-     * returned.
+     * Attempts to represent this tuple as an {@code Tuple.OfEight} of the specified types. If this tuple is not an
+     * {@code Tuple.OfEight} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
      * <p>
-     * This is a specialized version of the {@code asNested(typeA, typeB, typeC, typeD, typeE, typeF, typeG)} method
-     * which assumes that all items contained within the tuple can be represented as the specified type.
+     * This is a specialized version of the {@code asEight(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH)}
+     * method which assumes that all items contained within the tuple can be represented as the specified type.
      * <p>
      * Default implementation returns {@code Optional.empty()}.
      *
      * @param onlyType   the singular desired type's class
      * @param <OnlyType> the singular desired type
-     * @return An {@code Optional} containing an {@code Tuple.OfNested} representation of this tuple. If this tuple
-     * cannot be represented as an {@code Tuple.OfNested}, {@code Optional.empty()} is returned instead.
+     * @return An {@code Optional} containing an {@code Tuple.OfEight} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfEight}, {@code Optional.empty()} is returned instead.
      */
     default <OnlyType>
-    Optional<OfNested<OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, Tuple>>
-    asNested(final Class<OnlyType> onlyType) {
+    Optional<OfEight<OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType>>
+    asEight(final Class<OnlyType> onlyType) {
         // Delegate to explicit type implementation
-        return this.asNested(onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType);
+        return this.asEight(onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType);
     }
 
     /**
-     * Represents a tuple object which contains a single item.
+     * Attempts to represent this tuple as an {@code Tuple.OfNine} of the specified types. If this tuple is not an
+     * {@code Tuple.OfNine} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
      *
-     * @param <OnlyType> The type of the sole item contained within the tuple
-     */
-    record Single<OnlyType>(OnlyType item1) implements Tuple {
-        /**
-         * Attempts to represent this tuple as an {@code Tuple.Single} of the specified type. Although polymorphism
-         * ensures that this tuple will always be an {@code Tuple.Single} instance, the actual type of the sole item
-         * could potentially differ. If the sole item contained within this tuple does not conform to the specified
-         * type, {@code Optional.empty()} is returned.
+     * @param typeA      the first desired type's class
+     * @param typeB      the second desired type's class
+     * @param typeC      the third desired type's class
+     * @param typeD      the fourth desired type's class
+     * @param typeE      the fifth desired type's class
+     * @param typeF      the sixth desired type's class
+     * @param typeG      the seventh desired type's class
+     * @param typeH      the eighth desired type's class
+     * @param typeI      the ninth desired type's class
+     * @param <DesiredA> the first desired type
+     * @param <DesiredB> the second desired type
+     * @param <DesiredC> the third desired type
+     * @param <DesiredD> the fourth desired type
+     * @param <DesiredE> the fifth desired type
+     * @param <DesiredF> the sixth desired type
+     * @param <DesiredG> the seventh desired type
+     * @param <DesiredH> the eighth desired type
+     * @param <DesiredI> the ninth desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfNine} representation of this tuple. If this tuple cannot
+     * be represented as an {@code Tuple.OfNine}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI>
+    Optional<OfNine<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI>>
+    asNine(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+           final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+           final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfNine} of the specified types. If this tuple is not an
+     * {@code Tuple.OfNine} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
+     * <p>
+     * This is a specialized version of the
+     * {@code asNine(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI)} method which assumes that all items
+     * contained within the tuple can be represented as the specified type.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param onlyType   the singular desired type's class
+     * @param <OnlyType> the singular desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfNine} representation of this tuple. If this tuple cannot
+     * be represented as an {@code Tuple.OfNine}, {@code Optional.empty()} is returned instead.
+     */
+    default <OnlyType>
+    Optional<OfNine<OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType>>
+    asNine(final Class<OnlyType> onlyType) {
+        // Delegate to explicit type implementation
+        return this.asNine(onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType);
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfTen} of the specified types. If this tuple is not an
+     * {@code Tuple.OfTen} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param typeA      the first desired type's class
+     * @param typeB      the second desired type's class
+     * @param typeC      the third desired type's class
+     * @param typeD      the fourth desired type's class
+     * @param typeE      the fifth desired type's class
+     * @param typeF      the sixth desired type's class
+     * @param typeG      the seventh desired type's class
+     * @param typeH      the eighth desired type's class
+     * @param typeI      the ninth desired type's class
+     * @param typeJ      the tenth desired type's class
+     * @param <DesiredA> the first desired type
+     * @param <DesiredB> the second desired type
+     * @param <DesiredC> the third desired type
+     * @param <DesiredD> the fourth desired type
+     * @param <DesiredE> the fifth desired type
+     * @param <DesiredF> the sixth desired type
+     * @param <DesiredG> the seventh desired type
+     * @param <DesiredH> the eighth desired type
+     * @param <DesiredI> the ninth desired type
+     * @param <DesiredJ> the tenth desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfTen} representation of this tuple. If this tuple cannot
+     * be represented as an {@code Tuple.OfTen}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ>
+    Optional<OfTen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ>>
+    asTen(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+          final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+          final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+          final Class<DesiredJ> typeJ) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfTen} of the specified types. If this tuple is not an
+     * {@code Tuple.OfTen} instance, or does not conform to the specified types, {@code Optional.empty()} is returned.
+     * <p>
+     * This is a specialized version of the {@code asTen(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI,
+     * typeJ)} method which assumes that all items contained within the tuple can be represented as the specified type.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param onlyType   the singular desired type's class
+     * @param <OnlyType> the singular desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfTen} representation of this tuple. If this tuple cannot
+     * be represented as an {@code Tuple.OfTen}, {@code Optional.empty()} is returned instead.
+     */
+    default <OnlyType>
+    Optional<OfTen<OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType>>
+    asTen(final Class<OnlyType> onlyType) {
+        // Delegate to explicit type implementation
+        return this.asTen(onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType,
+                onlyType);
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfEleven} of the specified types. If this tuple is not an
+     * {@code Tuple.OfEleven} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param typeA      the first desired type's class
+     * @param typeB      the second desired type's class
+     * @param typeC      the third desired type's class
+     * @param typeD      the fourth desired type's class
+     * @param typeE      the fifth desired type's class
+     * @param typeF      the sixth desired type's class
+     * @param typeG      the seventh desired type's class
+     * @param typeH      the eighth desired type's class
+     * @param typeI      the ninth desired type's class
+     * @param typeJ      the tenth desired type's class
+     * @param typeK      the eleventh desired type's class
+     * @param <DesiredA> the first desired type
+     * @param <DesiredB> the second desired type
+     * @param <DesiredC> the third desired type
+     * @param <DesiredD> the fourth desired type
+     * @param <DesiredE> the fifth desired type
+     * @param <DesiredF> the sixth desired type
+     * @param <DesiredG> the seventh desired type
+     * @param <DesiredH> the eighth desired type
+     * @param <DesiredI> the ninth desired type
+     * @param <DesiredJ> the tenth desired type
+     * @param <DesiredK> the eleventh desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfEleven} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfEleven}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+            DesiredK>
+    Optional<OfEleven<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+            DesiredJ, DesiredK>>
+    asEleven(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+             final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+             final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+             final Class<DesiredJ> typeJ, final Class<DesiredK> typeK) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfEleven} of the specified types. If this tuple is not an
+     * {@code Tuple.OfEleven} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * This is a specialized version of the
+     * {@code asEleven(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK)} method which
+     * assumes that all items contained within the tuple can be represented as the specified type.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param onlyType   the singular desired type's class
+     * @param <OnlyType> the singular desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfEleven} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfEleven}, {@code Optional.empty()} is returned instead.
+     */
+    default <OnlyType>
+    Optional<OfEleven<OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType,
+            OnlyType, OnlyType>>
+    asEleven(final Class<OnlyType> onlyType) {
+        // Delegate to explicit type implementation
+        return this.asEleven(onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType,
+                onlyType, onlyType);
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfTwelve} of the specified types. If this tuple is not an
+     * {@code Tuple.OfTwelve} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param typeA      the first desired type's class
+     * @param typeB      the second desired type's class
+     * @param typeC      the third desired type's class
+     * @param typeD      the fourth desired type's class
+     * @param typeE      the fifth desired type's class
+     * @param typeF      the sixth desired type's class
+     * @param typeG      the seventh desired type's class
+     * @param typeH      the eighth desired type's class
+     * @param typeI      the ninth desired type's class
+     * @param typeJ      the tenth desired type's class
+     * @param typeK      the eleventh desired type's class
+     * @param typeL      the twelfth desired type's class
+     * @param <DesiredA> the first desired type
+     * @param <DesiredB> the second desired type
+     * @param <DesiredC> the third desired type
+     * @param <DesiredD> the fourth desired type
+     * @param <DesiredE> the fifth desired type
+     * @param <DesiredF> the sixth desired type
+     * @param <DesiredG> the seventh desired type
+     * @param <DesiredH> the eighth desired type
+     * @param <DesiredI> the ninth desired type
+     * @param <DesiredJ> the tenth desired type
+     * @param <DesiredK> the eleventh desired type
+     * @param <DesiredL> the twelfth desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfTwelve} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfTwelve}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+            DesiredK, DesiredL>
+    Optional<OfTwelve<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+            DesiredJ, DesiredK, DesiredL>>
+    asTwelve(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+             final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+             final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+             final Class<DesiredJ> typeJ, final Class<DesiredK> typeK, final Class<DesiredL> typeL) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfTwelve} of the specified types. If this tuple is not an
+     * {@code Tuple.OfTwelve} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * This is a specialized version of the
+     * {@code asTwelve(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK, typeL)} method which
+     * assumes that all items contained within the tuple can be represented as the specified type.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param onlyType   the singular desired type's class
+     * @param <OnlyType> the singular desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfTwelve} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfTwelve}, {@code Optional.empty()} is returned instead.
+     */
+    default <OnlyType>
+    Optional<OfTwelve<OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType,
+            OnlyType, OnlyType, OnlyType>>
+    asTwelve(final Class<OnlyType> onlyType) {
+        // Delegate to explicit type implementation
+        return this.asTwelve(onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType,
+                onlyType, onlyType, onlyType);
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfThirteen} of the specified types. If this tuple is not an
+     * {@code Tuple.OfThirteen} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param typeA      the first desired type's class
+     * @param typeB      the second desired type's class
+     * @param typeC      the third desired type's class
+     * @param typeD      the fourth desired type's class
+     * @param typeE      the fifth desired type's class
+     * @param typeF      the sixth desired type's class
+     * @param typeG      the seventh desired type's class
+     * @param typeH      the eighth desired type's class
+     * @param typeI      the ninth desired type's class
+     * @param typeJ      the tenth desired type's class
+     * @param typeK      the eleventh desired type's class
+     * @param typeL      the twelfth desired type's class
+     * @param typeM      the thirteenth desired type's class
+     * @param <DesiredA> the first desired type
+     * @param <DesiredB> the second desired type
+     * @param <DesiredC> the third desired type
+     * @param <DesiredD> the fourth desired type
+     * @param <DesiredE> the fifth desired type
+     * @param <DesiredF> the sixth desired type
+     * @param <DesiredG> the seventh desired type
+     * @param <DesiredH> the eighth desired type
+     * @param <DesiredI> the ninth desired type
+     * @param <DesiredJ> the tenth desired type
+     * @param <DesiredK> the eleventh desired type
+     * @param <DesiredL> the twelfth desired type
+     * @param <DesiredM> the thirteenth desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfThirteen} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfThirteen}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+            DesiredK, DesiredL, DesiredM>
+    Optional<OfThirteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+            DesiredJ, DesiredK, DesiredL, DesiredM>>
+    asThirteen(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+               final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+               final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+               final Class<DesiredJ> typeJ, final Class<DesiredK> typeK, final Class<DesiredL> typeL,
+               final Class<DesiredM> typeM) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfThirteen} of the specified types. If this tuple is not an
+     * {@code Tuple.OfThirteen} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * This is a specialized version of the
+     * {@code asThirteen(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK, typeL, typeM)}
+     * method which assumes that all items contained within the tuple can be represented as the specified type.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param onlyType   the singular desired type's class
+     * @param <OnlyType> the singular desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfThirteen} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfThirteen}, {@code Optional.empty()} is returned instead.
+     */
+    default <OnlyType>
+    Optional<OfThirteen<OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType,
+            OnlyType, OnlyType, OnlyType, OnlyType>>
+    asThirteen(final Class<OnlyType> onlyType) {
+        // Delegate to explicit type implementation
+        return this.asThirteen(onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType,
+                onlyType, onlyType, onlyType, onlyType);
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfFourteen} of the specified types. If this tuple is not an
+     * {@code Tuple.OfFourteen} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param typeA      the first desired type's class
+     * @param typeB      the second desired type's class
+     * @param typeC      the third desired type's class
+     * @param typeD      the fourth desired type's class
+     * @param typeE      the fifth desired type's class
+     * @param typeF      the sixth desired type's class
+     * @param typeG      the seventh desired type's class
+     * @param typeH      the eighth desired type's class
+     * @param typeI      the ninth desired type's class
+     * @param typeJ      the tenth desired type's class
+     * @param typeK      the eleventh desired type's class
+     * @param typeL      the twelfth desired type's class
+     * @param typeM      the thirteenth desired type's class
+     * @param typeN      the fourteenth desired type's class
+     * @param <DesiredA> the first desired type
+     * @param <DesiredB> the second desired type
+     * @param <DesiredC> the third desired type
+     * @param <DesiredD> the fourth desired type
+     * @param <DesiredE> the fifth desired type
+     * @param <DesiredF> the sixth desired type
+     * @param <DesiredG> the seventh desired type
+     * @param <DesiredH> the eighth desired type
+     * @param <DesiredI> the ninth desired type
+     * @param <DesiredJ> the tenth desired type
+     * @param <DesiredK> the eleventh desired type
+     * @param <DesiredL> the twelfth desired type
+     * @param <DesiredM> the thirteenth desired type
+     * @param <DesiredN> the fourteenth desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfFourteen} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfFourteen}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+            DesiredK, DesiredL, DesiredM, DesiredN>
+    Optional<OfFourteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+            DesiredJ, DesiredK, DesiredL, DesiredM, DesiredN>>
+    asFourteen(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+               final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+               final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+               final Class<DesiredJ> typeJ, final Class<DesiredK> typeK, final Class<DesiredL> typeL,
+               final Class<DesiredM> typeM, final Class<DesiredN> typeN) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfFourteen} of the specified types. If this tuple is not an
+     * {@code Tuple.OfFourteen} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * This is a specialized version of the
+     * {@code asFourteen(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK, typeL, typeM,
+     * typeN)} method which assumes that all items contained within the tuple can be represented as the specified type.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param onlyType   the singular desired type's class
+     * @param <OnlyType> the singular desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfFourteen} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfFourteen}, {@code Optional.empty()} is returned instead.
+     */
+    default <OnlyType>
+    Optional<OfFourteen<OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType,
+            OnlyType, OnlyType, OnlyType, OnlyType, OnlyType>>
+    asFourteen(final Class<OnlyType> onlyType) {
+        // Delegate to explicit type implementation
+        return this.asFourteen(onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType,
+                onlyType, onlyType, onlyType, onlyType, onlyType);
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfFifteen} of the specified types. If this tuple is not an
+     * {@code Tuple.OfFifteen} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param typeA      the first desired type's class
+     * @param typeB      the second desired type's class
+     * @param typeC      the third desired type's class
+     * @param typeD      the fourth desired type's class
+     * @param typeE      the fifth desired type's class
+     * @param typeF      the sixth desired type's class
+     * @param typeG      the seventh desired type's class
+     * @param typeH      the eighth desired type's class
+     * @param typeI      the ninth desired type's class
+     * @param typeJ      the tenth desired type's class
+     * @param typeK      the eleventh desired type's class
+     * @param typeL      the twelfth desired type's class
+     * @param typeM      the thirteenth desired type's class
+     * @param typeN      the fourteenth desired type's class
+     * @param typeO      the fifteenth desired type's class
+     * @param <DesiredA> the first desired type
+     * @param <DesiredB> the second desired type
+     * @param <DesiredC> the third desired type
+     * @param <DesiredD> the fourth desired type
+     * @param <DesiredE> the fifth desired type
+     * @param <DesiredF> the sixth desired type
+     * @param <DesiredG> the seventh desired type
+     * @param <DesiredH> the eighth desired type
+     * @param <DesiredI> the ninth desired type
+     * @param <DesiredJ> the tenth desired type
+     * @param <DesiredK> the eleventh desired type
+     * @param <DesiredL> the twelfth desired type
+     * @param <DesiredM> the thirteenth desired type
+     * @param <DesiredN> the fourteenth desired type
+     * @param <DesiredO> the fifteenth desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfFifteen} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfFifteen}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+            DesiredK, DesiredL, DesiredM, DesiredN, DesiredO>
+    Optional<OfFifteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+            DesiredJ, DesiredK, DesiredL, DesiredM, DesiredN, DesiredO>>
+    asFifteen(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+              final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+              final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+              final Class<DesiredJ> typeJ, final Class<DesiredK> typeK, final Class<DesiredL> typeL,
+              final Class<DesiredM> typeM, final Class<DesiredN> typeN, final Class<DesiredO> typeO) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfFifteen} of the specified types. If this tuple is not an
+     * {@code Tuple.OfFifteen} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * This is a specialized version of the
+     * {@code asFifteen(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK, typeL, typeM,
+     * typeN, typeO)} method which assumes that all items contained within the tuple can be represented as the specified
+     * type.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param onlyType   the singular desired type's class
+     * @param <OnlyType> the singular desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfFifteen} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfFifteen}, {@code Optional.empty()} is returned instead.
+     */
+    default <OnlyType>
+    Optional<OfFifteen<OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType,
+            OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType>>
+    asFifteen(final Class<OnlyType> onlyType) {
+        // Delegate to explicit type implementation
+        return this.asFifteen(onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType,
+                onlyType, onlyType, onlyType, onlyType, onlyType, onlyType);
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfSixteen} of the specified types. If this tuple is not an
+     * {@code Tuple.OfSixteen} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param typeA      the first desired type's class
+     * @param typeB      the second desired type's class
+     * @param typeC      the third desired type's class
+     * @param typeD      the fourth desired type's class
+     * @param typeE      the fifth desired type's class
+     * @param typeF      the sixth desired type's class
+     * @param typeG      the seventh desired type's class
+     * @param typeH      the eighth desired type's class
+     * @param typeI      the ninth desired type's class
+     * @param typeJ      the tenth desired type's class
+     * @param typeK      the eleventh desired type's class
+     * @param typeL      the twelfth desired type's class
+     * @param typeM      the thirteenth desired type's class
+     * @param typeN      the fourteenth desired type's class
+     * @param typeO      the fifteenth desired type's class
+     * @param typeP      the sixteenth desired type's class
+     * @param <DesiredA> the first desired type
+     * @param <DesiredB> the second desired type
+     * @param <DesiredC> the third desired type
+     * @param <DesiredD> the fourth desired type
+     * @param <DesiredE> the fifth desired type
+     * @param <DesiredF> the sixth desired type
+     * @param <DesiredG> the seventh desired type
+     * @param <DesiredH> the eighth desired type
+     * @param <DesiredI> the ninth desired type
+     * @param <DesiredJ> the tenth desired type
+     * @param <DesiredK> the eleventh desired type
+     * @param <DesiredL> the twelfth desired type
+     * @param <DesiredM> the thirteenth desired type
+     * @param <DesiredN> the fourteenth desired type
+     * @param <DesiredO> the fifteenth desired type
+     * @param <DesiredP> the sixteenth desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfSixteen} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfSixteen}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+            DesiredK, DesiredL, DesiredM, DesiredN, DesiredO, DesiredP>
+    Optional<OfSixteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+            DesiredJ, DesiredK, DesiredL, DesiredM, DesiredN, DesiredO, DesiredP>>
+    asSixteen(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+              final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+              final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+              final Class<DesiredJ> typeJ, final Class<DesiredK> typeK, final Class<DesiredL> typeL,
+              final Class<DesiredM> typeM, final Class<DesiredN> typeN, final Class<DesiredO> typeO,
+              final Class<DesiredP> typeP) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfSixteen} of the specified types. If this tuple is not an
+     * {@code Tuple.OfSixteen} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * This is a specialized version of the
+     * {@code asSixteen(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK, typeL, typeM,
+     * typeN, typeO, typeP)} method which assumes that all items contained within the tuple can be represented as the
+     * specified type.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param onlyType   the singular desired type's class
+     * @param <OnlyType> the singular desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfSixteen} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfSixteen}, {@code Optional.empty()} is returned instead.
+     */
+    default <OnlyType>
+    Optional<OfSixteen<OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType,
+            OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType>>
+    asSixteen(final Class<OnlyType> onlyType) {
+        // Delegate to explicit type implementation
+        return this.asSixteen(onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType,
+                onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType);
+    }
+
+    // endregion
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfNested} of the specified types. If this tuple is not an
+     * {@code Tuple.OfNested} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param typeA      the first desired type's class
+     * @param typeB      the second desired type's class
+     * @param typeC      the third desired type's class
+     * @param typeD      the fourth desired type's class
+     * @param typeE      the fifth desired type's class
+     * @param typeF      the sixth desired type's class
+     * @param typeG      the seventh desired type's class
+     * @param <DesiredA> the first desired type
+     * @param <DesiredB> the second desired type
+     * @param <DesiredC> the third desired type
+     * @param <DesiredD> the fourth desired type
+     * @param <DesiredE> the fifth desired type
+     * @param <DesiredF> the sixth desired type
+     * @param <DesiredG> the seventh desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfNested} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfNested}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG>
+    Optional<OfNested<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, Tuple>>
+    asNested(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+             final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+             final Class<DesiredG> typeG) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.OfNested} of the specified types. If this tuple is not an
+     * {@code Tuple.OfNested} instance, or does not conform to the specified types, {@code Optional.empty()} is
+     * returned.
+     * <p>
+     * This is a specialized version of the {@code asNested(typeA, typeB, typeC, typeD, typeE, typeF, typeG)} method
+     * which assumes that all items contained within the tuple can be represented as the specified type.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param onlyType   the singular desired type's class
+     * @param <OnlyType> the singular desired type
+     * @return An {@code Optional} containing an {@code Tuple.OfNested} representation of this tuple. If this tuple
+     * cannot be represented as an {@code Tuple.OfNested}, {@code Optional.empty()} is returned instead.
+     */
+    default <OnlyType>
+    Optional<OfNested<OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, OnlyType, Tuple>>
+    asNested(final Class<OnlyType> onlyType) {
+        // Delegate to explicit type implementation
+        return this.asNested(onlyType, onlyType, onlyType, onlyType, onlyType, onlyType, onlyType);
+    }
+
+    // region generated: records
+
+    /**
+     * Represents a tuple object which contains a single item.
+     *
+     * @param <OnlyType> The type of the sole item contained within the tuple
+     */
+    record Single<OnlyType>(OnlyType item1) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.Single} of the specified type. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.Single} instance, the actual type of the sole item
+         * could potentially differ. If the sole item contained within this tuple does not conform to the specified
+         * type, {@code Optional.empty()} is returned.
+         *
+         * @param typeA         the desired type's class
+         * @param <DesiredType> the desired type
+         * @return An {@code Optional} containing an {@code Tuple.Single} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.Single}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredType> Optional<Single<DesiredType>> asSingle(final Class<DesiredType> typeA) {
+            if (typeA.isInstance(item1))
+                return Optional.of((Single<DesiredType>) this);
+            // Delegate to default implementation
+            return Tuple.super.asSingle(typeA);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 1;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof Single<?> other && Objects.equals(item1, other.item1);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains two items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     */
+    record OfTwo<TypeA, TypeB>(TypeA item1, TypeB item2) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfTwo} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfTwo} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfTwo} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfTwo}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB>
+        Optional<OfTwo<DesiredA, DesiredB>>
+        asTwo(final Class<DesiredA> typeA, final Class<DesiredB> typeB) {
+            if (typeA.isInstance(item1) && typeB.isInstance(item2))
+                return Optional.of((OfTwo<DesiredA, DesiredB>) this);
+            // Delegate to default implementation
+            return Tuple.super.asTwo(typeA, typeB);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 2;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfTwo<?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains three items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     */
+    record OfThree<TypeA, TypeB, TypeC>(TypeA item1, TypeB item2, TypeC item3) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfThree} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfThree} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfThree} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfThree}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB, DesiredC>
+        Optional<OfThree<DesiredA, DesiredB, DesiredC>>
+        asThree(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3))
+                return Optional.of((OfThree<DesiredA, DesiredB, DesiredC>) this);
+            // Delegate to default implementation
+            return Tuple.super.asThree(typeA, typeB, typeC);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 3;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfThree<?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains four items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     */
+    record OfFour<TypeA, TypeB, TypeC, TypeD>(TypeA item1, TypeB item2, TypeC item3, TypeD item4) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfFour} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfFour} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfFour} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfFour}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB, DesiredC, DesiredD>
+        Optional<OfFour<DesiredA, DesiredB, DesiredC, DesiredD>>
+        asFour(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+               final Class<DesiredD> typeD) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4))
+                return Optional.of((OfFour<DesiredA, DesiredB, DesiredC, DesiredD>) this);
+            // Delegate to default implementation
+            return Tuple.super.asFour(typeA, typeB, typeC, typeD);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 4;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfFour<?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains five items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     */
+    record OfFive<TypeA, TypeB, TypeC, TypeD, TypeE>(TypeA item1, TypeB item2, TypeC item3, TypeD item4,
+                                                     TypeE item5) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfFive} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfFive} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfFive} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfFive}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE>
+        Optional<OfFive<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE>>
+        asFive(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+               final Class<DesiredD> typeD, final Class<DesiredE> typeE) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5))
+                return Optional.of((OfFive<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE>) this);
+            // Delegate to default implementation
+            return Tuple.super.asFive(typeA, typeB, typeC, typeD, typeE);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 5;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfFive<?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains six items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     */
+    record OfSix<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF>(TypeA item1, TypeB item2, TypeC item3, TypeD item4,
+                                                           TypeE item5, TypeF item6) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfSix} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfSix} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfSix} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfSix}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF>
+        Optional<OfSix<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF>>
+        asSix(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+              final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6))
+                return Optional.of((OfSix<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF>) this);
+            // Delegate to default implementation
+            return Tuple.super.asSix(typeA, typeB, typeC, typeD, typeE, typeF);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 6;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfSix<?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains seven items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param <TypeG> The type of the seventh item contained within the tuple
+     */
+    record OfSeven<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG>(TypeA item1, TypeB item2, TypeC item3, TypeD item4,
+                                                                    TypeE item5, TypeF item6,
+                                                                    TypeG item7) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfSeven} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfSeven} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param typeG      the seventh desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @param <DesiredG> the seventh desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfSeven} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfSeven}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG>
+        Optional<OfSeven<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG>>
+        asSeven(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+                final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+                final Class<DesiredG> typeG) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6)
+                    && typeG.isInstance(item7))
+                return Optional.of(
+                        (OfSeven<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG>) this
+                );
+            // Delegate to default implementation
+            return Tuple.super.asSeven(typeA, typeB, typeC, typeD, typeE, typeF, typeG);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                case 6 -> item7;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 7;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+            dest[offset + 6] = item7;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfSeven<?, ?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6)
+                    && Objects.equals(item7, other.item7);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains eight items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param <TypeG> The type of the seventh item contained within the tuple
+     * @param <TypeH> The type of the eighth item contained within the tuple
+     */
+    record OfEight<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH>(TypeA item1, TypeB item2, TypeC item3,
+                                                                           TypeD item4, TypeE item5, TypeF item6,
+                                                                           TypeG item7, TypeH item8) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfEight} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfEight} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param typeG      the seventh desired type's class
+         * @param typeH      the eighth desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @param <DesiredG> the seventh desired type
+         * @param <DesiredH> the eighth desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfEight} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfEight}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH>
+        Optional<OfEight<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH>>
+        asEight(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+                final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+                final Class<DesiredG> typeG, final Class<DesiredH> typeH) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6)
+                    && typeG.isInstance(item7)
+                    && typeH.isInstance(item8))
+                return Optional.of(
+                        (OfEight<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH>) this
+                );
+            // Delegate to default implementation
+            return Tuple.super.asEight(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                case 6 -> item7;
+                case 7 -> item8;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 8;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+            dest[offset + 6] = item7;
+            dest[offset + 7] = item8;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfEight<?, ?, ?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6)
+                    && Objects.equals(item7, other.item7)
+                    && Objects.equals(item8, other.item8);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains nine items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param <TypeG> The type of the seventh item contained within the tuple
+     * @param <TypeH> The type of the eighth item contained within the tuple
+     * @param <TypeI> The type of the ninth item contained within the tuple
+     */
+    record OfNine<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI>(TypeA item1, TypeB item2, TypeC item3,
+                                                                                 TypeD item4, TypeE item5, TypeF item6,
+                                                                                 TypeG item7, TypeH item8,
+                                                                                 TypeI item9) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfNine} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfNine} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param typeG      the seventh desired type's class
+         * @param typeH      the eighth desired type's class
+         * @param typeI      the ninth desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @param <DesiredG> the seventh desired type
+         * @param <DesiredH> the eighth desired type
+         * @param <DesiredI> the ninth desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfNine} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfNine}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI>
+        Optional<OfNine<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI>>
+        asNine(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+               final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+               final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6)
+                    && typeG.isInstance(item7)
+                    && typeH.isInstance(item8)
+                    && typeI.isInstance(item9))
+                return Optional.of(
+                        (OfNine<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH,
+                                DesiredI>) this
+                );
+            // Delegate to default implementation
+            return Tuple.super.asNine(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                case 6 -> item7;
+                case 7 -> item8;
+                case 8 -> item9;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 9;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+            dest[offset + 6] = item7;
+            dest[offset + 7] = item8;
+            dest[offset + 8] = item9;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfNine<?, ?, ?, ?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6)
+                    && Objects.equals(item7, other.item7)
+                    && Objects.equals(item8, other.item8)
+                    && Objects.equals(item9, other.item9);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains ten items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param <TypeG> The type of the seventh item contained within the tuple
+     * @param <TypeH> The type of the eighth item contained within the tuple
+     * @param <TypeI> The type of the ninth item contained within the tuple
+     * @param <TypeJ> The type of the tenth item contained within the tuple
+     */
+    record OfTen<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ>(TypeA item1, TypeB item2,
+                                                                                       TypeC item3, TypeD item4,
+                                                                                       TypeE item5, TypeF item6,
+                                                                                       TypeG item7, TypeH item8,
+                                                                                       TypeI item9,
+                                                                                       TypeJ item10) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfTen} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfTen} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param typeG      the seventh desired type's class
+         * @param typeH      the eighth desired type's class
+         * @param typeI      the ninth desired type's class
+         * @param typeJ      the tenth desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @param <DesiredG> the seventh desired type
+         * @param <DesiredH> the eighth desired type
+         * @param <DesiredI> the ninth desired type
+         * @param <DesiredJ> the tenth desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfTen} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfTen}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ>
+        Optional<OfTen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+                DesiredJ>>
+        asTen(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+              final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+              final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+              final Class<DesiredJ> typeJ) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6)
+                    && typeG.isInstance(item7)
+                    && typeH.isInstance(item8)
+                    && typeI.isInstance(item9)
+                    && typeJ.isInstance(item10))
+                return Optional.of(
+                        (OfTen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+                                DesiredJ>) this
+                );
+            // Delegate to default implementation
+            return Tuple.super.asTen(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                case 6 -> item7;
+                case 7 -> item8;
+                case 8 -> item9;
+                case 9 -> item10;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 10;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+            dest[offset + 6] = item7;
+            dest[offset + 7] = item8;
+            dest[offset + 8] = item9;
+            dest[offset + 9] = item10;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfTen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6)
+                    && Objects.equals(item7, other.item7)
+                    && Objects.equals(item8, other.item8)
+                    && Objects.equals(item9, other.item9)
+                    && Objects.equals(item10, other.item10);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains eleven items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param <TypeG> The type of the seventh item contained within the tuple
+     * @param <TypeH> The type of the eighth item contained within the tuple
+     * @param <TypeI> The type of the ninth item contained within the tuple
+     * @param <TypeJ> The type of the tenth item contained within the tuple
+     * @param <TypeK> The type of the eleventh item contained within the tuple
+     */
+    record OfEleven<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK>(
+            TypeA item1, TypeB item2, TypeC item3, TypeD item4, TypeE item5, TypeF item6, TypeG item7, TypeH item8,
+            TypeI item9, TypeJ item10, TypeK item11) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfEleven} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfEleven} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param typeG      the seventh desired type's class
+         * @param typeH      the eighth desired type's class
+         * @param typeI      the ninth desired type's class
+         * @param typeJ      the tenth desired type's class
+         * @param typeK      the eleventh desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @param <DesiredG> the seventh desired type
+         * @param <DesiredH> the eighth desired type
+         * @param <DesiredI> the ninth desired type
+         * @param <DesiredJ> the tenth desired type
+         * @param <DesiredK> the eleventh desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfEleven} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfEleven}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+                DesiredK>
+        Optional<OfEleven<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+                DesiredJ, DesiredK>>
+        asEleven(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+                 final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+                 final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+                 final Class<DesiredJ> typeJ, final Class<DesiredK> typeK) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6)
+                    && typeG.isInstance(item7)
+                    && typeH.isInstance(item8)
+                    && typeI.isInstance(item9)
+                    && typeJ.isInstance(item10)
+                    && typeK.isInstance(item11))
+                return Optional.of(
+                        (OfEleven<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH,
+                                DesiredI, DesiredJ, DesiredK>) this
+                );
+            // Delegate to default implementation
+            return Tuple.super.asEleven(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                case 6 -> item7;
+                case 7 -> item8;
+                case 8 -> item9;
+                case 9 -> item10;
+                case 10 -> item11;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 11;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+            dest[offset + 6] = item7;
+            dest[offset + 7] = item8;
+            dest[offset + 8] = item9;
+            dest[offset + 9] = item10;
+            dest[offset + 10] = item11;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfEleven<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6)
+                    && Objects.equals(item7, other.item7)
+                    && Objects.equals(item8, other.item8)
+                    && Objects.equals(item9, other.item9)
+                    && Objects.equals(item10, other.item10)
+                    && Objects.equals(item11, other.item11);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains twelve items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param <TypeG> The type of the seventh item contained within the tuple
+     * @param <TypeH> The type of the eighth item contained within the tuple
+     * @param <TypeI> The type of the ninth item contained within the tuple
+     * @param <TypeJ> The type of the tenth item contained within the tuple
+     * @param <TypeK> The type of the eleventh item contained within the tuple
+     * @param <TypeL> The type of the twelfth item contained within the tuple
+     */
+    record OfTwelve<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL>(
+            TypeA item1, TypeB item2, TypeC item3, TypeD item4, TypeE item5, TypeF item6, TypeG item7, TypeH item8,
+            TypeI item9, TypeJ item10, TypeK item11, TypeL item12) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfTwelve} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfTwelve} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param typeG      the seventh desired type's class
+         * @param typeH      the eighth desired type's class
+         * @param typeI      the ninth desired type's class
+         * @param typeJ      the tenth desired type's class
+         * @param typeK      the eleventh desired type's class
+         * @param typeL      the twelfth desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @param <DesiredG> the seventh desired type
+         * @param <DesiredH> the eighth desired type
+         * @param <DesiredI> the ninth desired type
+         * @param <DesiredJ> the tenth desired type
+         * @param <DesiredK> the eleventh desired type
+         * @param <DesiredL> the twelfth desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfTwelve} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfTwelve}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+                DesiredK, DesiredL>
+        Optional<OfTwelve<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+                DesiredJ, DesiredK, DesiredL>>
+        asTwelve(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+                 final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+                 final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+                 final Class<DesiredJ> typeJ, final Class<DesiredK> typeK, final Class<DesiredL> typeL) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6)
+                    && typeG.isInstance(item7)
+                    && typeH.isInstance(item8)
+                    && typeI.isInstance(item9)
+                    && typeJ.isInstance(item10)
+                    && typeK.isInstance(item11)
+                    && typeL.isInstance(item12))
+                return Optional.of(
+                        (OfTwelve<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH,
+                                DesiredI, DesiredJ, DesiredK, DesiredL>) this
+                );
+            // Delegate to default implementation
+            return Tuple.super.asTwelve(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK,
+                    typeL);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                case 6 -> item7;
+                case 7 -> item8;
+                case 8 -> item9;
+                case 9 -> item10;
+                case 10 -> item11;
+                case 11 -> item12;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 12;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+            dest[offset + 6] = item7;
+            dest[offset + 7] = item8;
+            dest[offset + 8] = item9;
+            dest[offset + 9] = item10;
+            dest[offset + 10] = item11;
+            dest[offset + 11] = item12;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfTwelve<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6)
+                    && Objects.equals(item7, other.item7)
+                    && Objects.equals(item8, other.item8)
+                    && Objects.equals(item9, other.item9)
+                    && Objects.equals(item10, other.item10)
+                    && Objects.equals(item11, other.item11)
+                    && Objects.equals(item12, other.item12);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains thirteen items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param <TypeG> The type of the seventh item contained within the tuple
+     * @param <TypeH> The type of the eighth item contained within the tuple
+     * @param <TypeI> The type of the ninth item contained within the tuple
+     * @param <TypeJ> The type of the tenth item contained within the tuple
+     * @param <TypeK> The type of the eleventh item contained within the tuple
+     * @param <TypeL> The type of the twelfth item contained within the tuple
+     * @param <TypeM> The type of the thirteenth item contained within the tuple
+     */
+    record OfThirteen<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM>(
+            TypeA item1, TypeB item2, TypeC item3, TypeD item4, TypeE item5, TypeF item6, TypeG item7, TypeH item8,
+            TypeI item9, TypeJ item10, TypeK item11, TypeL item12, TypeM item13) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfThirteen} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfThirteen} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param typeG      the seventh desired type's class
+         * @param typeH      the eighth desired type's class
+         * @param typeI      the ninth desired type's class
+         * @param typeJ      the tenth desired type's class
+         * @param typeK      the eleventh desired type's class
+         * @param typeL      the twelfth desired type's class
+         * @param typeM      the thirteenth desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @param <DesiredG> the seventh desired type
+         * @param <DesiredH> the eighth desired type
+         * @param <DesiredI> the ninth desired type
+         * @param <DesiredJ> the tenth desired type
+         * @param <DesiredK> the eleventh desired type
+         * @param <DesiredL> the twelfth desired type
+         * @param <DesiredM> the thirteenth desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfThirteen} representation of this tuple. If this
+         * tuple cannot be represented as an {@code Tuple.OfThirteen}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+                DesiredK, DesiredL, DesiredM>
+        Optional<OfThirteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+                DesiredJ, DesiredK, DesiredL, DesiredM>>
+        asThirteen(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+                   final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+                   final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+                   final Class<DesiredJ> typeJ, final Class<DesiredK> typeK, final Class<DesiredL> typeL,
+                   final Class<DesiredM> typeM) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6)
+                    && typeG.isInstance(item7)
+                    && typeH.isInstance(item8)
+                    && typeI.isInstance(item9)
+                    && typeJ.isInstance(item10)
+                    && typeK.isInstance(item11)
+                    && typeL.isInstance(item12)
+                    && typeM.isInstance(item13))
+                return Optional.of(
+                        (OfThirteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH,
+                                DesiredI, DesiredJ, DesiredK, DesiredL, DesiredM>) this
+                );
+            // Delegate to default implementation
+            return Tuple.super.asThirteen(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK,
+                    typeL, typeM);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                case 6 -> item7;
+                case 7 -> item8;
+                case 8 -> item9;
+                case 9 -> item10;
+                case 10 -> item11;
+                case 11 -> item12;
+                case 12 -> item13;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 13;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+            dest[offset + 6] = item7;
+            dest[offset + 7] = item8;
+            dest[offset + 8] = item9;
+            dest[offset + 9] = item10;
+            dest[offset + 10] = item11;
+            dest[offset + 11] = item12;
+            dest[offset + 12] = item13;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfThirteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6)
+                    && Objects.equals(item7, other.item7)
+                    && Objects.equals(item8, other.item8)
+                    && Objects.equals(item9, other.item9)
+                    && Objects.equals(item10, other.item10)
+                    && Objects.equals(item11, other.item11)
+                    && Objects.equals(item12, other.item12)
+                    && Objects.equals(item13, other.item13);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    /**
+     * Represents a tuple object which contains fourteen items.
+     *
+     * @param <TypeA> The type of the first item contained within the tuple
+     * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param <TypeG> The type of the seventh item contained within the tuple
+     * @param <TypeH> The type of the eighth item contained within the tuple
+     * @param <TypeI> The type of the ninth item contained within the tuple
+     * @param <TypeJ> The type of the tenth item contained within the tuple
+     * @param <TypeK> The type of the eleventh item contained within the tuple
+     * @param <TypeL> The type of the twelfth item contained within the tuple
+     * @param <TypeM> The type of the thirteenth item contained within the tuple
+     * @param <TypeN> The type of the fourteenth item contained within the tuple
+     */
+    record OfFourteen<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM, TypeN>(
+            TypeA item1, TypeB item2, TypeC item3, TypeD item4, TypeE item5, TypeF item6, TypeG item7, TypeH item8,
+            TypeI item9, TypeJ item10, TypeK item11, TypeL item12, TypeM item13, TypeN item14) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfFourteen} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfFourteen} instance, the actual types of each item
+         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
+         * {@code Optional.empty()} is returned.
          *
-         * @param typeA         the desired type's class
-         * @param <DesiredType> the desired type
-         * @return An {@code Optional} containing an {@code Tuple.Single} representation of this tuple. If this tuple
-         * cannot be represented as an {@code Tuple.Single}, {@code Optional.empty()} is returned instead.
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param typeG      the seventh desired type's class
+         * @param typeH      the eighth desired type's class
+         * @param typeI      the ninth desired type's class
+         * @param typeJ      the tenth desired type's class
+         * @param typeK      the eleventh desired type's class
+         * @param typeL      the twelfth desired type's class
+         * @param typeM      the thirteenth desired type's class
+         * @param typeN      the fourteenth desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @param <DesiredG> the seventh desired type
+         * @param <DesiredH> the eighth desired type
+         * @param <DesiredI> the ninth desired type
+         * @param <DesiredJ> the tenth desired type
+         * @param <DesiredK> the eleventh desired type
+         * @param <DesiredL> the twelfth desired type
+         * @param <DesiredM> the thirteenth desired type
+         * @param <DesiredN> the fourteenth desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfFourteen} representation of this tuple. If this
+         * tuple cannot be represented as an {@code Tuple.OfFourteen}, {@code Optional.empty()} is returned instead.
          */
         @Override
         @SuppressWarnings("unchecked")
-        public <DesiredType> Optional<Single<DesiredType>> asSingle(final Class<DesiredType> typeA) {
-            if (typeA.isInstance(item1))
-                return Optional.of((Single<DesiredType>) this);
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+                DesiredK, DesiredL, DesiredM, DesiredN>
+        Optional<OfFourteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+                DesiredJ, DesiredK, DesiredL, DesiredM, DesiredN>>
+        asFourteen(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+                   final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+                   final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+                   final Class<DesiredJ> typeJ, final Class<DesiredK> typeK, final Class<DesiredL> typeL,
+                   final Class<DesiredM> typeM, final Class<DesiredN> typeN) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6)
+                    && typeG.isInstance(item7)
+                    && typeH.isInstance(item8)
+                    && typeI.isInstance(item9)
+                    && typeJ.isInstance(item10)
+                    && typeK.isInstance(item11)
+                    && typeL.isInstance(item12)
+                    && typeM.isInstance(item13)
+                    && typeN.isInstance(item14))
+                return Optional.of(
+                        (OfFourteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH,
+                                DesiredI, DesiredJ, DesiredK, DesiredL, DesiredM, DesiredN>) this
+                );
             // Delegate to default implementation
-            return Tuple.super.asSingle(typeA);
+            return Tuple.super.asFourteen(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK,
+                    typeL, typeM, typeN);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                case 6 -> item7;
+                case 7 -> item8;
+                case 8 -> item9;
+                case 9 -> item10;
+                case 10 -> item11;
+                case 11 -> item12;
+                case 12 -> item13;
+                case 13 -> item14;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
         }
 
         @Override
-        public Object[] items() {
-            return new Object[]{item1};
+        public int arity() {
+            return 14;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+            dest[offset + 6] = item7;
+            dest[offset + 7] = item8;
+            dest[offset + 8] = item9;
+            dest[offset + 9] = item10;
+            dest[offset + 10] = item11;
+            dest[offset + 11] = item12;
+            dest[offset + 12] = item13;
+            dest[offset + 13] = item14;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfFourteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6)
+                    && Objects.equals(item7, other.item7)
+                    && Objects.equals(item8, other.item8)
+                    && Objects.equals(item9, other.item9)
+                    && Objects.equals(item10, other.item10)
+                    && Objects.equals(item11, other.item11)
+                    && Objects.equals(item12, other.item12)
+                    && Objects.equals(item13, other.item13)
+                    && Objects.equals(item14, other.item14);
         }
 
         @Override
@@ -692,39 +3687,168 @@ public sealed interface Tuple extends Iterable<TupleValue>
     }
 
     /**
-     * Represents a tuple object which contains two items.
+     * Represents a tuple object which contains fifteen items.
      *
      * @param <TypeA> The type of the first item contained within the tuple
      * @param <TypeB> The type of the second item contained within the tuple
+     * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param <TypeG> The type of the seventh item contained within the tuple
+     * @param <TypeH> The type of the eighth item contained within the tuple
+     * @param <TypeI> The type of the ninth item contained within the tuple
+     * @param <TypeJ> The type of the tenth item contained within the tuple
+     * @param <TypeK> The type of the eleventh item contained within the tuple
+     * @param <TypeL> The type of the twelfth item contained within the tuple
+     * @param <TypeM> The type of the thirteenth item contained within the tuple
+     * @param <TypeN> The type of the fourteenth item contained within the tuple
+     * @param <TypeO> The type of the fifteenth item contained within the tuple
      */
-    record OfTwo<TypeA, TypeB>(TypeA item1, TypeB item2) implements Tuple {
+    record OfFifteen<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM, TypeN,
+            TypeO>(
+            TypeA item1, TypeB item2, TypeC item3, TypeD item4, TypeE item5, TypeF item6, TypeG item7, TypeH item8,
+            TypeI item9, TypeJ item10, TypeK item11, TypeL item12, TypeM item13, TypeN item14,
+            TypeO item15) implements Tuple {
         /**
-         * Attempts to represent this tuple as an {@code Tuple.OfTwo} of the specified types. Although polymorphism
-         * ensures that this tuple will always be an {@code Tuple.OfTwo} instance, the actual types of each item
+         * Attempts to represent this tuple as an {@code Tuple.OfFifteen} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfFifteen} instance, the actual types of each item
          * could potentially differ. If the items contained within this tuple do not conform to the specified types,
          * {@code Optional.empty()} is returned.
          *
          * @param typeA      the first desired type's class
          * @param typeB      the second desired type's class
+         * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param typeG      the seventh desired type's class
+         * @param typeH      the eighth desired type's class
+         * @param typeI      the ninth desired type's class
+         * @param typeJ      the tenth desired type's class
+         * @param typeK      the eleventh desired type's class
+         * @param typeL      the twelfth desired type's class
+         * @param typeM      the thirteenth desired type's class
+         * @param typeN      the fourteenth desired type's class
+         * @param typeO      the fifteenth desired type's class
          * @param <DesiredA> the first desired type
          * @param <DesiredB> the second desired type
-         * @return An {@code Optional} containing an {@code Tuple.OfTwo} representation of this tuple. If this tuple
-         * cannot be represented as an {@code Tuple.OfTwo}, {@code Optional.empty()} is returned instead.
+         * @param <DesiredC> the third desired type
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @param <DesiredG> the seventh desired type
+         * @param <DesiredH> the eighth desired type
+         * @param <DesiredI> the ninth desired type
+         * @param <DesiredJ> the tenth desired type
+         * @param <DesiredK> the eleventh desired type
+         * @param <DesiredL> the twelfth desired type
+         * @param <DesiredM> the thirteenth desired type
+         * @param <DesiredN> the fourteenth desired type
+         * @param <DesiredO> the fifteenth desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfFifteen} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfFifteen}, {@code Optional.empty()} is returned instead.
          */
         @Override
         @SuppressWarnings("unchecked")
-        public <DesiredA, DesiredB>
-        Optional<OfTwo<DesiredA, DesiredB>>
-        asTwo(final Class<DesiredA> typeA, final Class<DesiredB> typeB) {
-            if (typeA.isInstance(item1) && typeB.isInstance(item2))
-                return Optional.of((OfTwo<DesiredA, DesiredB>) this);
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+                DesiredK, DesiredL, DesiredM, DesiredN, DesiredO>
+        Optional<OfFifteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+                DesiredJ, DesiredK, DesiredL, DesiredM, DesiredN, DesiredO>>
+        asFifteen(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+                  final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+                  final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+                  final Class<DesiredJ> typeJ, final Class<DesiredK> typeK, final Class<DesiredL> typeL,
+                  final Class<DesiredM> typeM, final Class<DesiredN> typeN, final Class<DesiredO> typeO) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6)
+                    && typeG.isInstance(item7)
+                    && typeH.isInstance(item8)
+                    && typeI.isInstance(item9)
+                    && typeJ.isInstance(item10)
+                    && typeK.isInstance(item11)
+                    && typeL.isInstance(item12)
+                    && typeM.isInstance(item13)
+                    && typeN.isInstance(item14)
+                    && typeO.isInstance(item15))
+                return Optional.of(
+                        (OfFifteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH,
+                                DesiredI, DesiredJ, DesiredK, DesiredL, DesiredM, DesiredN, DesiredO>) this
+                );
             // Delegate to default implementation
-            return Tuple.super.asTwo(typeA, typeB);
+            return Tuple.super.asFifteen(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK,
+                    typeL, typeM, typeN, typeO);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                case 6 -> item7;
+                case 7 -> item8;
+                case 8 -> item9;
+                case 9 -> item10;
+                case 10 -> item11;
+                case 11 -> item12;
+                case 12 -> item13;
+                case 13 -> item14;
+                case 14 -> item15;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 15;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+            dest[offset + 6] = item7;
+            dest[offset + 7] = item8;
+            dest[offset + 8] = item9;
+            dest[offset + 9] = item10;
+            dest[offset + 10] = item11;
+            dest[offset + 11] = item12;
+            dest[offset + 12] = item13;
+            dest[offset + 13] = item14;
+            dest[offset + 14] = item15;
         }
 
         @Override
-        public Object[] items() {
-            return new Object[]{item1, item2};
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfFifteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6)
+                    && Objects.equals(item7, other.item7)
+                    && Objects.equals(item8, other.item8)
+                    && Objects.equals(item9, other.item9)
+                    && Objects.equals(item10, other.item10)
+                    && Objects.equals(item11, other.item11)
+                    && Objects.equals(item12, other.item12)
+                    && Objects.equals(item13, other.item13)
+                    && Objects.equals(item14, other.item14)
+                    && Objects.equals(item15, other.item15);
         }
 
         @Override
@@ -735,44 +3859,176 @@ public sealed interface Tuple extends Iterable<TupleValue>
     }
 
     /**
-     * Represents a tuple object which contains three items.
+     * Represents a tuple object which contains sixteen items.
      *
      * @param <TypeA> The type of the first item contained within the tuple
      * @param <TypeB> The type of the second item contained within the tuple
      * @param <TypeC> The type of the third item contained within the tuple
+     * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param <TypeG> The type of the seventh item contained within the tuple
+     * @param <TypeH> The type of the eighth item contained within the tuple
+     * @param <TypeI> The type of the ninth item contained within the tuple
+     * @param <TypeJ> The type of the tenth item contained within the tuple
+     * @param <TypeK> The type of the eleventh item contained within the tuple
+     * @param <TypeL> The type of the twelfth item contained within the tuple
+     * @param <TypeM> The type of the thirteenth item contained within the tuple
+     * @param <TypeN> The type of the fourteenth item contained within the tuple
+     * @param <TypeO> The type of the fifteenth item contained within the tuple
+     * @param <TypeP> The type of the sixteenth item contained within the tuple
      */
-    record OfThree<TypeA, TypeB, TypeC>(TypeA item1, TypeB item2, TypeC item3) implements Tuple {
+    record OfSixteen<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH, TypeI, TypeJ, TypeK, TypeL, TypeM, TypeN,
+            TypeO, TypeP>(
+            TypeA item1, TypeB item2, TypeC item3, TypeD item4, TypeE item5, TypeF item6, TypeG item7, TypeH item8,
+            TypeI item9, TypeJ item10, TypeK item11, TypeL item12, TypeM item13, TypeN item14, TypeO item15,
+            TypeP item16) implements Tuple {
         /**
-         * Attempts to represent this tuple as an {@code Tuple.OfThree} of the specified types. Although polymorphism
-         * ensures that this tuple will always be an {@code Tuple.OfThree} instance, the actual types of each item
+         * Attempts to represent this tuple as an {@code Tuple.OfSixteen} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfSixteen} instance, the actual types of each item
          * could potentially differ. If the items contained within this tuple do not conform to the specified types,
          * {@code Optional.empty()} is returned.
          *
          * @param typeA      the first desired type's class
          * @param typeB      the second desired type's class
          * @param typeC      the third desired type's class
+         * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param typeG      the seventh desired type's class
+         * @param typeH      the eighth desired type's class
+         * @param typeI      the ninth desired type's class
+         * @param typeJ      the tenth desired type's class
+         * @param typeK      the eleventh desired type's class
+         * @param typeL      the twelfth desired type's class
+         * @param typeM      the thirteenth desired type's class
+         * @param typeN      the fourteenth desired type's class
+         * @param typeO      the fifteenth desired type's class
+         * @param typeP      the sixteenth desired type's class
          * @param <DesiredA> the first desired type
          * @param <DesiredB> the second desired type
          * @param <DesiredC> the third desired type
-         * @return An {@code Optional} containing an {@code Tuple.OfThree} representation of this tuple. If this tuple
-         * cannot be represented as an {@code Tuple.OfThree}, {@code Optional.empty()} is returned instead.
+         * @param <DesiredD> the fourth desired type
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @param <DesiredG> the seventh desired type
+         * @param <DesiredH> the eighth desired type
+         * @param <DesiredI> the ninth desired type
+         * @param <DesiredJ> the tenth desired type
+         * @param <DesiredK> the eleventh desired type
+         * @param <DesiredL> the twelfth desired type
+         * @param <DesiredM> the thirteenth desired type
+         * @param <DesiredN> the fourteenth desired type
+         * @param <DesiredO> the fifteenth desired type
+         * @param <DesiredP> the sixteenth desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfSixteen} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfSixteen}, {@code Optional.empty()} is returned instead.
          */
         @Override
         @SuppressWarnings("unchecked")
-        public <DesiredA, DesiredB, DesiredC>
-        Optional<OfThree<DesiredA, DesiredB, DesiredC>>
-        asThree(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC) {
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI, DesiredJ,
+                DesiredK, DesiredL, DesiredM, DesiredN, DesiredO, DesiredP>
+        Optional<OfSixteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH, DesiredI,
+                DesiredJ, DesiredK, DesiredL, DesiredM, DesiredN, DesiredO, DesiredP>>
+        asSixteen(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+                  final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+                  final Class<DesiredG> typeG, final Class<DesiredH> typeH, final Class<DesiredI> typeI,
+                  final Class<DesiredJ> typeJ, final Class<DesiredK> typeK, final Class<DesiredL> typeL,
+                  final Class<DesiredM> typeM, final Class<DesiredN> typeN, final Class<DesiredO> typeO,
+                  final Class<DesiredP> typeP) {
             if (typeA.isInstance(item1)
                     && typeB.isInstance(item2)
-                    && typeC.isInstance(item3))
-                return Optional.of((OfThree<DesiredA, DesiredB, DesiredC>) this);
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6)
+                    && typeG.isInstance(item7)
+                    && typeH.isInstance(item8)
+                    && typeI.isInstance(item9)
+                    && typeJ.isInstance(item10)
+                    && typeK.isInstance(item11)
+                    && typeL.isInstance(item12)
+                    && typeM.isInstance(item13)
+                    && typeN.isInstance(item14)
+                    && typeO.isInstance(item15)
+                    && typeP.isInstance(item16))
+                return Optional.of(
+                        (OfSixteen<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, DesiredH,
+                                DesiredI, DesiredJ, DesiredK, DesiredL, DesiredM, DesiredN, DesiredO, DesiredP>) this
+                );
             // Delegate to default implementation
-            return Tuple.super.asThree(typeA, typeB, typeC);
+            return Tuple.super.asSixteen(typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ, typeK,
+                    typeL, typeM, typeN, typeO, typeP);
         }
 
         @Override
-        public Object[] items() {
-            return new Object[]{item1, item2, item3};
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                case 6 -> item7;
+                case 7 -> item8;
+                case 8 -> item9;
+                case 9 -> item10;
+                case 10 -> item11;
+                case 11 -> item12;
+                case 12 -> item13;
+                case 13 -> item14;
+                case 14 -> item15;
+                case 15 -> item16;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 16;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+            dest[offset + 6] = item7;
+            dest[offset + 7] = item8;
+            dest[offset + 8] = item9;
+            dest[offset + 9] = item10;
+            dest[offset + 10] = item11;
+            dest[offset + 11] = item12;
+            dest[offset + 12] = item13;
+            dest[offset + 13] = item14;
+            dest[offset + 14] = item15;
+            dest[offset + 15] = item16;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof OfSixteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6)
+                    && Objects.equals(item7, other.item7)
+                    && Objects.equals(item8, other.item8)
+                    && Objects.equals(item9, other.item9)
+                    && Objects.equals(item10, other.item10)
+                    && Objects.equals(item11, other.item11)
+                    && Objects.equals(item12, other.item12)
+                    && Objects.equals(item13, other.item13)
+                    && Objects.equals(item14, other.item14)
+                    && Objects.equals(item15, other.item15)
+                    && Objects.equals(item16, other.item16);
         }
 
         @Override
@@ -782,18 +4038,29 @@ public sealed interface Tuple extends Iterable<TupleValue>
         }
     }
 
+    // endregion
+
     /**
-     * Represents a tuple object which contains four items.
+     * Represents a tuple object which contains seven items and an eighth nested {@code Tuple} object.
      *
      * @param <TypeA> The type of the first item contained within the tuple
      * @param <TypeB> The type of the second item contained within the tuple
      * @param <TypeC> The type of the third item contained within the tuple
      * @param <TypeD> The type of the fourth item contained within the tuple
+     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param <TypeG> The type of the seventh item contained within the tuple
+     * @param <TypeH> The type of the eighth item contained within the tuple. This type must implement the {@code Tuple}
+     *                interface.
      */
-    record OfFour<TypeA, TypeB, TypeC, TypeD>(TypeA item1, TypeB item2, TypeC item3, TypeD item4) implements Tuple {
+    record OfNested<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH extends Tuple>(TypeA item1, TypeB item2,
+                                                                                          TypeC item3, TypeD item4,
+                                                                                          TypeE item5, TypeF item6,
+                                                                                          TypeG item7,
+                                                                                          TypeH rest) implements Tuple {
         /**
-         * Attempts to represent this tuple as an {@code Tuple.OfFour} of the specified types. Although polymorphism
-         * ensures that this tuple will always be an {@code Tuple.OfFour} instance, the actual types of each item
+         * Attempts to represent this tuple as an {@code Tuple.OfNested} of the specified types. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.OfNested} instance, the actual types of each item
          * could potentially differ. If the items contained within this tuple do not conform to the specified types,
          * {@code Optional.empty()} is returned.
          *
@@ -801,31 +4068,175 @@ public sealed interface Tuple extends Iterable<TupleValue>
          * @param typeB      the second desired type's class
          * @param typeC      the third desired type's class
          * @param typeD      the fourth desired type's class
+         * @param typeE      the fifth desired type's class
+         * @param typeF      the sixth desired type's class
+         * @param typeG      the seventh desired type's class
          * @param <DesiredA> the first desired type
          * @param <DesiredB> the second desired type
          * @param <DesiredC> the third desired type
          * @param <DesiredD> the fourth desired type
-         * @return An {@code Optional} containing an {@code Tuple.OfFour} representation of this tuple. If this tuple
-         * cannot be represented as an {@code Tuple.OfFour}, {@code Optional.empty()} is returned instead.
+         * @param <DesiredE> the fifth desired type
+         * @param <DesiredF> the sixth desired type
+         * @param <DesiredG> the seventh desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfNested} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfNested}, {@code Optional.empty()} is returned instead.
          */
         @Override
         @SuppressWarnings("unchecked")
-        public <DesiredA, DesiredB, DesiredC, DesiredD>
-        Optional<OfFour<DesiredA, DesiredB, DesiredC, DesiredD>>
-        asFour(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
-               final Class<DesiredD> typeD) {
+        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG>
+        Optional<OfNested<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, Tuple>>
+        asNested(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
+                 final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
+                 final Class<DesiredG> typeG) {
+            if (typeA.isInstance(item1)
+                    && typeB.isInstance(item2)
+                    && typeC.isInstance(item3)
+                    && typeD.isInstance(item4)
+                    && typeE.isInstance(item5)
+                    && typeF.isInstance(item6)
+                    && typeG.isInstance(item7))
+                return Optional.of(
+                        (OfNested<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, Tuple>) this
+                );
+            // Delegate to default implementation
+            return Tuple.super.asNested(typeA, typeB, typeC, typeD, typeE, typeF, typeG);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                case 3 -> item4;
+                case 4 -> item5;
+                case 5 -> item6;
+                case 6 -> item7;
+                // Indices beyond the seventh item are resolved by the nested tuple, which rejects those beyond its end
+                default -> this.getNested(index);
+            };
+        }
+
+        private Object getNested(final int index) {
+            if (index < 0)
+                throw new IndexOutOfBoundsException(index);
+            try {
+                return rest.get(index - 7);
+            } catch (final IndexOutOfBoundsException e) {
+                // Report the index relative to this tuple rather than to the nested tuple
+                throw new IndexOutOfBoundsException(index);
+            }
+        }
+
+        @Override
+        public int arity() {
+            // The nested tuple's items count towards this tuple's arity
+            return 7 + rest.arity();
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+            dest[offset + 3] = item4;
+            dest[offset + 4] = item5;
+            dest[offset + 5] = item6;
+            dest[offset + 6] = item7;
+            // The nested tuple fills the remainder of the destination array directly
+            rest.copyInto(dest, offset + 7);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal. Tuples of differing arity are told apart by their innermost records,
+            // so their arities are not computed up front
+            return this == o || o instanceof OfNested<?, ?, ?, ?, ?, ?, ?, ?> other
+                    && Objects.equals(item1, other.item1)
+                    && Objects.equals(item2, other.item2)
+                    && Objects.equals(item3, other.item3)
+                    && Objects.equals(item4, other.item4)
+                    && Objects.equals(item5, other.item5)
+                    && Objects.equals(item6, other.item6)
+                    && Objects.equals(item7, other.item7)
+                    && rest.equals(other.rest);
+        }
+
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+    }
+
+    // region generated: specialized records
+
+    /**
+     * Represents a primitive-specialized tuple object which contains two {@code int} items.
+     * <p>
+     * Items are stored unboxed and may be read without boxing through {@code getInt(int)}. Please note that a
+     * {@code Tuple.IntPair} is never equal to a {@code Tuple.OfTwo} containing the same (boxed) items.
+     *
+     * @param item1 the first item contained within the tuple
+     * @param item2 the second item contained within the tuple
+     */
+    record IntPair(int item1, int item2) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.OfTwo} of the specified types. Since this tuple stores
+         * its items unboxed, the returned {@code Tuple.OfTwo} is a boxed copy of this tuple. If the boxed items
+         * contained within this tuple do not conform to the specified types, {@code Optional.empty()} is returned.
+         *
+         * @param typeA      the first desired type's class
+         * @param typeB      the second desired type's class
+         * @param <DesiredA> the first desired type
+         * @param <DesiredB> the second desired type
+         * @return An {@code Optional} containing an {@code Tuple.OfTwo} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfTwo}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        public <DesiredA, DesiredB>
+        Optional<OfTwo<DesiredA, DesiredB>>
+        asTwo(final Class<DesiredA> typeA, final Class<DesiredB> typeB) {
             if (typeA.isInstance(item1)
-                    && typeB.isInstance(item2)
-                    && typeC.isInstance(item3)
-                    && typeD.isInstance(item4))
-                return Optional.of((OfFour<DesiredA, DesiredB, DesiredC, DesiredD>) this);
+                    && typeB.isInstance(item2))
+                return Optional.of(new OfTwo<>(typeA.cast(item1), typeB.cast(item2)));
             // Delegate to default implementation
-            return Tuple.super.asFour(typeA, typeB, typeC, typeD);
+            return Tuple.super.asTwo(typeA, typeB);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int getInt(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                default -> Tuple.super.getInt(index);
+            };
         }
 
         @Override
-        public Object[] items() {
-            return new Object[]{item1, item2, item3, item4};
+        public int arity() {
+            return 2;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof IntPair other && item1 == other.item1 && item2 == other.item2;
         }
 
         @Override
@@ -836,54 +4247,71 @@ public sealed interface Tuple extends Iterable<TupleValue>
     }
 
     /**
-     * Represents a tuple object which contains five items.
+     * Represents a primitive-specialized tuple object which contains two {@code long} items.
+     * <p>
+     * Items are stored unboxed and may be read without boxing through {@code getLong(int)}. Please note that a
+     * {@code Tuple.LongPair} is never equal to a {@code Tuple.OfTwo} containing the same (boxed) items.
      *
-     * @param <TypeA> The type of the first item contained within the tuple
-     * @param <TypeB> The type of the second item contained within the tuple
-     * @param <TypeC> The type of the third item contained within the tuple
-     * @param <TypeD> The type of the fourth item contained within the tuple
-     * @param <TypeE> The type of the fifth item contained within the tuple
+     * @param item1 the first item contained within the tuple
+     * @param item2 the second item contained within the tuple
      */
-    record OfFive<TypeA, TypeB, TypeC, TypeD, TypeE>(TypeA item1, TypeB item2, TypeC item3, TypeD item4,
-                                                     TypeE item5) implements Tuple {
+    record LongPair(long item1, long item2) implements Tuple {
         /**
-         * Attempts to represent this tuple as an {@code Tuple.OfFive} of the specified types. Although polymorphism
-         * ensures that this tuple will always be an {@code Tuple.OfFive} instance, the actual types of each item
-         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
-         * {@code Optional.empty()} is returned.
+         * Attempts to represent this tuple as an {@code Tuple.OfTwo} of the specified types. Since this tuple stores
+         * its items unboxed, the returned {@code Tuple.OfTwo} is a boxed copy of this tuple. If the boxed items
+         * contained within this tuple do not conform to the specified types, {@code Optional.empty()} is returned.
          *
          * @param typeA      the first desired type's class
          * @param typeB      the second desired type's class
-         * @param typeC      the third desired type's class
-         * @param typeD      the fourth desired type's class
-         * @param typeE      the fifth desired type's class
          * @param <DesiredA> the first desired type
          * @param <DesiredB> the second desired type
-         * @param <DesiredC> the third desired type
-         * @param <DesiredD> the fourth desired type
-         * @param <DesiredE> the fifth desired type
-         * @return An {@code Optional} containing an {@code Tuple.OfFive} representation of this tuple. If this tuple
-         * cannot be represented as an {@code Tuple.OfFive}, {@code Optional.empty()} is returned instead.
+         * @return An {@code Optional} containing an {@code Tuple.OfTwo} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfTwo}, {@code Optional.empty()} is returned instead.
          */
         @Override
-        @SuppressWarnings("unchecked")
-        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE>
-        Optional<OfFive<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE>>
-        asFive(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
-               final Class<DesiredD> typeD, final Class<DesiredE> typeE) {
+        public <DesiredA, DesiredB>
+        Optional<OfTwo<DesiredA, DesiredB>>
+        asTwo(final Class<DesiredA> typeA, final Class<DesiredB> typeB) {
             if (typeA.isInstance(item1)
-                    && typeB.isInstance(item2)
-                    && typeC.isInstance(item3)
-                    && typeD.isInstance(item4)
-                    && typeE.isInstance(item5))
-                return Optional.of((OfFive<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE>) this);
+                    && typeB.isInstance(item2))
+                return Optional.of(new OfTwo<>(typeA.cast(item1), typeB.cast(item2)));
             // Delegate to default implementation
-            return Tuple.super.asFive(typeA, typeB, typeC, typeD, typeE);
+            return Tuple.super.asTwo(typeA, typeB);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public long getLong(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                default -> Tuple.super.getLong(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 2;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
         }
 
         @Override
-        public Object[] items() {
-            return new Object[]{item1, item2, item3, item4, item5};
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof LongPair other && item1 == other.item1 && item2 == other.item2;
         }
 
         @Override
@@ -894,58 +4322,73 @@ public sealed interface Tuple extends Iterable<TupleValue>
     }
 
     /**
-     * Represents a tuple object which contains six items.
+     * Represents a primitive-specialized tuple object which contains two {@code double} items.
+     * <p>
+     * Items are stored unboxed and may be read without boxing through {@code getDouble(int)}. Please note that a
+     * {@code Tuple.DoublePair} is never equal to a {@code Tuple.OfTwo} containing the same (boxed) items.
      *
-     * @param <TypeA> The type of the first item contained within the tuple
-     * @param <TypeB> The type of the second item contained within the tuple
-     * @param <TypeC> The type of the third item contained within the tuple
-     * @param <TypeD> The type of the fourth item contained within the tuple
-     * @param <TypeE> The type of the fifth item contained within the tuple
-     * @param <TypeF> The type of the sixth item contained within the tuple
+     * @param item1 the first item contained within the tuple
+     * @param item2 the second item contained within the tuple
      */
-    record OfSix<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF>(TypeA item1, TypeB item2, TypeC item3, TypeD item4,
-                                                           TypeE item5, TypeF item6) implements Tuple {
+    record DoublePair(double item1, double item2) implements Tuple {
         /**
-         * Attempts to represent this tuple as an {@code Tuple.OfSix} of the specified types. Although polymorphism
-         * ensures that this tuple will always be an {@code Tuple.OfSix} instance, the actual types of each item
-         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
-         * {@code Optional.empty()} is returned.
+         * Attempts to represent this tuple as an {@code Tuple.OfTwo} of the specified types. Since this tuple stores
+         * its items unboxed, the returned {@code Tuple.OfTwo} is a boxed copy of this tuple. If the boxed items
+         * contained within this tuple do not conform to the specified types, {@code Optional.empty()} is returned.
          *
          * @param typeA      the first desired type's class
          * @param typeB      the second desired type's class
-         * @param typeC      the third desired type's class
-         * @param typeD      the fourth desired type's class
-         * @param typeE      the fifth desired type's class
-         * @param typeF      the sixth desired type's class
          * @param <DesiredA> the first desired type
          * @param <DesiredB> the second desired type
-         * @param <DesiredC> the third desired type
-         * @param <DesiredD> the fourth desired type
-         * @param <DesiredE> the fifth desired type
-         * @param <DesiredF> the sixth desired type
-         * @return An {@code Optional} containing an {@code Tuple.OfSix} representation of this tuple. If this tuple
-         * cannot be represented as an {@code Tuple.OfSix}, {@code Optional.empty()} is returned instead.
+         * @return An {@code Optional} containing an {@code Tuple.OfTwo} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfTwo}, {@code Optional.empty()} is returned instead.
          */
         @Override
-        @SuppressWarnings("unchecked")
-        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF>
-        Optional<OfSix<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF>>
-        asSix(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
-              final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF) {
+        public <DesiredA, DesiredB>
+        Optional<OfTwo<DesiredA, DesiredB>>
+        asTwo(final Class<DesiredA> typeA, final Class<DesiredB> typeB) {
             if (typeA.isInstance(item1)
-                    && typeB.isInstance(item2)
-                    && typeC.isInstance(item3)
-                    && typeD.isInstance(item4)
-                    && typeE.isInstance(item5)
-                    && typeF.isInstance(item6))
-                return Optional.of((OfSix<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF>) this);
+                    && typeB.isInstance(item2))
+                return Optional.of(new OfTwo<>(typeA.cast(item1), typeB.cast(item2)));
             // Delegate to default implementation
-            return Tuple.super.asSix(typeA, typeB, typeC, typeD, typeE, typeF);
+            return Tuple.super.asTwo(typeA, typeB);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public double getDouble(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                default -> Tuple.super.getDouble(index);
+            };
         }
 
         @Override
-        public Object[] items() {
-            return new Object[]{item1, item2, item3, item4, item5, item6};
+        public int arity() {
+            return 2;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof DoublePair other
+                    && Double.compare(item1, other.item1) == 0
+                    && Double.compare(item2, other.item2) == 0;
         }
 
         @Override
@@ -956,66 +4399,80 @@ public sealed interface Tuple extends Iterable<TupleValue>
     }
 
     /**
-     * Represents a tuple object which contains seven items.
+     * Represents a primitive-specialized tuple object which contains an {@code int} item followed by a {@code long}
+     * item.
+     * <p>
+     * Items are stored unboxed and may be read without boxing through {@code getInt(int)} and {@code getLong(int)}.
+     * Please note that a {@code Tuple.IntLongPair} is never equal to a {@code Tuple.OfTwo} containing the same (boxed)
+     * items.
      *
-     * @param <TypeA> The type of the first item contained within the tuple
-     * @param <TypeB> The type of the second item contained within the tuple
-     * @param <TypeC> The type of the third item contained within the tuple
-     * @param <TypeD> The type of the fourth item contained within the tuple
-     * @param <TypeE> The type of the fifth item contained within the tuple
-     * @param <TypeF> The type of the sixth item contained within the tuple
-     * @param <TypeG> The type of the seventh item contained within the tuple
+     * @param item1 the first item contained within the tuple
+     * @param item2 the second item contained within the tuple
      */
-    record OfSeven<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG>(TypeA item1, TypeB item2, TypeC item3, TypeD item4,
-                                                                    TypeE item5, TypeF item6,
-                                                                    TypeG item7) implements Tuple {
+    record IntLongPair(int item1, long item2) implements Tuple {
         /**
-         * Attempts to represent this tuple as an {@code Tuple.OfSeven} of the specified types. Although polymorphism
-         * ensures that this tuple will always be an {@code Tuple.OfSeven} instance, the actual types of each item
-         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
-         * {@code Optional.empty()} is returned.
+         * Attempts to represent this tuple as an {@code Tuple.OfTwo} of the specified types. Since this tuple stores
+         * its items unboxed, the returned {@code Tuple.OfTwo} is a boxed copy of this tuple. If the boxed items
+         * contained within this tuple do not conform to the specified types, {@code Optional.empty()} is returned.
          *
          * @param typeA      the first desired type's class
          * @param typeB      the second desired type's class
-         * @param typeC      the third desired type's class
-         * @param typeD      the fourth desired type's class
-         * @param typeE      the fifth desired type's class
-         * @param typeF      the sixth desired type's class
-         * @param typeG      the seventh desired type's class
          * @param <DesiredA> the first desired type
          * @param <DesiredB> the second desired type
-         * @param <DesiredC> the third desired type
-         * @param <DesiredD> the fourth desired type
-         * @param <DesiredE> the fifth desired type
-         * @param <DesiredF> the sixth desired type
-         * @param <DesiredG> the seventh desired type
-         * @return An {@code Optional} containing an {@code Tuple.OfSeven} representation of this tuple. If this tuple
-         * cannot be represented as an {@code Tuple.OfSeven}, {@code Optional.empty()} is returned instead.
+         * @return An {@code Optional} containing an {@code Tuple.OfTwo} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfTwo}, {@code Optional.empty()} is returned instead.
          */
         @Override
-        @SuppressWarnings("unchecked")
-        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG>
-        Optional<OfSeven<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG>>
-        asSeven(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
-                final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
-                final Class<DesiredG> typeG) {
+        public <DesiredA, DesiredB>
+        Optional<OfTwo<DesiredA, DesiredB>>
+        asTwo(final Class<DesiredA> typeA, final Class<DesiredB> typeB) {
             if (typeA.isInstance(item1)
-                    && typeB.isInstance(item2)
-                    && typeC.isInstance(item3)
-                    && typeD.isInstance(item4)
-                    && typeE.isInstance(item5)
-                    && typeF.isInstance(item6)
-                    && typeG.isInstance(item7))
-                return Optional.of(
-                        (OfSeven<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG>) this
-                );
+                    && typeB.isInstance(item2))
+                return Optional.of(new OfTwo<>(typeA.cast(item1), typeB.cast(item2)));
             // Delegate to default implementation
-            return Tuple.super.asSeven(typeA, typeB, typeC, typeD, typeE, typeF, typeG);
+            return Tuple.super.asTwo(typeA, typeB);
         }
 
         @Override
-        public Object[] items() {
-            return new Object[]{item1, item2, item3, item4, item5, item6, item7};
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public int getInt(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                default -> Tuple.super.getInt(index);
+            };
+        }
+
+        @Override
+        public long getLong(final int index) {
+            return switch (index) {
+                case 1 -> item2;
+                default -> Tuple.super.getLong(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 2;
+        }
+
+        @Override
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof IntLongPair other && item1 == other.item1 && item2 == other.item2;
         }
 
         @Override
@@ -1026,74 +4483,81 @@ public sealed interface Tuple extends Iterable<TupleValue>
     }
 
     /**
-     * Represents a tuple object which contains seven items and an eighth nested {@code Tuple} object.
+     * Represents a primitive-specialized tuple object which contains three {@code double} items.
+     * <p>
+     * Items are stored unboxed and may be read without boxing through {@code getDouble(int)}. Please note that a
+     * {@code Tuple.DoubleTriple} is never equal to a {@code Tuple.OfThree} containing the same (boxed) items.
      *
-     * @param <TypeA> The type of the first item contained within the tuple
-     * @param <TypeB> The type of the second item contained within the tuple
-     * @param <TypeC> The type of the third item contained within the tuple
-     * @param <TypeD> The type of the fourth item contained within the tuple
-     * @param <TypeE> The type of the fifth item contained within the tuple
-     * @param <TypeF> The type of the sixth item contained within the tuple
-     * @param <TypeG> The type of the seventh item contained within the tuple
-     * @param <TypeH> The type of the eighth item contained within the tuple. This type must implement the {@code Tuple}
-     *                interface.
+     * @param item1 the first item contained within the tuple
+     * @param item2 the second item contained within the tuple
+     * @param item3 the third item contained within the tuple
      */
-    record OfNested<TypeA, TypeB, TypeC, TypeD, TypeE, TypeF, TypeG, TypeH extends Tuple>(TypeA item1, TypeB item2,
-                                                                                          TypeC item3, TypeD item4,
-                                                                                          TypeE item5, TypeF item6,
-                                                                                          TypeG item7,
-                                                                                          TypeH rest) implements Tuple {
+    record DoubleTriple(double item1, double item2, double item3) implements Tuple {
         /**
-         * Attempts to represent this tuple as an {@code Tuple.OfNested} of the specified types. Although polymorphism
-         * ensures that this tuple will always be an {@code Tuple.OfNested} instance, the actual types of each item
-         * could potentially differ. If the items contained within this tuple do not conform to the specified types,
-         * {@code Optional.empty()} is returned.
+         * Attempts to represent this tuple as an {@code Tuple.OfThree} of the specified types. Since this tuple stores
+         * its items unboxed, the returned {@code Tuple.OfThree} is a boxed copy of this tuple. If the boxed items
+         * contained within this tuple do not conform to the specified types, {@code Optional.empty()} is returned.
          *
          * @param typeA      the first desired type's class
          * @param typeB      the second desired type's class
          * @param typeC      the third desired type's class
-         * @param typeD      the fourth desired type's class
-         * @param typeE      the fifth desired type's class
-         * @param typeF      the sixth desired type's class
-         * @param typeG      the seventh desired type's class
          * @param <DesiredA> the first desired type
          * @param <DesiredB> the second desired type
          * @param <DesiredC> the third desired type
-         * @param <DesiredD> the fourth desired type
-         * @param <DesiredE> the fifth desired type
-         * @param <DesiredF> the sixth desired type
-         * @param <DesiredG> the seventh desired type
-         * @return An {@code Optional} containing an {@code Tuple.OfNested} representation of this tuple. If this tuple
-         * cannot be represented as an {@code Tuple.OfNested}, {@code Optional.empty()} is returned instead.
+         * @return An {@code Optional} containing an {@code Tuple.OfThree} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.OfThree}, {@code Optional.empty()} is returned instead.
          */
         @Override
-        @SuppressWarnings("unchecked")
-        public <DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG>
-        Optional<OfNested<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, Tuple>>
-        asNested(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC,
-                 final Class<DesiredD> typeD, final Class<DesiredE> typeE, final Class<DesiredF> typeF,
-                 final Class<DesiredG> typeG) {
+        public <DesiredA, DesiredB, DesiredC>
+        Optional<OfThree<DesiredA, DesiredB, DesiredC>>
+        asThree(final Class<DesiredA> typeA, final Class<DesiredB> typeB, final Class<DesiredC> typeC) {
             if (typeA.isInstance(item1)
                     && typeB.isInstance(item2)
-                    && typeC.isInstance(item3)
-                    && typeD.isInstance(item4)
-                    && typeE.isInstance(item5)
-                    && typeF.isInstance(item6)
-                    && typeG.isInstance(item7))
-                return Optional.of(
-                        (OfNested<DesiredA, DesiredB, DesiredC, DesiredD, DesiredE, DesiredF, DesiredG, Tuple>) this
-                );
+                    && typeC.isInstance(item3))
+                return Optional.of(new OfThree<>(typeA.cast(item1), typeB.cast(item2), typeC.cast(item3)));
             // Delegate to default implementation
-            return Tuple.super.asNested(typeA, typeB, typeC, typeD, typeE, typeF, typeG);
+            return Tuple.super.asThree(typeA, typeB, typeC);
+        }
+
+        @Override
+        public Object get(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Override
+        public double getDouble(final int index) {
+            return switch (index) {
+                case 0 -> item1;
+                case 1 -> item2;
+                case 2 -> item3;
+                default -> Tuple.super.getDouble(index);
+            };
+        }
+
+        @Override
+        public int arity() {
+            return 3;
         }
 
         @Override
-        public Object[] items() {
-            final Object[] myItems = new Object[]{item1, item2, item3, item4, item5, item6, item7},
-                    restItems = rest.items(), allItems = new Object[myItems.length + restItems.length];
-            System.arraycopy(myItems, 0, allItems, 0, myItems.length);
-            System.arraycopy(restItems, 0, allItems, myItems.length, restItems.length);
-            return allItems;
+        public void copyInto(final Object[] dest, final int offset) {
+            dest[offset] = item1;
+            dest[offset + 1] = item2;
+            dest[offset + 2] = item3;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            // Identical tuples are always equal, so no items need to be compared
+            return this == o || o instanceof DoubleTriple other
+                    && Double.compare(item1, other.item1) == 0
+                    && Double.compare(item2, other.item2) == 0
+                    && Double.compare(item3, other.item3) == 0;
         }
 
         @Override
@@ -1103,12 +4567,14 @@ public sealed interface Tuple extends Iterable<TupleValue>
         }
     }
 
+    // endregion
+
     /**
      * Represents an item contained within a tuple along with its corresponding Class object. This record is used when
      * iterating over a tuple.
      * <p>
      * It is important to note that this neither the item value nor its type can be generified due to the fact that a
-     * tuple can contain items of different types.
+     * tuple can contain items of different types. The type of a null item is {@code null}.
      */
     record TupleValue(Object value, Class<?> type) {
     }
@@ -0,0 +1,176 @@
+package com.homeworkhopper;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.function.Consumer;
+
+/**
+ * Reads a stream of tuples written by a {@link TupleChannelWriter} from a channel, such as a {@code FileChannel} or
+ * {@code SocketChannel}.
+ * <p>
+ * Bytes are read from the channel in bulk into a single, reusable direct buffer, and each tuple is decoded directly
+ * from that buffer, so reading a tuple allocates nothing beyond the tuple and its items. The buffer only grows if a
+ * single encoded tuple does not fit within it. Since the length of each tuple is read from the stream, a length larger
+ * than the maximum frame size is rejected before any buffer is allocated for it.
+ * <p>
+ * The channel must be in blocking mode. Readers are not thread safe.
+ *
+ * @author Shaun Thornton
+ * @see TupleChannelWriter
+ */
+public final class TupleChannelReader implements Closeable {
+
+    private final ReadableByteChannel channel;
+
+    private final int maxFrameSize;
+
+    /**
+     * The buffer, which is always ready to be read from between calls.
+     */
+    private ByteBuffer buffer;
+
+    private boolean closed;
+
+    /**
+     * Creates a new reader which reads from the specified channel, using a buffer of the default size.
+     *
+     * @param channel the channel to read from
+     */
+    public TupleChannelReader(final ReadableByteChannel channel) {
+        this(channel, TupleChannelWriter.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new reader which reads from the specified channel, using a buffer of the specified size.
+     *
+     * @param channel    the channel to read from
+     * @param bufferSize the initial size of the buffer, in bytes
+     * @throws IllegalArgumentException if the buffer size is less than eight bytes
+     */
+    public TupleChannelReader(final ReadableByteChannel channel, final int bufferSize) {
+        this(channel, bufferSize, TupleChannelWriter.DEFAULT_MAX_FRAME_SIZE);
+    }
+
+    /**
+     * Creates a new reader which reads from the specified channel, using a buffer of the specified size, and rejecting
+     * any tuple whose encoding is larger than the specified maximum.
+     *
+     * @param channel      the channel to read from
+     * @param bufferSize   the initial size of the buffer, in bytes
+     * @param maxFrameSize the largest encoded tuple to read, in bytes
+     * @throws IllegalArgumentException if the buffer size is less than eight bytes, or the maximum frame size is not
+     *                                  positive or exceeds {@code Integer.MAX_VALUE - 8}
+     */
+    public TupleChannelReader(final ReadableByteChannel channel, final int bufferSize, final int maxFrameSize) {
+        if (bufferSize < 8)
+            throw new IllegalArgumentException("Buffer size must be at least 8 bytes: " + bufferSize);
+        this.channel = channel;
+        this.maxFrameSize = TupleChannelWriter.maxFrameSize(maxFrameSize);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize).flip();
+    }
+
+    /**
+     * Reads the next tuple.
+     *
+     * @return the next tuple, or {@code null} if the end of the stream has been reached
+     * @throws EOFException              if the stream ends part way through a tuple
+     * @throws StreamCorruptedException  if the stream does not contain a valid encoding, or a tuple is larger than the
+     *                                   maximum frame size
+     * @throws IOException               if any other I/O error occurs, or this reader is closed
+     */
+    public Tuple read() throws IOException {
+        if (this.closed)
+            throw new ClosedChannelException();
+        if (!this.fill(Integer.BYTES)) {
+            if (this.buffer.hasRemaining())
+                throw new EOFException("Stream ended part way through a tuple");
+            return null;
+        }
+        final int start = this.buffer.position();
+        final int length = this.buffer.getInt(start);
+        if (length <= 0)
+            throw new StreamCorruptedException("Invalid tuple length: " + length);
+        // Checked before filling, so that a corrupt length never allocates a buffer or overflows the arithmetic below
+        if (length > this.maxFrameSize)
+            throw new StreamCorruptedException("Tuple length " + length + " exceeds the maximum frame size of "
+                    + this.maxFrameSize + " bytes");
+        if (!this.fill(Integer.BYTES + length))
+            throw new EOFException("Stream ended part way through a tuple");
+
+        // The buffer may have been compacted, and the tuple is decoded from within its limits alone
+        final int from = this.buffer.position() + Integer.BYTES, to = from + length, limit = this.buffer.limit();
+        this.buffer.limit(to).position(from);
+        try {
+            final Tuple tuple = TupleCodec.decode(this.buffer);
+            if (this.buffer.hasRemaining())
+                throw new StreamCorruptedException("Tuple is shorter than its length");
+            return tuple;
+        } catch (final IllegalArgumentException | BufferUnderflowException e) {
+            final StreamCorruptedException exception = new StreamCorruptedException("Invalid tuple encoding");
+            exception.initCause(e);
+            throw exception;
+        } finally {
+            this.buffer.limit(limit).position(to);
+        }
+    }
+
+    /**
+     * Reads every remaining tuple, performing the specified action for each.
+     *
+     * @param action the action to perform for each tuple
+     * @throws IOException if an I/O error occurs, or this reader is closed
+     */
+    public void readAll(final Consumer<? super Tuple> action) throws IOException {
+        for (Tuple tuple = this.read(); tuple != null; tuple = this.read())
+            action.accept(tuple);
+    }
+
+    /**
+     * Closes this reader and its channel. Closing a reader which is already closed has no effect.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed)
+            return;
+        this.closed = true;
+        this.channel.close();
+    }
+
+    /**
+     * Ensures that at least the specified number of bytes remain within the buffer, reading from the channel if
+     * required.
+     *
+     * @param needed the number of bytes required
+     * @return {@code true} if enough bytes remain, or {@code false} if the stream ended first
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean fill(final int needed) throws IOException {
+        if (this.buffer.remaining() >= needed)
+            return true;
+        if (this.buffer.capacity() < needed) {
+            final int largest = Integer.BYTES + this.maxFrameSize;
+            final ByteBuffer grown = ByteBuffer.allocateDirect((int) Math.max(needed,
+                    Math.min(2L * this.buffer.capacity(), largest)));
+            this.buffer = grown.put(this.buffer);
+        } else {
+            this.buffer.compact();
+        }
+        // Read as much as the channel offers, so that subsequent tuples are usually buffered already
+        while (this.buffer.position() < needed) {
+            if (this.channel.read(this.buffer) < 0) {
+                this.buffer.flip();
+                return false;
+            }
+        }
+        this.buffer.flip();
+        return true;
+    }
+}
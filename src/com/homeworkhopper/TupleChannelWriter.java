@@ -0,0 +1,196 @@
+package com.homeworkhopper;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes a stream of tuples to a channel, such as a {@code FileChannel} or {@code SocketChannel}.
+ * <p>
+ * Each tuple is written as a four byte length followed by its {@link TupleCodec} encoding. Tuples are encoded directly
+ * into a single, reusable direct buffer, which is only written to the channel once it is full or this writer is
+ * flushed, so writing a tuple neither allocates nor performs I/O of its own. The buffer only grows if a single encoded
+ * tuple does not fit within it, and never beyond the largest frame this writer accepts.
+ * <p>
+ * The channel must be in blocking mode. Writers are not thread safe.
+ *
+ * @author Shaun Thornton
+ * @see TupleChannelReader
+ */
+public final class TupleChannelWriter implements Closeable, Flushable {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The default largest encoded tuple, in bytes, which is written or read.
+     */
+    static final int DEFAULT_MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The largest frame size which may be configured. Together with its length, a frame of this size still fits
+     * within a single buffer, so no frame arithmetic can overflow an {@code int}.
+     */
+    static final int MAX_FRAME_SIZE = Integer.MAX_VALUE - 2 * Integer.BYTES;
+
+    private final WritableByteChannel channel;
+
+    private final int maxFrameSize;
+
+    private ByteBuffer buffer;
+
+    private boolean closed;
+
+    /**
+     * Creates a new writer which writes to the specified channel, using a buffer of the default size.
+     *
+     * @param channel the channel to write to
+     */
+    public TupleChannelWriter(final WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new writer which writes to the specified channel, using a buffer of the specified size.
+     *
+     * @param channel    the channel to write to
+     * @param bufferSize the initial size of the buffer, in bytes
+     * @throws IllegalArgumentException if the buffer size is less than eight bytes
+     */
+    public TupleChannelWriter(final WritableByteChannel channel, final int bufferSize) {
+        this(channel, bufferSize, DEFAULT_MAX_FRAME_SIZE);
+    }
+
+    /**
+     * Creates a new writer which writes to the specified channel, using a buffer of the specified size, and rejecting
+     * any tuple whose encoding is larger than the specified maximum.
+     *
+     * @param channel      the channel to write to
+     * @param bufferSize   the initial size of the buffer, in bytes
+     * @param maxFrameSize the largest encoded tuple to write, in bytes
+     * @throws IllegalArgumentException if the buffer size is less than eight bytes, or the maximum frame size is not
+     *                                  positive or exceeds {@code Integer.MAX_VALUE - 8}
+     */
+    public TupleChannelWriter(final WritableByteChannel channel, final int bufferSize, final int maxFrameSize) {
+        if (bufferSize < 8)
+            throw new IllegalArgumentException("Buffer size must be at least 8 bytes: " + bufferSize);
+        this.channel = channel;
+        this.maxFrameSize = maxFrameSize(maxFrameSize);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Writes the specified tuple, which may remain buffered until this writer is flushed.
+     *
+     * @param tuple a tuple object
+     * @throws IOException              if an I/O error occurs, or this writer is closed
+     * @throws IllegalArgumentException if the tuple contains an item which {@code TupleCodec} cannot encode, or its
+     *                                  encoding is larger than the maximum frame size
+     */
+    public void write(final Tuple tuple) throws IOException {
+        this.ensureOpen();
+        while (true) {
+            final int start = this.buffer.position();
+            if (this.buffer.remaining() > Integer.BYTES) {
+                this.buffer.position(start + Integer.BYTES);
+                try {
+                    TupleCodec.encode(tuple, this.buffer);
+                    // The length is only known once the tuple has been encoded
+                    final int length = this.buffer.position() - start - Integer.BYTES;
+                    if (length > this.maxFrameSize)
+                        throw this.tooLarge();
+                    this.buffer.putInt(start, length);
+                    return;
+                } catch (final BufferOverflowException e) {
+                    this.buffer.position(start);
+                } catch (final RuntimeException e) {
+                    this.buffer.position(start);
+                    throw e;
+                }
+            }
+            // A single tuple which does not fit within an empty buffer requires the buffer to grow
+            if (start > 0) {
+                this.drain();
+            } else {
+                final int largest = Integer.BYTES + this.maxFrameSize;
+                if (this.buffer.capacity() >= largest)
+                    throw this.tooLarge();
+                this.buffer = ByteBuffer.allocateDirect((int) Math.min(2L * this.buffer.capacity(), largest));
+            }
+        }
+    }
+
+    /**
+     * Writes each of the specified tuples, in order.
+     *
+     * @param tuples the tuples to write
+     * @throws IOException              if an I/O error occurs, or this writer is closed
+     * @throws IllegalArgumentException if a tuple contains an item which {@code TupleCodec} cannot encode, or its
+     *                                  encoding is larger than the maximum frame size
+     */
+    public void writeAll(final Iterable<? extends Tuple> tuples) throws IOException {
+        for (final Tuple tuple : tuples)
+            this.write(tuple);
+    }
+
+    /**
+     * Writes every buffered tuple to the channel.
+     *
+     * @throws IOException if an I/O error occurs, or this writer is closed
+     */
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+        this.drain();
+    }
+
+    /**
+     * Flushes this writer and closes its channel. Closing a writer which is already closed has no effect.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed)
+            return;
+        this.closed = true;
+        try (this.channel) {
+            this.drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining())
+            this.channel.write(this.buffer);
+        this.buffer.clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.closed)
+            throw new ClosedChannelException();
+    }
+
+    private IllegalArgumentException tooLarge() {
+        return new IllegalArgumentException("Tuple is larger than the maximum frame size of " + this.maxFrameSize
+                + " bytes");
+    }
+
+    /**
+     * Returns the specified maximum frame size, once it has been validated.
+     *
+     * @param maxFrameSize the largest encoded tuple, in bytes
+     * @return the specified maximum frame size
+     * @throws IllegalArgumentException if the maximum frame size is not positive or exceeds
+     *                                  {@code Integer.MAX_VALUE - 8}
+     */
+    static int maxFrameSize(final int maxFrameSize) {
+        if (maxFrameSize <= 0 || maxFrameSize > MAX_FRAME_SIZE)
+            throw new IllegalArgumentException("Maximum frame size must be between 1 and " + MAX_FRAME_SIZE
+                    + " bytes: " + maxFrameSize);
+        return maxFrameSize;
+    }
+}
@@ -0,0 +1,503 @@
+package com.homeworkhopper;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compact binary encoding of tuples.
+ * <p>
+ * Each encoded tuple begins with a single byte describing its form. Primitive-specialized tuples are fully described
+ * by their form, and are followed directly by their items. Any other tuple is followed by its arity (flat tuples only)
+ * and a type tag for each of its items, after which the items themselves follow. Nested tuples encode their first
+ * seven items in the same way, followed by the encoding of the tuple they nest.
+ * <p>
+ * Items are encoded as follows:
+ * <ul>
+ *     <li>{@code Integer}, {@code Long} and {@code Short} items as zigzag varints, so that small magnitudes of either
+ *     sign are encoded in few bytes</li>
+ *     <li>{@code Byte}, {@code Boolean}, {@code Character}, {@code Float} and {@code Double} items at their fixed
+ *     width</li>
+ *     <li>{@code String} items as a varint length followed by their UTF-8 bytes</li>
+ *     <li>{@code byte[]} items as a varint length followed by their bytes</li>
+ *     <li>{@code Tuple} items as their own encoding</li>
+ *     <li>{@code null} items as their type tag alone</li>
+ * </ul>
+ * Any other type of item is rejected. Decoding a tuple produces the same record it was encoded from, so a decoded
+ * tuple is equal to the original unless it contains a {@code byte[]} item or a string with unpaired surrogates. A
+ * {@code byte[]} item is decoded as a new array with the same contents, which records compare by identity rather than
+ * by contents, while unpaired surrogates cannot be represented in UTF-8 and are replaced by {@code '?'}.
+ * <p>
+ * A {@code Tuple} item may itself contain {@code Tuple} items, up to {@value #MAX_DEPTH} levels deep. The limit is
+ * enforced when encoding and decoding alike, so that a crafted encoding cannot exhaust the stack. Long tuples, which
+ * nest once for every seven items, are neither limited nor encoded recursively.
+ *
+ * @author Shaun Thornton
+ */
+public final class TupleCodec {
+
+    // Forms, each of which begins an encoded tuple
+    private static final byte FLAT = 0, NESTED = 1, INT_PAIR = 2, LONG_PAIR = 3, DOUBLE_PAIR = 4, INT_LONG_PAIR = 5,
+            DOUBLE_TRIPLE = 6;
+
+    // Type tags, each of which precedes the items of a flat or nested tuple
+    private static final byte NULL = 0, BOOLEAN = 1, BYTE = 2, SHORT = 3, CHARACTER = 4, INTEGER = 5, LONG = 6,
+            FLOAT = 7, DOUBLE = 8, STRING = 9, BYTES = 10, TUPLE = 11;
+
+    /**
+     * The deepest level at which an item may appear, counting the items of the outermost tuple as the first level and
+     * the items of each {@code Tuple} item as one level deeper than the item itself.
+     */
+    static final int MAX_DEPTH = 64;
+
+    /**
+     * The largest array which may be allocated for an encoded tuple.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private TupleCodec() {
+    }
+
+    /**
+     * Encodes the specified tuple into a new array.
+     *
+     * @param tuple a tuple object
+     * @return the encoded tuple
+     * @throws IllegalArgumentException if the tuple contains an item of an unsupported type, contains tuple items
+     *                                  nested too deeply, or is too large to encode into an array
+     */
+    public static byte[] encode(final Tuple tuple) {
+        // The size is measured up front, so that the tuple is encoded once, into an array of exactly that size
+        final long size = sizeOf(tuple, 1);
+        if (size > MAX_ARRAY_SIZE)
+            throw new IllegalArgumentException("Encoded tuple is too large: " + size + " bytes");
+        final byte[] bytes = new byte[(int) size];
+        write(tuple, ByteBuffer.wrap(bytes), 1);
+        return bytes;
+    }
+
+    /**
+     * Encodes the specified tuple into the specified buffer, starting at its position. If the tuple does not fit
+     * within the remaining space of the buffer, or cannot be encoded, the position of the buffer is left unchanged.
+     *
+     * @param tuple  a tuple object
+     * @param buffer the buffer to encode the tuple into
+     * @throws BufferOverflowException  if the buffer has insufficient space remaining
+     * @throws IllegalArgumentException if the tuple contains an item of an unsupported type, or contains tuple items
+     *                                  nested too deeply
+     */
+    public static void encode(final Tuple tuple, final ByteBuffer buffer) {
+        final int start = buffer.position();
+        try {
+            write(tuple, buffer, 1);
+        } catch (final RuntimeException e) {
+            buffer.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Decodes a tuple from the specified array.
+     *
+     * @param bytes an encoded tuple
+     * @return the decoded tuple
+     * @throws IllegalArgumentException if the array does not contain a valid encoding, including if it ends before the
+     *                                  encoded tuple does
+     */
+    public static Tuple decode(final byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final Tuple tuple;
+        try {
+            tuple = decode(buffer);
+        } catch (final BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated encoded tuple", e);
+        }
+        if (buffer.hasRemaining())
+            throw new IllegalArgumentException("Trailing bytes after encoded tuple");
+        return tuple;
+    }
+
+    /**
+     * Decodes a tuple from the specified buffer, starting at its position. The position of the buffer is advanced past
+     * the encoded tuple.
+     *
+     * @param buffer the buffer to decode the tuple from
+     * @return the decoded tuple
+     * @throws BufferUnderflowException if the buffer ends before the encoded tuple does
+     * @throws IllegalArgumentException if the buffer does not contain a valid encoding, or contains tuple items
+     *                                  nested too deeply
+     */
+    public static Tuple decode(final ByteBuffer buffer) {
+        return decode(buffer, 1);
+    }
+
+    // --- Encoding ---
+
+    /**
+     * Returns the number of bytes in the encoding of the specified tuple, whose items are at the specified depth.
+     */
+    private static long sizeOf(final Tuple tuple, final int depth) {
+        long size = 0;
+        Tuple node = tuple;
+        while (node instanceof Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?> nested) {
+            // A form and seven tags, followed by seven items
+            size += 1 + 7;
+            for (int i = 0; i < 7; i++)
+                size += sizeOfItem(nested.get(i), depth);
+            node = nested.rest();
+        }
+        if (node instanceof Tuple.IntPair pair)
+            return size + 1 + zigzagSize(pair.item1()) + zigzagSize(pair.item2());
+        if (node instanceof Tuple.LongPair pair)
+            return size + 1 + zigzagSize(pair.item1()) + zigzagSize(pair.item2());
+        if (node instanceof Tuple.DoublePair)
+            return size + 1 + 2 * Double.BYTES;
+        if (node instanceof Tuple.IntLongPair pair)
+            return size + 1 + zigzagSize(pair.item1()) + zigzagSize(pair.item2());
+        if (node instanceof Tuple.DoubleTriple)
+            return size + 1 + 3 * Double.BYTES;
+        final int arity = node.arity();
+        size += 1 + varintSize(arity) + arity;
+        for (int i = 0; i < arity; i++)
+            size += sizeOfItem(node.get(i), depth);
+        return size;
+    }
+
+    private static long sizeOfItem(final Object item, final int depth) {
+        return switch (tagOf(item)) {
+            case NULL -> 0;
+            case BOOLEAN, BYTE -> 1;
+            case SHORT -> zigzagSize((Short) item);
+            case CHARACTER -> Character.BYTES;
+            case INTEGER -> zigzagSize((Integer) item);
+            case LONG -> zigzagSize((Long) item);
+            case FLOAT -> Float.BYTES;
+            case DOUBLE -> Double.BYTES;
+            case STRING -> {
+                final int length = utf8Length((String) item);
+                yield varintSize(length) + length;
+            }
+            case BYTES -> varintSize(((byte[]) item).length) + ((byte[]) item).length;
+            default -> sizeOf((Tuple) item, deeper(depth));
+        };
+    }
+
+    private static void write(final Tuple tuple, final ByteBuffer buffer, final int depth) {
+        // Each level of nesting is written in turn, rather than recursively, since long tuples nest deeply
+        Tuple node = tuple;
+        while (node instanceof Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?> nested) {
+            buffer.put(NESTED);
+            writeItems(buffer, nested, 7, depth);
+            node = nested.rest();
+        }
+        // Specialized tuples are described entirely by their form, so neither their arity nor their tags are written
+        if (node instanceof Tuple.IntPair pair) {
+            buffer.put(INT_PAIR);
+            writeZigzag(buffer, pair.item1());
+            writeZigzag(buffer, pair.item2());
+        } else if (node instanceof Tuple.LongPair pair) {
+            buffer.put(LONG_PAIR);
+            writeZigzag(buffer, pair.item1());
+            writeZigzag(buffer, pair.item2());
+        } else if (node instanceof Tuple.DoublePair pair) {
+            buffer.put(DOUBLE_PAIR).putDouble(pair.item1()).putDouble(pair.item2());
+        } else if (node instanceof Tuple.IntLongPair pair) {
+            buffer.put(INT_LONG_PAIR);
+            writeZigzag(buffer, pair.item1());
+            writeZigzag(buffer, pair.item2());
+        } else if (node instanceof Tuple.DoubleTriple triple) {
+            buffer.put(DOUBLE_TRIPLE).putDouble(triple.item1()).putDouble(triple.item2()).putDouble(triple.item3());
+        } else {
+            buffer.put(FLAT);
+            writeVarint(buffer, node.arity());
+            writeItems(buffer, node, node.arity(), depth);
+        }
+    }
+
+    private static void writeItems(final ByteBuffer buffer, final Tuple tuple, final int count, final int depth) {
+        // All tags are written ahead of the items, so that a reader learns the shape of the tuple up front
+        for (int i = 0; i < count; i++)
+            buffer.put(tagOf(tuple.get(i)));
+        for (int i = 0; i < count; i++)
+            writeItem(buffer, tuple.get(i), depth);
+    }
+
+    private static byte tagOf(final Object item) {
+        if (item == null)
+            return NULL;
+        if (item instanceof Integer)
+            return INTEGER;
+        if (item instanceof Long)
+            return LONG;
+        if (item instanceof Double)
+            return DOUBLE;
+        if (item instanceof String)
+            return STRING;
+        if (item instanceof Boolean)
+            return BOOLEAN;
+        if (item instanceof Byte)
+            return BYTE;
+        if (item instanceof Short)
+            return SHORT;
+        if (item instanceof Character)
+            return CHARACTER;
+        if (item instanceof Float)
+            return FLOAT;
+        if (item instanceof byte[])
+            return BYTES;
+        if (item instanceof Tuple)
+            return TUPLE;
+        throw new IllegalArgumentException("Unsupported item type: " + item.getClass().getName());
+    }
+
+    private static void writeItem(final ByteBuffer buffer, final Object item, final int depth) {
+        if (item instanceof Integer value)
+            writeZigzag(buffer, value);
+        else if (item instanceof Long value)
+            writeZigzag(buffer, value);
+        else if (item instanceof Double value)
+            buffer.putDouble(value);
+        else if (item instanceof String value)
+            writeString(buffer, value);
+        else if (item instanceof Boolean value)
+            buffer.put((byte) (value ? 1 : 0));
+        else if (item instanceof Byte value)
+            buffer.put(value);
+        else if (item instanceof Short value)
+            writeZigzag(buffer, value);
+        else if (item instanceof Character value)
+            buffer.putChar(value);
+        else if (item instanceof Float value)
+            buffer.putFloat(value);
+        else if (item instanceof byte[] value) {
+            writeVarint(buffer, value.length);
+            buffer.put(value);
+        } else if (item instanceof Tuple value)
+            write(value, buffer, deeper(depth));
+    }
+
+    private static void writeVarint(final ByteBuffer buffer, int value) {
+        while ((value & ~0x7f) != 0) {
+            buffer.put((byte) (value & 0x7f | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static void writeVarint(final ByteBuffer buffer, long value) {
+        while ((value & ~0x7fL) != 0) {
+            buffer.put((byte) (value & 0x7f | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int varintSize(final int value) {
+        // Each byte holds seven bits, and zero still occupies a byte
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    private static int zigzagSize(final int value) {
+        return varintSize(value << 1 ^ value >> 31);
+    }
+
+    private static int zigzagSize(final long value) {
+        return (70 - Long.numberOfLeadingZeros(value << 1 ^ value >> 63 | 1)) / 7;
+    }
+
+    private static void writeZigzag(final ByteBuffer buffer, final int value) {
+        writeVarint(buffer, value << 1 ^ value >> 31);
+    }
+
+    private static void writeZigzag(final ByteBuffer buffer, final long value) {
+        writeVarint(buffer, value << 1 ^ value >> 63);
+    }
+
+    private static void writeString(final ByteBuffer buffer, final String value) {
+        final int length = value.length();
+        writeVarint(buffer, utf8Length(value));
+        // Characters are encoded directly into the buffer, rather than into an intermediate array
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xc0 | c >> 6)).put((byte) (0x80 | c & 0x3f));
+            } else if (isSurrogatePair(value, i)) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xf0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3f))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3f)).put((byte) (0x80 | codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xe0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3f)).put((byte) (0x80 | c & 0x3f));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes in the UTF-8 encoding of the specified string. Since no character takes more than
+     * three bytes, the result never overflows.
+     */
+    private static int utf8Length(final String value) {
+        final int length = value.length();
+        int encoded = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                encoded++;
+            } else if (c < 0x800) {
+                encoded += 2;
+            } else if (isSurrogatePair(value, i)) {
+                encoded += 4;
+                i++;
+            } else {
+                // Unpaired surrogates are replaced by a single '?', as they are by String.getBytes
+                encoded += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Returns the depth of the items of a {@code Tuple} item at the specified depth.
+     *
+     * @throws IllegalArgumentException if that depth exceeds the maximum
+     */
+    private static int deeper(final int depth) {
+        if (depth >= MAX_DEPTH)
+            throw new IllegalArgumentException("Tuple items are nested more than " + MAX_DEPTH + " levels deep");
+        return depth + 1;
+    }
+
+    private static boolean isSurrogatePair(final String value, final int index) {
+        return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    // --- Decoding ---
+
+    private static Tuple decode(final ByteBuffer buffer, final int depth) {
+        // Each level of nesting is read in turn, rather than recursively, since long tuples nest deeply
+        List<Object[]> levels = null;
+        byte form = buffer.get();
+        while (form == NESTED) {
+            if (levels == null)
+                levels = new ArrayList<>();
+            levels.add(readItems(buffer, 7, depth));
+            form = buffer.get();
+        }
+        Tuple tuple = switch (form) {
+            case FLAT -> {
+                final int arity = readVarint(buffer);
+                // Every item has a tag, so an arity beyond the remaining bytes cannot be valid
+                if (arity <= 0 || arity > buffer.remaining())
+                    throw new IllegalArgumentException("Invalid arity: " + arity);
+                yield Tuple.fromArray(readItems(buffer, arity, depth));
+            }
+            case INT_PAIR -> new Tuple.IntPair(readZigzag(buffer), readZigzag(buffer));
+            case LONG_PAIR -> new Tuple.LongPair(readZigzagLong(buffer), readZigzagLong(buffer));
+            case DOUBLE_PAIR -> new Tuple.DoublePair(buffer.getDouble(), buffer.getDouble());
+            case INT_LONG_PAIR -> new Tuple.IntLongPair(readZigzag(buffer), readZigzagLong(buffer));
+            case DOUBLE_TRIPLE -> new Tuple.DoubleTriple(buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+            default -> throw new IllegalArgumentException("Unknown tuple form: " + form);
+        };
+        if (levels != null) {
+            for (int level = levels.size() - 1; level >= 0; level--) {
+                final Object[] items = levels.get(level);
+                tuple = new Tuple.OfNested<>(items[0], items[1], items[2], items[3], items[4], items[5], items[6],
+                        tuple);
+            }
+        }
+        return tuple;
+    }
+
+    private static Object[] readItems(final ByteBuffer buffer, final int count, final int depth) {
+        final byte[] tags = new byte[count];
+        buffer.get(tags);
+        final Object[] items = new Object[count];
+        for (int i = 0; i < count; i++)
+            items[i] = readItem(buffer, tags[i], depth);
+        return items;
+    }
+
+    private static Object readItem(final ByteBuffer buffer, final byte tag, final int depth) {
+        return switch (tag) {
+            case NULL -> null;
+            case BOOLEAN -> buffer.get() != 0;
+            case BYTE -> buffer.get();
+            case SHORT -> (short) readZigzag(buffer);
+            case CHARACTER -> buffer.getChar();
+            case INTEGER -> readZigzag(buffer);
+            case LONG -> readZigzagLong(buffer);
+            case FLOAT -> buffer.getFloat();
+            case DOUBLE -> buffer.getDouble();
+            case STRING -> readString(buffer);
+            case BYTES -> {
+                final byte[] bytes = new byte[readLength(buffer)];
+                buffer.get(bytes);
+                yield bytes;
+            }
+            case TUPLE -> decode(buffer, deeper(depth));
+            default -> throw new IllegalArgumentException("Unknown type tag: " + tag);
+        };
+    }
+
+    private static int readVarint(final ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = buffer.get();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static long readVarintLong(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final byte b = buffer.get();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static int readZigzag(final ByteBuffer buffer) {
+        final int value = readVarint(buffer);
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static long readZigzagLong(final ByteBuffer buffer) {
+        final long value = readVarintLong(buffer);
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static int readLength(final ByteBuffer buffer) {
+        final int length = readVarint(buffer);
+        if (length < 0 || length > buffer.remaining())
+            throw new IllegalArgumentException("Invalid length: " + Integer.toUnsignedString(length));
+        return length;
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = readLength(buffer);
+        final String value;
+        if (buffer.hasArray()) {
+            // Heap buffers are decoded in place
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.get(buffer.position(), bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,389 @@
+package com.homeworkhopper;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Implementations of {@code Collector} which produce tuples, or group elements by tuples.
+ * <p>
+ * The {@code teeing} collectors pass every element to each of several downstream collectors in a single pass, and
+ * combine their results into a tuple. A {@code teeing} collector is {@code CONCURRENT} or {@code UNORDERED} only if
+ * every downstream collector is, so concurrent downstream collectors remain concurrent when combined.
+ *
+ * @author Shaun Thornton
+ */
+public final class TupleCollectors {
+
+    private TupleCollectors() {
+    }
+
+    /**
+     * Returns a collector which passes every element to each of three downstream collectors, and collects their
+     * results into a {@code Tuple.OfThree}.
+     *
+     * @param first  the first downstream collector
+     * @param second the second downstream collector
+     * @param third  the third downstream collector
+     * @param <T>    the type of the input elements
+     * @param <A>    the result type of the first collector
+     * @param <B>    the result type of the second collector
+     * @param <C>    the result type of the third collector
+     * @return a collector which collects the results of each downstream collector into a tuple
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, A, B, C>
+    Collector<T, ?, Tuple.OfThree<A, B, C>>
+    teeing(final Collector<? super T, ?, A> first, final Collector<? super T, ?, B> second,
+           final Collector<? super T, ?, C> third) {
+        return Collectors.collectingAndThen(all(first, second, third),
+                results -> new Tuple.OfThree<>((A) results[0], (B) results[1], (C) results[2]));
+    }
+
+    /**
+     * Returns a collector which passes every element to each of four downstream collectors, and collects their
+     * results into a {@code Tuple.OfFour}.
+     *
+     * @param first  the first downstream collector
+     * @param second the second downstream collector
+     * @param third  the third downstream collector
+     * @param fourth the fourth downstream collector
+     * @param <T>    the type of the input elements
+     * @param <A>    the result type of the first collector
+     * @param <B>    the result type of the second collector
+     * @param <C>    the result type of the third collector
+     * @param <D>    the result type of the fourth collector
+     * @return a collector which collects the results of each downstream collector into a tuple
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, A, B, C, D>
+    Collector<T, ?, Tuple.OfFour<A, B, C, D>>
+    teeing(final Collector<? super T, ?, A> first, final Collector<? super T, ?, B> second,
+           final Collector<? super T, ?, C> third, final Collector<? super T, ?, D> fourth) {
+        return Collectors.collectingAndThen(all(first, second, third, fourth),
+                results -> new Tuple.OfFour<>((A) results[0], (B) results[1], (C) results[2], (D) results[3]));
+    }
+
+    /**
+     * Returns a collector which passes every element to each of five downstream collectors, and collects their
+     * results into a {@code Tuple.OfFive}.
+     *
+     * @param first  the first downstream collector
+     * @param second the second downstream collector
+     * @param third  the third downstream collector
+     * @param fourth the fourth downstream collector
+     * @param fifth  the fifth downstream collector
+     * @param <T>    the type of the input elements
+     * @param <A>    the result type of the first collector
+     * @param <B>    the result type of the second collector
+     * @param <C>    the result type of the third collector
+     * @param <D>    the result type of the fourth collector
+     * @param <E>    the result type of the fifth collector
+     * @return a collector which collects the results of each downstream collector into a tuple
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, A, B, C, D, E>
+    Collector<T, ?, Tuple.OfFive<A, B, C, D, E>>
+    teeing(final Collector<? super T, ?, A> first, final Collector<? super T, ?, B> second,
+           final Collector<? super T, ?, C> third, final Collector<? super T, ?, D> fourth,
+           final Collector<? super T, ?, E> fifth) {
+        return Collectors.collectingAndThen(all(first, second, third, fourth, fifth),
+                results -> new Tuple.OfFive<>((A) results[0], (B) results[1], (C) results[2], (D) results[3],
+                        (E) results[4]));
+    }
+
+    /**
+     * Returns a collector which passes every element to each of six downstream collectors, and collects their
+     * results into a {@code Tuple.OfSix}.
+     *
+     * @param first  the first downstream collector
+     * @param second the second downstream collector
+     * @param third  the third downstream collector
+     * @param fourth the fourth downstream collector
+     * @param fifth  the fifth downstream collector
+     * @param sixth  the sixth downstream collector
+     * @param <T>    the type of the input elements
+     * @param <A>    the result type of the first collector
+     * @param <B>    the result type of the second collector
+     * @param <C>    the result type of the third collector
+     * @param <D>    the result type of the fourth collector
+     * @param <E>    the result type of the fifth collector
+     * @param <F>    the result type of the sixth collector
+     * @return a collector which collects the results of each downstream collector into a tuple
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, A, B, C, D, E, F>
+    Collector<T, ?, Tuple.OfSix<A, B, C, D, E, F>>
+    teeing(final Collector<? super T, ?, A> first, final Collector<? super T, ?, B> second,
+           final Collector<? super T, ?, C> third, final Collector<? super T, ?, D> fourth,
+           final Collector<? super T, ?, E> fifth, final Collector<? super T, ?, F> sixth) {
+        return Collectors.collectingAndThen(all(first, second, third, fourth, fifth, sixth),
+                results -> new Tuple.OfSix<>((A) results[0], (B) results[1], (C) results[2], (D) results[3],
+                        (E) results[4], (F) results[5]));
+    }
+
+    /**
+     * Returns a collector which passes every element to each of seven downstream collectors, and collects their
+     * results into a {@code Tuple.OfSeven}.
+     *
+     * @param first   the first downstream collector
+     * @param second  the second downstream collector
+     * @param third   the third downstream collector
+     * @param fourth  the fourth downstream collector
+     * @param fifth   the fifth downstream collector
+     * @param sixth   the sixth downstream collector
+     * @param seventh the seventh downstream collector
+     * @param <T>     the type of the input elements
+     * @param <A>     the result type of the first collector
+     * @param <B>     the result type of the second collector
+     * @param <C>     the result type of the third collector
+     * @param <D>     the result type of the fourth collector
+     * @param <E>     the result type of the fifth collector
+     * @param <F>     the result type of the sixth collector
+     * @param <G>     the result type of the seventh collector
+     * @return a collector which collects the results of each downstream collector into a tuple
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, A, B, C, D, E, F, G>
+    Collector<T, ?, Tuple.OfSeven<A, B, C, D, E, F, G>>
+    teeing(final Collector<? super T, ?, A> first, final Collector<? super T, ?, B> second,
+           final Collector<? super T, ?, C> third, final Collector<? super T, ?, D> fourth,
+           final Collector<? super T, ?, E> fifth, final Collector<? super T, ?, F> sixth,
+           final Collector<? super T, ?, G> seventh) {
+        return Collectors.collectingAndThen(all(first, second, third, fourth, fifth, sixth, seventh),
+                results -> new Tuple.OfSeven<>((A) results[0], (B) results[1], (C) results[2], (D) results[3],
+                        (E) results[4], (F) results[5], (G) results[6]));
+    }
+
+    /**
+     * Returns a collector which sums two {@code long} values extracted from every element, and collects both sums
+     * into a {@code Tuple.LongPair}. Neither the values nor the running sums are boxed.
+     *
+     * @param first  a function extracting the first value to sum
+     * @param second a function extracting the second value to sum
+     * @param <T>    the type of the input elements
+     * @return a collector which produces both sums
+     */
+    public static <T> Collector<T, ?, Tuple.LongPair> summingLong(final ToLongFunction<? super T> first,
+                                                                  final ToLongFunction<? super T> second) {
+        return Collector.of(() -> new long[2],
+                (sums, element) -> {
+                    sums[0] += first.applyAsLong(element);
+                    sums[1] += second.applyAsLong(element);
+                },
+                (left, right) -> {
+                    left[0] += right[0];
+                    left[1] += right[1];
+                    return left;
+                },
+                sums -> new Tuple.LongPair(sums[0], sums[1]));
+    }
+
+    /**
+     * Returns a collector which sums two {@code double} values extracted from every element, and collects both sums
+     * into a {@code Tuple.DoublePair}. Neither the values nor the running sums are boxed.
+     *
+     * @param first  a function extracting the first value to sum
+     * @param second a function extracting the second value to sum
+     * @param <T>    the type of the input elements
+     * @return a collector which produces both sums
+     */
+    public static <T> Collector<T, ?, Tuple.DoublePair> summingDouble(final ToDoubleFunction<? super T> first,
+                                                                      final ToDoubleFunction<? super T> second) {
+        return Collector.of(() -> new double[2],
+                (sums, element) -> {
+                    sums[0] += first.applyAsDouble(element);
+                    sums[1] += second.applyAsDouble(element);
+                },
+                (left, right) -> {
+                    left[0] += right[0];
+                    left[1] += right[1];
+                    return left;
+                },
+                sums -> new Tuple.DoublePair(sums[0], sums[1]));
+    }
+
+    /**
+     * Returns a collector which groups elements by two keys, and collects the elements of each group using the
+     * specified downstream collector.
+     *
+     * @param first      a function extracting the first key
+     * @param second     a function extracting the second key
+     * @param downstream the collector applied to the elements of each group
+     * @param <T>        the type of the input elements
+     * @param <K1>       the type of the first key
+     * @param <K2>       the type of the second key
+     * @param <D>        the result type of the downstream collector
+     * @return a collector which produces a map from each pair of keys to the result of its group
+     */
+    public static <T, K1, K2, D>
+    Collector<T, ?, Map<Tuple.OfTwo<K1, K2>, D>>
+    groupingBy(final Function<? super T, ? extends K1> first, final Function<? super T, ? extends K2> second,
+               final Collector<? super T, ?, D> downstream) {
+        return Collectors.groupingBy(element -> new Tuple.OfTwo<>(first.apply(element), second.apply(element)),
+                downstream);
+    }
+
+    /**
+     * Returns a collector which groups elements by three keys, and collects the elements of each group using the
+     * specified downstream collector.
+     *
+     * @param first      a function extracting the first key
+     * @param second     a function extracting the second key
+     * @param third      a function extracting the third key
+     * @param downstream the collector applied to the elements of each group
+     * @param <T>        the type of the input elements
+     * @param <K1>       the type of the first key
+     * @param <K2>       the type of the second key
+     * @param <K3>       the type of the third key
+     * @param <D>        the result type of the downstream collector
+     * @return a collector which produces a map from each triple of keys to the result of its group
+     */
+    public static <T, K1, K2, K3, D>
+    Collector<T, ?, Map<Tuple.OfThree<K1, K2, K3>, D>>
+    groupingBy(final Function<? super T, ? extends K1> first, final Function<? super T, ? extends K2> second,
+               final Function<? super T, ? extends K3> third, final Collector<? super T, ?, D> downstream) {
+        return Collectors.groupingBy(element -> new Tuple.OfThree<>(first.apply(element), second.apply(element),
+                third.apply(element)), downstream);
+    }
+
+    /**
+     * Returns a concurrent collector which groups elements by two keys, and collects the elements of each group using
+     * the specified downstream collector.
+     *
+     * @param first      a function extracting the first key
+     * @param second     a function extracting the second key
+     * @param downstream the collector applied to the elements of each group
+     * @param <T>        the type of the input elements
+     * @param <K1>       the type of the first key
+     * @param <K2>       the type of the second key
+     * @param <D>        the result type of the downstream collector
+     * @return a concurrent collector which produces a map from each pair of keys to the result of its group
+     */
+    public static <T, K1, K2, D>
+    Collector<T, ?, ConcurrentMap<Tuple.OfTwo<K1, K2>, D>>
+    groupingByConcurrent(final Function<? super T, ? extends K1> first,
+                         final Function<? super T, ? extends K2> second,
+                         final Collector<? super T, ?, D> downstream) {
+        return Collectors.groupingByConcurrent(
+                element -> new Tuple.OfTwo<>(first.apply(element), second.apply(element)), downstream);
+    }
+
+    /**
+     * Returns a concurrent collector which groups elements by three keys, and collects the elements of each group
+     * using the specified downstream collector.
+     *
+     * @param first      a function extracting the first key
+     * @param second     a function extracting the second key
+     * @param third      a function extracting the third key
+     * @param downstream the collector applied to the elements of each group
+     * @param <T>        the type of the input elements
+     * @param <K1>       the type of the first key
+     * @param <K2>       the type of the second key
+     * @param <K3>       the type of the third key
+     * @param <D>        the result type of the downstream collector
+     * @return a concurrent collector which produces a map from each triple of keys to the result of its group
+     */
+    public static <T, K1, K2, K3, D>
+    Collector<T, ?, ConcurrentMap<Tuple.OfThree<K1, K2, K3>, D>>
+    groupingByConcurrent(final Function<? super T, ? extends K1> first,
+                         final Function<? super T, ? extends K2> second,
+                         final Function<? super T, ? extends K3> third,
+                         final Collector<? super T, ?, D> downstream) {
+        return Collectors.groupingByConcurrent(element -> new Tuple.OfThree<>(first.apply(element),
+                second.apply(element), third.apply(element)), downstream);
+    }
+
+    /**
+     * Returns a collector which collects tuples into a new {@code TupleTable} with columns of the specified types.
+     * Partial results of parallel streams are combined column by column.
+     *
+     * @param types the type of each column, where {@code int}, {@code long} and {@code double} columns are stored
+     *              without boxing
+     * @return a collector which produces a table
+     * @throws IllegalArgumentException if no types are specified, or a type is an unsupported primitive type
+     */
+    public static Collector<Tuple, ?, TupleTable> toColumns(final Class<?>... types) {
+        return toColumns(TupleShape.of(types));
+    }
+
+    /**
+     * Returns a collector which collects tuples into a new {@code TupleTable} whose columns are described by the
+     * specified shape. Partial results of parallel streams are combined column by column.
+     *
+     * @param shape the shape of each row
+     * @return a collector which produces a table
+     * @throws IllegalArgumentException if the shape is empty, or describes an unsupported primitive type
+     */
+    public static Collector<Tuple, ?, TupleTable> toColumns(final TupleShape shape) {
+        // Validate the shape eagerly, rather than upon the first element
+        TupleTable.of(shape);
+        return Collector.of(() -> TupleTable.of(shape), TupleTable::append,
+                (left, right) -> {
+                    left.appendAll(right);
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a collector which passes every element to each of the specified collectors, and collects their finished
+     * results into an array.
+     *
+     * @param collectors the downstream collectors
+     * @param <T>        the type of the input elements
+     * @return a collector which produces the result of each downstream collector
+     */
+    @SafeVarargs
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Collector<T, ?, Object[]> all(final Collector<? super T, ?, ?>... collectors) {
+        final int size = collectors.length;
+        final Supplier<Object>[] suppliers = new Supplier[size];
+        final BiConsumer<Object, ? super T>[] accumulators = new BiConsumer[size];
+        final BinaryOperator<Object>[] combiners = new BinaryOperator[size];
+        final Function<Object, Object>[] finishers = new Function[size];
+        // Only characteristics shared by every downstream collector may be reported
+        final Set<Collector.Characteristics> characteristics = EnumSet.of(Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED);
+        for (int i = 0; i < size; i++) {
+            final Collector<? super T, Object, Object> collector = (Collector<? super T, Object, Object>) collectors[i];
+            suppliers[i] = collector.supplier();
+            accumulators[i] = collector.accumulator();
+            combiners[i] = collector.combiner();
+            finishers[i] = collector.finisher();
+            characteristics.retainAll(collector.characteristics());
+        }
+        return Collector.of(
+                () -> {
+                    final Object[] containers = new Object[size];
+                    for (int i = 0; i < size; i++)
+                        containers[i] = suppliers[i].get();
+                    return containers;
+                },
+                (containers, element) -> {
+                    for (int i = 0; i < size; i++)
+                        accumulators[i].accept(containers[i], element);
+                },
+                (left, right) -> {
+                    for (int i = 0; i < size; i++)
+                        left[i] = combiners[i].apply(left[i], right[i]);
+                    return left;
+                },
+                containers -> {
+                    final Object[] results = new Object[size];
+                    for (int i = 0; i < size; i++)
+                        results[i] = finishers[i].apply(containers[i]);
+                    return results;
+                },
+                characteristics.toArray(new Collector.Characteristics[0]));
+    }
+}
@@ -0,0 +1,335 @@
+package com.homeworkhopper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A comparator which orders tuples by a fixed sequence of their items.
+ * <p>
+ * A {@code TupleComparator} is built once for a given tuple shape using {@link #builder()}, and compares the specified
+ * items of two tuples in order until a difference is found. Each compared item may be ordered ascending or descending,
+ * with null items placed either first or last. Items known to be primitives may be compared through the
+ * {@code Int}, {@code Long} and {@code Double} variants of each builder method, meaning that primitive-specialized
+ * tuples are compared without boxing. Those variants read the components of the primitive-specialized records
+ * directly, after a single class check, and only fall back to {@code Tuple.getInt(int)} and its siblings for other
+ * records.
+ * <p>
+ * Additionally, {@link #naturalOrder()} provides a lexicographic ordering of tuples whose items are all
+ * {@code Comparable}.
+ *
+ * @author Shaun Thornton
+ */
+public final class TupleComparator implements Comparator<Tuple> {
+
+    private static final Comparator<Tuple> NATURAL_ORDER = TupleComparator::compareNaturally;
+
+    private final Slot[] slots;
+
+    private TupleComparator(final Slot[] slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * Returns a comparator which orders tuples lexicographically by all of their items, using the natural ordering
+     * of each item. If one tuple is a prefix of another, the shorter tuple is ordered first.
+     * <p>
+     * The returned comparator throws a {@code ClassCastException} when compared items are not mutually comparable,
+     * and a {@code NullPointerException} when a compared item is null.
+     *
+     * @return a comparator which orders tuples lexicographically
+     */
+    public static Comparator<Tuple> naturalOrder() {
+        return NATURAL_ORDER;
+    }
+
+    /**
+     * Returns a new builder with no items to compare.
+     *
+     * @return a new {@code TupleComparator.Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareNaturally(Tuple a, Tuple b) {
+        // Tuples nested at the same depth share the same layout, so each level is compared directly
+        while (a instanceof Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?> x
+                && b instanceof Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?> y) {
+            for (int i = 0; i < 7; i++) {
+                final int result = ((Comparable) x.get(i)).compareTo(y.get(i));
+                if (result != 0)
+                    return result;
+            }
+            a = x.rest();
+            b = y.rest();
+        }
+        final int sizeA = a.arity(), sizeB = b.arity();
+        for (int i = 0, size = Math.min(sizeA, sizeB); i < size; i++) {
+            final int result = ((Comparable) a.get(i)).compareTo(b.get(i));
+            if (result != 0)
+                return result;
+        }
+        return Integer.compare(sizeA, sizeB);
+    }
+
+    @Override
+    public int compare(final Tuple a, final Tuple b) {
+        for (final Slot slot : this.slots) {
+            final int result = slot.compare(a, b);
+            if (result != 0)
+                return result;
+        }
+        return 0;
+    }
+
+    /**
+     * The kinds of item which may be compared.
+     */
+    private enum Kind {
+        OBJECT, INT, LONG, DOUBLE
+    }
+
+    /**
+     * Describes how a single item is compared.
+     */
+    private static final class Slot {
+        private final int index;
+
+        private final Kind kind;
+
+        private final boolean descending;
+
+        private final Comparator<Object> comparator;
+
+        private final boolean nullsFirst;
+
+        private Slot(final int index, final Kind kind, final boolean descending, final Comparator<Object> comparator,
+                     final boolean nullsFirst) {
+            this.index = index;
+            this.kind = kind;
+            this.descending = descending;
+            this.comparator = comparator;
+            this.nullsFirst = nullsFirst;
+        }
+
+        private int compare(final Tuple a, final Tuple b) {
+            // Descending slots swap their operands rather than negating results, which could overflow
+            final Tuple first = this.descending ? b : a, second = this.descending ? a : b;
+            return switch (this.kind) {
+                case INT -> Integer.compare(this.readInt(first), this.readInt(second));
+                case LONG -> Long.compare(this.readLong(first), this.readLong(second));
+                case DOUBLE -> Double.compare(this.readDouble(first), this.readDouble(second));
+                case OBJECT -> this.compareObjects(a.get(this.index), b.get(this.index));
+            };
+        }
+
+        // The primitive-specialized records are read through their own accessors, which avoids dispatching through
+        // the Tuple interface at a call site shared by every comparator
+
+        private int readInt(final Tuple tuple) {
+            if (tuple instanceof Tuple.IntPair pair && this.index < 2)
+                return this.index == 0 ? pair.item1() : pair.item2();
+            if (tuple instanceof Tuple.IntLongPair pair && this.index == 0)
+                return pair.item1();
+            return tuple.getInt(this.index);
+        }
+
+        private long readLong(final Tuple tuple) {
+            if (tuple instanceof Tuple.LongPair pair && this.index < 2)
+                return this.index == 0 ? pair.item1() : pair.item2();
+            if (tuple instanceof Tuple.IntLongPair pair && this.index == 1)
+                return pair.item2();
+            return tuple.getLong(this.index);
+        }
+
+        private double readDouble(final Tuple tuple) {
+            if (tuple instanceof Tuple.DoublePair pair && this.index < 2)
+                return this.index == 0 ? pair.item1() : pair.item2();
+            if (tuple instanceof Tuple.DoubleTriple triple && this.index < 3)
+                return this.index == 0 ? triple.item1() : this.index == 1 ? triple.item2() : triple.item3();
+            return tuple.getDouble(this.index);
+        }
+
+        private int compareObjects(final Object a, final Object b) {
+            // Null items are placed first or last regardless of the direction of this slot
+            if (a == null || b == null)
+                return a == b ? 0 : (a == null) == this.nullsFirst ? -1 : 1;
+            return this.descending ? this.comparator.compare(b, a) : this.comparator.compare(a, b);
+        }
+    }
+
+    /**
+     * A builder of {@code TupleComparator} objects. Items are compared in the order in which they are added to the
+     * builder.
+     */
+    public static final class Builder {
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static final Comparator<Object> NATURAL = (a, b) -> ((Comparable) a).compareTo(b);
+
+        private final List<Slot> slots = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Compares the item at the specified index by its natural ordering, in ascending order.
+         *
+         * @param index the index of the item to compare
+         * @return this builder
+         */
+        public Builder ascending(final int index) {
+            return this.add(index, Kind.OBJECT, false, NATURAL);
+        }
+
+        /**
+         * Compares the item at the specified index by its natural ordering, in descending order.
+         *
+         * @param index the index of the item to compare
+         * @return this builder
+         */
+        public Builder descending(final int index) {
+            return this.add(index, Kind.OBJECT, true, NATURAL);
+        }
+
+        /**
+         * Compares the item at the specified index using the specified comparator, in ascending order.
+         *
+         * @param index      the index of the item to compare
+         * @param comparator the comparator used to compare the items
+         * @param <Type>     the type of the item to compare
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public <Type> Builder ascending(final int index, final Comparator<? super Type> comparator) {
+            return this.add(index, Kind.OBJECT, false, (Comparator<Object>) comparator);
+        }
+
+        /**
+         * Compares the item at the specified index using the specified comparator, in descending order.
+         *
+         * @param index      the index of the item to compare
+         * @param comparator the comparator used to compare the items
+         * @param <Type>     the type of the item to compare
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public <Type> Builder descending(final int index, final Comparator<? super Type> comparator) {
+            return this.add(index, Kind.OBJECT, true, (Comparator<Object>) comparator);
+        }
+
+        /**
+         * Compares the {@code int} item at the specified index in ascending order, without boxing.
+         *
+         * @param index the index of the item to compare
+         * @return this builder
+         */
+        public Builder ascendingInt(final int index) {
+            return this.add(index, Kind.INT, false, null);
+        }
+
+        /**
+         * Compares the {@code int} item at the specified index in descending order, without boxing.
+         *
+         * @param index the index of the item to compare
+         * @return this builder
+         */
+        public Builder descendingInt(final int index) {
+            return this.add(index, Kind.INT, true, null);
+        }
+
+        /**
+         * Compares the {@code long} item at the specified index in ascending order, without boxing.
+         *
+         * @param index the index of the item to compare
+         * @return this builder
+         */
+        public Builder ascendingLong(final int index) {
+            return this.add(index, Kind.LONG, false, null);
+        }
+
+        /**
+         * Compares the {@code long} item at the specified index in descending order, without boxing.
+         *
+         * @param index the index of the item to compare
+         * @return this builder
+         */
+        public Builder descendingLong(final int index) {
+            return this.add(index, Kind.LONG, true, null);
+        }
+
+        /**
+         * Compares the {@code double} item at the specified index in ascending order, without boxing.
+         *
+         * @param index the index of the item to compare
+         * @return this builder
+         */
+        public Builder ascendingDouble(final int index) {
+            return this.add(index, Kind.DOUBLE, false, null);
+        }
+
+        /**
+         * Compares the {@code double} item at the specified index in descending order, without boxing.
+         *
+         * @param index the index of the item to compare
+         * @return this builder
+         */
+        public Builder descendingDouble(final int index) {
+            return this.add(index, Kind.DOUBLE, true, null);
+        }
+
+        /**
+         * Places null items first when comparing the most recently added item. This is the default.
+         *
+         * @return this builder
+         * @throws IllegalStateException if no item has been added, or the most recently added item is a primitive
+         */
+        public Builder nullsFirst() {
+            return this.nulls(true);
+        }
+
+        /**
+         * Places null items last when comparing the most recently added item.
+         *
+         * @return this builder
+         * @throws IllegalStateException if no item has been added, or the most recently added item is a primitive
+         */
+        public Builder nullsLast() {
+            return this.nulls(false);
+        }
+
+        /**
+         * Returns a new {@code TupleComparator} which compares the items added to this builder.
+         *
+         * @return a new {@code TupleComparator}
+         * @throws IllegalStateException if no item has been added
+         */
+        public TupleComparator build() {
+            if (this.slots.isEmpty())
+                throw new IllegalStateException("At least one item must be compared");
+            return new TupleComparator(this.slots.toArray(new Slot[0]));
+        }
+
+        private Builder add(final int index, final Kind kind, final boolean descending,
+                            final Comparator<Object> comparator) {
+            if (index < 0)
+                throw new IndexOutOfBoundsException(index);
+            this.slots.add(new Slot(index, kind, descending, comparator, true));
+            return this;
+        }
+
+        private Builder nulls(final boolean first) {
+            if (this.slots.isEmpty())
+                throw new IllegalStateException("No item has been added");
+            final Slot last = this.slots.get(this.slots.size() - 1);
+            if (last.kind != Kind.OBJECT)
+                throw new IllegalStateException("Primitive items cannot be null");
+            // Slots are immutable, so that comparators which have already been built are unaffected
+            this.slots.set(this.slots.size() - 1, new Slot(last.index, last.kind, last.descending, last.comparator,
+                    first));
+            return this;
+        }
+    }
+}
@@ -0,0 +1,520 @@
+package com.homeworkhopper;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static com.homeworkhopper.TupleCsvWriter.DOUBLE;
+import static com.homeworkhopper.TupleCsvWriter.INT;
+import static com.homeworkhopper.TupleCsvWriter.LONG;
+
+/**
+ * Reads tuples of a single shape from a channel of delimited text, such as CSV or TSV.
+ * <p>
+ * Each record is read as a tuple whose items are of the types described by the shape of the reader, which must be
+ * {@code int}, {@code long}, {@code double} or {@code String}. Records are located within a single, reusable buffer
+ * of UTF-8 bytes, and numeric items are parsed directly from that buffer, so no line or field is ever copied into an
+ * intermediate string. Records whose columns are all numeric and match a primitive-specialized record, such as two
+ * {@code int} columns, are read as that record, so reading them allocates nothing beyond the record itself.
+ * <p>
+ * Records are terminated by a line feed, optionally preceded by a carriage return, or by the end of the stream. Fields
+ * may be quoted, in which case they may contain delimiters, line breaks, and quotes doubled as described by RFC 4180.
+ * An empty, unquoted {@code String} field is read as {@code null}, while a pair of quotes is read as an empty string.
+ * <p>
+ * The channel must be in blocking mode. Readers are not thread safe.
+ *
+ * @author Shaun Thornton
+ * @see TupleCsvWriter
+ */
+public final class TupleCsvReader implements Closeable {
+
+    // Forms, each of which describes the record produced from a row
+    private static final byte FLAT = 0, INT_PAIR = 1, LONG_PAIR = 2, DOUBLE_PAIR = 3, INT_LONG_PAIR = 4,
+            DOUBLE_TRIPLE = 5;
+
+    /**
+     * Every power of ten which a {@code double} represents exactly.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * The largest number of significant digits which a {@code double} represents exactly.
+     */
+    private static final int EXACT_DIGITS = 15;
+
+    private static final byte[] NAN = "NaN".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] INFINITY = "Infinity".getBytes(StandardCharsets.US_ASCII);
+
+    private final ReadableByteChannel channel;
+
+    private final byte[] kinds;
+
+    private final byte form;
+
+    private final byte delimiter;
+
+    /**
+     * The buffer, which is always ready to be read from between calls. Its backing array is parsed directly.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The bounds of each field of the current record, which are offsets within the buffer. Fields beyond the number of
+     * columns are counted, but not recorded.
+     */
+    private final int[] starts, ends;
+
+    /**
+     * Whether each field of the current record contains doubled quotes, which must be removed.
+     */
+    private final boolean[] escaped;
+
+    /**
+     * Whether each field of the current record was quoted.
+     */
+    private final boolean[] quoted;
+
+    /**
+     * The items of the current record, which are copied into a new tuple and then discarded.
+     */
+    private final Object[] items;
+
+    private int fields;
+
+    /**
+     * The number of records located so far, including the current record.
+     */
+    private long records;
+
+    private boolean closed;
+
+    /**
+     * Creates a new reader which reads comma separated tuples of the specified shape from the specified channel.
+     *
+     * @param channel the channel to read from
+     * @param shape   the type of each column
+     * @throws IllegalArgumentException if the shape contains a type other than {@code int}, {@code long},
+     *                                  {@code double} or {@code String}
+     */
+    public TupleCsvReader(final ReadableByteChannel channel, final TupleShape shape) {
+        this(channel, shape, TupleCsvWriter.DEFAULT_DELIMITER, TupleCsvWriter.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new reader which reads tuples of the specified shape from the specified channel, whose items are
+     * separated by the specified delimiter, using a buffer of the specified initial size.
+     *
+     * @param channel    the channel to read from
+     * @param shape      the type of each column
+     * @param delimiter  the character separating items, such as {@code ','} or {@code '\t'}
+     * @param bufferSize the initial size of the buffer, in bytes
+     * @throws IllegalArgumentException if the shape contains a type other than {@code int}, {@code long},
+     *                                  {@code double} or {@code String}, if the delimiter is not an ASCII character
+     *                                  other than a quote or line break, or if the buffer size is not positive
+     */
+    public TupleCsvReader(final ReadableByteChannel channel, final TupleShape shape, final char delimiter,
+                          final int bufferSize) {
+        if (bufferSize <= 0)
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        this.channel = channel;
+        this.kinds = TupleCsvWriter.kinds(shape);
+        this.form = formOf(this.kinds);
+        this.delimiter = TupleCsvWriter.delimiter(delimiter);
+        this.buffer = ByteBuffer.allocate(bufferSize).flip();
+        this.starts = new int[this.kinds.length];
+        this.ends = new int[this.kinds.length];
+        this.escaped = new boolean[this.kinds.length];
+        this.quoted = new boolean[this.kinds.length];
+        this.items = new Object[this.kinds.length];
+    }
+
+    /**
+     * Reads the next record as a tuple.
+     *
+     * @return the next tuple, or {@code null} if the end of the stream has been reached
+     * @throws EOFException             if the stream ends within a quoted field
+     * @throws StreamCorruptedException if the record has the wrong number of fields, or a field cannot be parsed as
+     *                                  the type of its column
+     * @throws IOException              if any other I/O error occurs, or this reader is closed
+     */
+    public Tuple read() throws IOException {
+        if (!this.next())
+            return null;
+        if (this.fields != this.kinds.length)
+            throw this.corrupt("Expected " + this.kinds.length + " fields, but found " + this.fields);
+        return switch (this.form) {
+            case INT_PAIR -> Tuple.ofInts(this.parseInt(0), this.parseInt(1));
+            case LONG_PAIR -> Tuple.ofLongs(this.parseLong(0), this.parseLong(1));
+            case DOUBLE_PAIR -> Tuple.ofDoubles(this.parseDouble(0), this.parseDouble(1));
+            case INT_LONG_PAIR -> Tuple.ofIntLong(this.parseInt(0), this.parseLong(1));
+            case DOUBLE_TRIPLE -> Tuple.ofDoubles(this.parseDouble(0), this.parseDouble(1), this.parseDouble(2));
+            default -> {
+                for (int column = 0; column < this.kinds.length; column++) {
+                    this.items[column] = switch (this.kinds[column]) {
+                        case INT -> this.parseInt(column);
+                        case LONG -> this.parseLong(column);
+                        case DOUBLE -> this.parseDouble(column);
+                        default -> this.parseString(column);
+                    };
+                }
+                final Tuple tuple = Tuple.fromArray(this.items);
+                Arrays.fill(this.items, null);
+                yield tuple;
+            }
+        };
+    }
+
+    /**
+     * Reads every remaining record, performing the specified action for each resulting tuple.
+     *
+     * @param action the action to perform for each tuple
+     * @throws IOException if an I/O error occurs, a record is invalid, or this reader is closed
+     */
+    public void readAll(final Consumer<? super Tuple> action) throws IOException {
+        for (Tuple tuple = this.read(); tuple != null; tuple = this.read())
+            action.accept(tuple);
+    }
+
+    /**
+     * Skips the next record, such as a header, without parsing its fields.
+     *
+     * @return {@code true} if a record was skipped, or {@code false} if the end of the stream has been reached
+     * @throws EOFException if the stream ends within a quoted field
+     * @throws IOException  if any other I/O error occurs, or this reader is closed
+     */
+    public boolean skip() throws IOException {
+        return this.next();
+    }
+
+    /**
+     * Closes this reader and its channel. Closing a reader which is already closed has no effect.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed)
+            return;
+        this.closed = true;
+        this.channel.close();
+    }
+
+    /**
+     * Locates the fields of the next record, reading from the channel as required, and moves past it.
+     *
+     * @return {@code true} if a record was located, or {@code false} if the end of the stream has been reached
+     * @throws IOException if an I/O error occurs, the stream ends within a quoted field, or this reader is closed
+     */
+    private boolean next() throws IOException {
+        if (this.closed)
+            throw new ClosedChannelException();
+        // Records are counted before they are located, so that errors report the number of the offending record
+        this.records++;
+        boolean ended = false;
+        while (true) {
+            final int end = this.locate(ended);
+            if (end >= 0) {
+                this.buffer.position(end);
+                return true;
+            }
+            if (ended) {
+                this.records--;
+                return false;
+            }
+            // The record is incomplete, so it is located again once more of the stream has been read
+            ended = !this.fill();
+        }
+    }
+
+    /**
+     * Locates the fields of the record at the position of the buffer.
+     *
+     * @param ended whether the stream has ended, meaning that the buffer holds the remainder of the stream
+     * @return the offset following the record, or {@code -1} if the buffer holds no record, or only part of a record
+     * @throws EOFException if the stream has ended within a quoted field
+     */
+    private int locate(final boolean ended) throws EOFException, StreamCorruptedException {
+        final byte[] bytes = this.buffer.array();
+        final byte delimiter = this.delimiter;
+        final int limit = this.buffer.limit();
+        int position = this.buffer.position();
+        if (position == limit)
+            return -1;
+        for (int field = 0; ; field++) {
+            final int start, end;
+            boolean escaped = false;
+            final boolean quoted = position < limit && bytes[position] == '"';
+            if (quoted) {
+                start = ++position;
+                while (true) {
+                    if (position == limit) {
+                        if (ended)
+                            throw new EOFException("Stream ended within a quoted field");
+                        return -1;
+                    }
+                    if (bytes[position] == '"') {
+                        // A quote is either doubled, or closes the field
+                        if (position + 1 == limit && !ended)
+                            return -1;
+                        if (position + 1 == limit || bytes[position + 1] != '"')
+                            break;
+                        escaped = true;
+                        position++;
+                    }
+                    position++;
+                }
+                end = position++;
+            } else {
+                start = position;
+                while (position < limit) {
+                    final byte b = bytes[position];
+                    if (b == delimiter || b == '\n' || b == '\r')
+                        break;
+                    position++;
+                }
+                end = position;
+            }
+            if (field < this.starts.length) {
+                this.starts[field] = start;
+                this.ends[field] = end;
+                this.escaped[field] = escaped;
+                this.quoted[field] = quoted;
+            }
+            this.fields = field + 1;
+
+            if (position == limit)
+                return ended ? limit : -1;
+            final byte b = bytes[position];
+            if (b == delimiter) {
+                position++;
+            } else if (b == '\n') {
+                return position + 1;
+            } else if (b == '\r') {
+                if (position + 1 == limit)
+                    return ended ? limit : -1;
+                if (bytes[position + 1] != '\n')
+                    throw this.corrupt("Carriage return not followed by a line feed");
+                return position + 2;
+            } else {
+                throw this.corrupt("Unexpected character after a quoted field");
+            }
+        }
+    }
+
+    /**
+     * Reads from the channel, compacting or growing the buffer first so that the record at its position is kept.
+     *
+     * @return {@code true} if any bytes were read, or {@code false} if the stream has ended
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean fill() throws IOException {
+        if (this.buffer.position() == 0 && this.buffer.limit() == this.buffer.capacity()) {
+            // A single record which does not fit within the buffer requires the buffer to grow
+            final ByteBuffer grown = ByteBuffer.allocate(this.buffer.capacity() * 2);
+            this.buffer = grown.put(this.buffer);
+        } else {
+            this.buffer.compact();
+        }
+        int read;
+        do {
+            read = this.channel.read(this.buffer);
+        } while (read == 0 && this.buffer.hasRemaining());
+        this.buffer.flip();
+        return read >= 0;
+    }
+
+    private int parseInt(final int column) throws StreamCorruptedException {
+        final long value = this.parseIntegral(column, Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
+        return (int) value;
+    }
+
+    private long parseLong(final int column) throws StreamCorruptedException {
+        return this.parseIntegral(column, Long.MIN_VALUE, Long.MAX_VALUE, "long");
+    }
+
+    /**
+     * Parses the specified field as a decimal integer within the specified bounds, directly from the buffer.
+     */
+    private long parseIntegral(final int column, final long min, final long max, final String type)
+            throws StreamCorruptedException {
+        final byte[] bytes = this.buffer.array();
+        int position = this.starts[column];
+        final int end = this.ends[column];
+        final boolean negative = position < end && bytes[position] == '-';
+        if (negative || position < end && bytes[position] == '+')
+            position++;
+        if (position == end || this.escaped[column])
+            throw this.invalid(column, type);
+        // Digits are accumulated as a non-positive value, which is able to represent the minimum of either type
+        final long limit = negative ? min : -max;
+        long value = 0;
+        for (; position < end; position++) {
+            final int digit = bytes[position] - '0';
+            if (digit < 0 || digit > 9 || value < limit / 10)
+                throw this.invalid(column, type);
+            value *= 10;
+            if (value < limit + digit)
+                throw this.invalid(column, type);
+            value -= digit;
+        }
+        return negative ? value : -value;
+    }
+
+    /**
+     * Parses the specified field as a {@code double}, directly from the buffer whenever the decimal value is exactly
+     * representable, which holds for the short decimals found in most files. Other values are parsed by
+     * {@code Double.parseDouble(String)}, which guarantees correct rounding.
+     */
+    private double parseDouble(final int column) throws StreamCorruptedException {
+        final byte[] bytes = this.buffer.array();
+        final int start = this.starts[column], end = this.ends[column];
+        int position = start;
+        final boolean negative = position < end && bytes[position] == '-';
+        if (negative || position < end && bytes[position] == '+')
+            position++;
+        long significand = 0;
+        int digits = 0, exponent = 0;
+        boolean any = false, point = false;
+        for (; position < end; position++) {
+            final byte b = bytes[position];
+            if (b == '.' && !point) {
+                point = true;
+            } else if (b >= '0' && b <= '9') {
+                any = true;
+                // Leading zeros are not significant
+                if (significand != 0 || b != '0')
+                    digits++;
+                significand = significand * 10 + (b - '0');
+                if (point)
+                    exponent--;
+                if (digits > EXACT_DIGITS)
+                    return this.parseDoubleSlowly(column);
+            } else {
+                break;
+            }
+        }
+        if (position < end && (bytes[position] == 'e' || bytes[position] == 'E') && any) {
+            position++;
+            final boolean negativeExponent = position < end && bytes[position] == '-';
+            if (negativeExponent || position < end && bytes[position] == '+')
+                position++;
+            int value = 0;
+            final int from = position;
+            // Exponents too large to be exact are left to the slow path
+            for (; position < end && position - from < 3; position++) {
+                final int digit = bytes[position] - '0';
+                if (digit < 0 || digit > 9)
+                    break;
+                value = value * 10 + digit;
+            }
+            if (position == from)
+                return this.parseDoubleSlowly(column);
+            exponent += negativeExponent ? -value : value;
+        }
+        if (!any || position != end || exponent < -22 || exponent > 22 || this.escaped[column])
+            return this.parseDoubleSlowly(column);
+        final double value = exponent < 0
+                ? significand / POWERS_OF_TEN[-exponent]
+                : significand * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    private double parseDoubleSlowly(final int column) throws StreamCorruptedException {
+        // Double.parseDouble(String) also accepts surrounding whitespace, hexadecimal numbers and type suffixes, which
+        // neither the fast path nor the integer columns accept, so only decimal numbers are passed on to it
+        if (!this.isDecimal(column))
+            throw this.invalid(column, "double");
+        try {
+            return Double.parseDouble(this.text(column));
+        } catch (final NumberFormatException e) {
+            throw this.invalid(column, "double");
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified field consists only of an optional sign followed by the characters of a
+     * decimal number, or by {@code NaN} or {@code Infinity} as written by {@link TupleCsvWriter}.
+     */
+    private boolean isDecimal(final int column) {
+        final byte[] bytes = this.buffer.array();
+        int position = this.starts[column];
+        final int end = this.ends[column];
+        if (position < end && (bytes[position] == '-' || bytes[position] == '+'))
+            position++;
+        if (equals(bytes, position, end, NAN) || equals(bytes, position, end, INFINITY))
+            return true;
+        if (position == end)
+            return false;
+        for (; position < end; position++) {
+            final byte b = bytes[position];
+            if ((b < '0' || b > '9') && b != '.' && b != 'e' && b != 'E' && b != '-' && b != '+')
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean equals(final byte[] bytes, final int start, final int end, final byte[] expected) {
+        return Arrays.equals(bytes, start, end, expected, 0, expected.length);
+    }
+
+    private String parseString(final int column) {
+        if (!this.quoted[column] && this.starts[column] == this.ends[column])
+            return null;
+        return this.text(column);
+    }
+
+    /**
+     * Returns the text of the specified field, without its quotes.
+     */
+    private String text(final int column) {
+        final byte[] bytes = this.buffer.array();
+        final int start = this.starts[column];
+        int end = this.ends[column];
+        if (this.escaped[column]) {
+            // Doubled quotes are removed in place, since the record is never located again
+            int to = start;
+            for (int from = start; from < end; from++, to++) {
+                bytes[to] = bytes[from];
+                if (bytes[from] == '"')
+                    from++;
+            }
+            end = to;
+            this.escaped[column] = false;
+            this.ends[column] = end;
+        }
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private StreamCorruptedException invalid(final int column, final String type) {
+        return this.corrupt("Column " + column + " is not a valid " + type + ": " + this.text(column));
+    }
+
+    private StreamCorruptedException corrupt(final String message) {
+        return new StreamCorruptedException("Record " + this.records + ": " + message);
+    }
+
+    private static byte formOf(final byte[] kinds) {
+        if (kinds.length == 2 && kinds[0] == INT && kinds[1] == INT)
+            return INT_PAIR;
+        if (kinds.length == 2 && kinds[0] == LONG && kinds[1] == LONG)
+            return LONG_PAIR;
+        if (kinds.length == 2 && kinds[0] == DOUBLE && kinds[1] == DOUBLE)
+            return DOUBLE_PAIR;
+        if (kinds.length == 2 && kinds[0] == INT && kinds[1] == LONG)
+            return INT_LONG_PAIR;
+        if (kinds.length == 3 && kinds[0] == DOUBLE && kinds[1] == DOUBLE && kinds[2] == DOUBLE)
+            return DOUBLE_TRIPLE;
+        return FLAT;
+    }
+}
@@ -0,0 +1,303 @@
+package com.homeworkhopper;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes tuples of a single shape to a channel as delimited text, such as CSV or TSV.
+ * <p>
+ * Each tuple is written as a record of UTF-8 text terminated by a line feed, with its items separated by the
+ * delimiter. The shape of the tuples describes the type of each column, which must be {@code int}, {@code long},
+ * {@code double} or {@code String}. Numeric items are read through {@code Tuple.getInt(int)} and its siblings and
+ * formatted directly into a single, reusable buffer, so writing a primitive-specialized tuple allocates nothing.
+ * <p>
+ * A string is quoted if it contains the delimiter, a quote or a line break, and any quotes within it are doubled, as
+ * described by RFC 4180. Null strings are written as empty fields and empty strings as a pair of quotes, so that both
+ * are read back as they were written by a {@link TupleCsvReader}.
+ * <p>
+ * The channel must be in blocking mode. Writers are not thread safe.
+ *
+ * @author Shaun Thornton
+ * @see TupleCsvReader
+ */
+public final class TupleCsvWriter implements Closeable, Flushable {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    static final char DEFAULT_DELIMITER = ',';
+
+    // Column kinds, derived from the type of each column
+    static final byte INT = 0, LONG = 1, DOUBLE = 2, STRING = 3;
+
+    /**
+     * The smallest buffer able to hold any single formatted number, which is the largest unit written at once.
+     */
+    private static final int MINIMUM_BUFFER_SIZE = 32;
+
+    private final WritableByteChannel channel;
+
+    private final byte[] kinds;
+
+    private final byte delimiter;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Holds the digits of an integral item, which are produced in reverse order.
+     */
+    private final byte[] digits = new byte[20];
+
+    /**
+     * Holds the characters of a {@code double} item. {@code StringBuilder.append(double)} formats a number without
+     * creating a string, unlike {@code Double.toString(double)}.
+     */
+    private final StringBuilder text = new StringBuilder(32);
+
+    private boolean closed;
+
+    /**
+     * Creates a new writer which writes comma separated tuples of the specified shape to the specified channel.
+     *
+     * @param channel the channel to write to
+     * @param shape   the type of each column
+     * @throws IllegalArgumentException if the shape contains a type other than {@code int}, {@code long},
+     *                                  {@code double} or {@code String}
+     */
+    public TupleCsvWriter(final WritableByteChannel channel, final TupleShape shape) {
+        this(channel, shape, DEFAULT_DELIMITER, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new writer which writes tuples of the specified shape to the specified channel, separating items by
+     * the specified delimiter, and using a buffer of the specified size.
+     *
+     * @param channel    the channel to write to
+     * @param shape      the type of each column
+     * @param delimiter  the character separating items, such as {@code ','} or {@code '\t'}
+     * @param bufferSize the size of the buffer, in bytes
+     * @throws IllegalArgumentException if the shape contains a type other than {@code int}, {@code long},
+     *                                  {@code double} or {@code String}, if the delimiter is not an ASCII character
+     *                                  other than a quote or line break, or if the buffer size is less than 32 bytes
+     */
+    public TupleCsvWriter(final WritableByteChannel channel, final TupleShape shape, final char delimiter,
+                          final int bufferSize) {
+        if (bufferSize < MINIMUM_BUFFER_SIZE)
+            throw new IllegalArgumentException("Buffer size must be at least " + MINIMUM_BUFFER_SIZE + " bytes: "
+                    + bufferSize);
+        this.channel = channel;
+        this.kinds = kinds(shape);
+        this.delimiter = delimiter(delimiter);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Writes the specified tuple as a single record, which may remain buffered until this writer is flushed. Every
+     * item is checked before any are written, so a rejected tuple never leaves a partial record behind.
+     *
+     * @param tuple a tuple whose items conform to the shape of this writer
+     * @throws IOException              if an I/O error occurs, or this writer is closed
+     * @throws IllegalArgumentException if the arity of the tuple differs from the number of columns
+     * @throws ClassCastException       if an item does not conform to the type of its column
+     * @throws NullPointerException     if a numeric item is null
+     */
+    public void write(final Tuple tuple) throws IOException {
+        this.ensureOpen();
+        final byte[] kinds = this.kinds;
+        if (tuple.arity() != kinds.length)
+            throw new IllegalArgumentException("Expected a tuple of arity " + kinds.length + ", but got "
+                    + tuple.arity());
+        for (int column = 0; column < kinds.length; column++) {
+            switch (kinds[column]) {
+                case INT -> tuple.getInt(column);
+                case LONG -> tuple.getLong(column);
+                case DOUBLE -> tuple.getDouble(column);
+                default -> String.class.cast(tuple.get(column));
+            }
+        }
+
+        for (int column = 0; column < kinds.length; column++) {
+            if (column > 0)
+                this.put(this.delimiter);
+            switch (kinds[column]) {
+                case INT -> this.writeLong(tuple.getInt(column));
+                case LONG -> this.writeLong(tuple.getLong(column));
+                case DOUBLE -> this.writeDouble(tuple.getDouble(column));
+                default -> this.writeString((String) tuple.get(column));
+            }
+        }
+        this.put((byte) '\n');
+    }
+
+    /**
+     * Writes each of the specified tuples, in order.
+     *
+     * @param tuples the tuples to write
+     * @throws IOException              if an I/O error occurs, or this writer is closed
+     * @throws IllegalArgumentException if the arity of a tuple differs from the number of columns
+     * @throws ClassCastException       if an item does not conform to the type of its column
+     * @throws NullPointerException     if a numeric item is null
+     */
+    public void writeAll(final Iterable<? extends Tuple> tuples) throws IOException {
+        for (final Tuple tuple : tuples)
+            this.write(tuple);
+    }
+
+    /**
+     * Writes every buffered record to the channel.
+     *
+     * @throws IOException if an I/O error occurs, or this writer is closed
+     */
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+        this.drain();
+    }
+
+    /**
+     * Flushes this writer and closes its channel. Closing a writer which is already closed has no effect.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed)
+            return;
+        this.closed = true;
+        try (this.channel) {
+            this.drain();
+        }
+    }
+
+    private void writeLong(final long value) throws IOException {
+        this.ensure(this.digits.length);
+        if (value < 0)
+            this.buffer.put((byte) '-');
+        // Digits are produced from a non-positive value, which is able to represent Long.MIN_VALUE
+        long remaining = value < 0 ? value : -value;
+        int start = this.digits.length;
+        do {
+            this.digits[--start] = (byte) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        this.buffer.put(this.digits, start, this.digits.length - start);
+    }
+
+    private void writeDouble(final double value) throws IOException {
+        this.text.setLength(0);
+        this.text.append(value);
+        this.ensure(this.text.length());
+        for (int i = 0, length = this.text.length(); i < length; i++)
+            this.buffer.put((byte) this.text.charAt(i));
+    }
+
+    private void writeString(final String value) throws IOException {
+        if (value == null)
+            return;
+        final int length = value.length();
+        boolean quoted = length == 0;
+        for (int i = 0; i < length && !quoted; i++) {
+            final char c = value.charAt(i);
+            quoted = c == this.delimiter || c == '"' || c == '\r' || c == '\n';
+        }
+        if (quoted)
+            this.put((byte) '"');
+        // Characters are encoded directly into the buffer, rather than into an intermediate array
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            this.ensure(4);
+            if (c < 0x80) {
+                if (c == '"')
+                    this.buffer.put((byte) '"');
+                this.buffer.put((byte) c);
+            } else if (c < 0x800) {
+                this.buffer.put((byte) (0xc0 | c >> 6)).put((byte) (0x80 | c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                this.buffer.put((byte) (0xf0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3f))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3f)).put((byte) (0x80 | codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates are replaced by a single '?', as they are by String.getBytes
+                this.buffer.put((byte) '?');
+            } else {
+                this.buffer.put((byte) (0xe0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3f))
+                        .put((byte) (0x80 | c & 0x3f));
+            }
+        }
+        if (quoted)
+            this.put((byte) '"');
+    }
+
+    private void put(final byte b) throws IOException {
+        this.ensure(1);
+        this.buffer.put(b);
+    }
+
+    /**
+     * Ensures that at least the specified number of bytes may be written to the buffer, writing its contents to the
+     * channel if required.
+     *
+     * @param needed the number of bytes required
+     * @throws IOException if an I/O error occurs
+     */
+    private void ensure(final int needed) throws IOException {
+        if (this.buffer.remaining() < needed)
+            this.drain();
+    }
+
+    private void drain() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining())
+            this.channel.write(this.buffer);
+        this.buffer.clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.closed)
+            throw new ClosedChannelException();
+    }
+
+    /**
+     * Returns the kind of each column of the specified shape.
+     *
+     * @param shape the type of each column
+     * @return the kind of each column
+     * @throws IllegalArgumentException if the shape is empty, or contains an unsupported type
+     */
+    static byte[] kinds(final TupleShape shape) {
+        if (shape.size() == 0)
+            throw new IllegalArgumentException("A delimited tuple must contain at least one column");
+        final byte[] kinds = new byte[shape.size()];
+        for (int column = 0; column < kinds.length; column++) {
+            final Class<?> type = shape.type(column);
+            if (type == int.class)
+                kinds[column] = INT;
+            else if (type == long.class)
+                kinds[column] = LONG;
+            else if (type == double.class)
+                kinds[column] = DOUBLE;
+            else if (type == String.class)
+                kinds[column] = STRING;
+            else
+                throw new IllegalArgumentException("Unsupported column type: " + type);
+        }
+        return kinds;
+    }
+
+    /**
+     * Returns the specified delimiter as a single byte of UTF-8.
+     *
+     * @param delimiter the character separating items
+     * @return the delimiter as a byte
+     * @throws IllegalArgumentException if the delimiter is not an ASCII character other than a quote or line break
+     */
+    static byte delimiter(final char delimiter) {
+        if (delimiter >= 0x80 || delimiter == '"' || delimiter == '\r' || delimiter == '\n')
+            throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+        return (byte) delimiter;
+    }
+}
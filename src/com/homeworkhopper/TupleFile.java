@@ -0,0 +1,581 @@
+package com.homeworkhopper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A read-only file of same-shape tuples, which is memory-mapped and supports random access by row index.
+ * <p>
+ * A tuple file begins with a header describing its shape and number of rows, followed by every row at a fixed width,
+ * followed by the UTF-8 bytes of every {@code String} item. Within a row, {@code int}, {@code long} and {@code double}
+ * items are stored at fixed offsets, while each string is stored as the location and length of its bytes. As a result,
+ * any item of any row is located in constant time.
+ * <p>
+ * Opening a file reads nothing but its header, which is checked to be consistent with the length of the file, so a
+ * truncated file is rejected up front and opening even a very large file is immediate. The location of each string is
+ * checked only as the string is read, so a corrupt location fails that read with an {@code UncheckedIOException}.
+ * <p>
+ * Files are written through a {@link Writer}, obtained from {@link #writer(Path, TupleShape)}, and opened through
+ * {@link #open(Path)}. Files larger than two gigabytes are mapped in several chunks.
+ * <p>
+ * Once a file is closed, every further access fails. Since Java 17 offers no way to unmap a file deterministically,
+ * the mapping of a closed file is released once it is no longer reachable.
+ *
+ * @author Shaun Thornton
+ */
+public final class TupleFile implements Closeable {
+
+    private static final int MAGIC = 0x54555031;
+
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    private static final byte INT = 0, LONG = 1, DOUBLE = 2, STRING = 3;
+
+    /**
+     * The width of a string item within a row: the offset of its bytes followed by their length.
+     */
+    private static final int STRING_WIDTH = Long.BYTES + Integer.BYTES;
+
+    private static final int NULL_LENGTH = -1;
+
+    /**
+     * The widest row which a file may contain, which is the size of the buffer rows are written through.
+     */
+    private static final int MAX_WIDTH = 64 * 1024;
+
+    private final TupleShape shape;
+
+    private final Layout layout;
+
+    private final long size;
+
+    /**
+     * The number of bytes of strings which follow the rows.
+     */
+    private final long stringsSize;
+
+    private final int rowsPerChunk;
+
+    private final int chunkSize;
+
+    private MappedByteBuffer[] rows;
+
+    private MappedByteBuffer[] strings;
+
+    private TupleFile(final Layout layout, final long size, final long stringsSize, final MappedByteBuffer[] rows,
+                      final MappedByteBuffer[] strings, final int rowsPerChunk, final int chunkSize) {
+        this.shape = layout.shape;
+        this.layout = layout;
+        this.size = size;
+        this.stringsSize = stringsSize;
+        this.rows = rows;
+        this.strings = strings;
+        this.rowsPerChunk = rowsPerChunk;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Opens and maps the tuple file at the specified path.
+     *
+     * @param path the path of the file
+     * @return the opened file
+     * @throws IOException if an I/O error occurs, or the file is not a tuple file
+     */
+    public static TupleFile open(final Path path) throws IOException {
+        return open(path, DEFAULT_CHUNK_SIZE);
+    }
+
+    static TupleFile open(final Path path, final int chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(Layout.FIXED_HEADER);
+            readFully(channel, header, 0);
+            if (header.getInt(0) != MAGIC)
+                throw new IOException("Not a tuple file: " + path);
+            final int columns = header.getInt(4);
+            final long size = header.getLong(8), stringsOffset = header.getLong(16);
+            // Every column is at least four bytes wide, so a valid file never has more columns than this
+            if (columns <= 0 || columns > MAX_WIDTH / Integer.BYTES || size < 0)
+                throw new IOException("Corrupt tuple file header: " + path);
+
+            final ByteBuffer tags = ByteBuffer.allocate(columns);
+            readFully(channel, tags, Layout.FIXED_HEADER);
+            final Class<?>[] types = new Class<?>[columns];
+            for (int column = 0; column < columns; column++)
+                types[column] = switch (tags.get(column)) {
+                    case INT -> int.class;
+                    case LONG -> long.class;
+                    case DOUBLE -> double.class;
+                    case STRING -> String.class;
+                    default -> throw new IOException("Corrupt tuple file header: " + path);
+                };
+            final Layout layout = new Layout(TupleShape.of(types));
+            // The number of rows is checked against the length of the file before it is multiplied by their width
+            final long fileSize = channel.size();
+            if (layout.width > MAX_WIDTH || layout.dataOffset > fileSize
+                    || size > (fileSize - layout.dataOffset) / layout.width
+                    || stringsOffset != layout.dataOffset + size * layout.width)
+                throw new IOException("Corrupt tuple file header: " + path);
+
+            // Rows never span chunks, so each row is read from a single mapping
+            final int rowsPerChunk = Math.max(1, chunkSize / layout.width);
+            final MappedByteBuffer[] rows = new MappedByteBuffer[(int) ((size + rowsPerChunk - 1) / rowsPerChunk)];
+            for (int chunk = 0; chunk < rows.length; chunk++) {
+                final long first = (long) chunk * rowsPerChunk, count = Math.min(rowsPerChunk, size - first);
+                rows[chunk] = channel.map(FileChannel.MapMode.READ_ONLY, layout.dataOffset + first * layout.width,
+                        count * layout.width);
+            }
+            final long stringsSize = fileSize - stringsOffset;
+            final MappedByteBuffer[] strings = new MappedByteBuffer[(int) ((stringsSize + chunkSize - 1) / chunkSize)];
+            for (int chunk = 0; chunk < strings.length; chunk++) {
+                final long first = (long) chunk * chunkSize;
+                strings[chunk] = channel.map(FileChannel.MapMode.READ_ONLY, stringsOffset + first,
+                        Math.min(chunkSize, stringsSize - first));
+            }
+            return new TupleFile(layout, size, stringsSize, rows, strings, rowsPerChunk, chunkSize);
+        }
+    }
+
+    /**
+     * Returns a new writer which writes a tuple file of the specified shape to the specified path, replacing any
+     * existing file.
+     *
+     * @param path  the path of the file
+     * @param shape the shape of each row, each type of which must be {@code int}, {@code long}, {@code double} or
+     *              {@code String}
+     * @return a new writer
+     * @throws IOException              if an I/O error occurs
+     * @throws IllegalArgumentException if the shape is empty, or describes an unsupported type
+     */
+    public static Writer writer(final Path path, final TupleShape shape) throws IOException {
+        return new Writer(path, new Layout(shape));
+    }
+
+    /**
+     * Writes a tuple file of the specified shape, containing each of the specified tuples, to the specified path.
+     *
+     * @param path   the path of the file
+     * @param shape  the shape of each row
+     * @param tuples the rows of the file
+     * @throws IOException              if an I/O error occurs
+     * @throws IllegalArgumentException if the shape is empty, or describes an unsupported type
+     */
+    public static void write(final Path path, final TupleShape shape, final Iterable<? extends Tuple> tuples)
+            throws IOException {
+        try (Writer writer = writer(path, shape)) {
+            for (final Tuple tuple : tuples)
+                writer.append(tuple);
+        }
+    }
+
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read < 0)
+                throw new IOException("Unexpected end of tuple file");
+            position += read;
+        }
+    }
+
+    /**
+     * Returns the shape shared by every row of this file, which describes the type of each column.
+     *
+     * @return the shape of each row
+     */
+    public TupleShape shape() {
+        return this.shape;
+    }
+
+    /**
+     * Returns the number of rows within this file.
+     *
+     * @return the number of rows
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the item at the specified row and column. Numeric items are boxed.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws IllegalStateException if this file is closed
+     * @throws UncheckedIOException  if the item is a string whose location lies outside the strings of the file
+     */
+    public Object get(final long row, final int column) {
+        return switch (this.layout.kinds[column]) {
+            case INT -> this.getInt(row, column);
+            case LONG -> this.getLong(row, column);
+            case DOUBLE -> this.getDouble(row, column);
+            default -> this.getString(row, column);
+        };
+    }
+
+    /**
+     * Returns the {@code int} item at the specified row and column, without boxing.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws ClassCastException    if the column is not an {@code int} column
+     * @throws IllegalStateException if this file is closed
+     */
+    public int getInt(final long row, final int column) {
+        return this.chunk(row).getInt(this.base(row) + this.layout.offset(column, INT));
+    }
+
+    /**
+     * Returns the {@code long} item at the specified row and column, without boxing.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws ClassCastException    if the column is not a {@code long} column
+     * @throws IllegalStateException if this file is closed
+     */
+    public long getLong(final long row, final int column) {
+        return this.chunk(row).getLong(this.base(row) + this.layout.offset(column, LONG));
+    }
+
+    /**
+     * Returns the {@code double} item at the specified row and column, without boxing.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws ClassCastException    if the column is not a {@code double} column
+     * @throws IllegalStateException if this file is closed
+     */
+    public double getDouble(final long row, final int column) {
+        return this.chunk(row).getDouble(this.base(row) + this.layout.offset(column, DOUBLE));
+    }
+
+    /**
+     * Returns the {@code String} item at the specified row and column, decoding it from the mapping.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws ClassCastException    if the column is not a {@code String} column
+     * @throws IllegalStateException if this file is closed
+     * @throws UncheckedIOException  if the location of the string lies outside the strings of the file
+     */
+    public String getString(final long row, final int column) {
+        final ByteBuffer chunk = this.chunk(row);
+        final int position = this.base(row) + this.layout.offset(column, STRING);
+        final int length = chunk.getInt(position + Long.BYTES);
+        if (length == NULL_LENGTH)
+            return null;
+        long offset = chunk.getLong(position);
+        // The location is checked before anything is allocated, so that a corrupt length cannot exhaust the heap
+        if (length < 0 || offset < 0 || offset > this.stringsSize - length)
+            throw new UncheckedIOException(new IOException("Corrupt string location in tuple file at row " + row
+                    + ", column " + column));
+        final byte[] bytes = new byte[length];
+        // A string may span several chunks, in which case it is copied from each in turn
+        for (int copied = 0; copied < length; ) {
+            final int within = (int) (offset % this.chunkSize);
+            final int count = Math.min(length - copied, this.chunkSize - within);
+            this.strings[(int) (offset / this.chunkSize)].get(within, bytes, copied, count);
+            copied += count;
+            offset += count;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a new tuple containing the items of the specified row. If the shape of this file matches a
+     * primitive-specialized record, the row is returned as that record, without boxing. Otherwise, numeric items are
+     * boxed.
+     *
+     * @param row the index of the row
+     * @return a new tuple containing the items of the specified row
+     * @throws IllegalStateException if this file is closed
+     * @throws UncheckedIOException  if the location of a string item lies outside the strings of the file
+     */
+    public Tuple row(final long row) {
+        final ByteBuffer chunk = this.chunk(row);
+        final int base = this.base(row);
+        final int[] offsets = this.layout.offsets;
+        return switch (this.shape.record()) {
+            case TupleShape.INT_PAIR -> Tuple.ofInts(chunk.getInt(base), chunk.getInt(base + offsets[1]));
+            case TupleShape.LONG_PAIR -> Tuple.ofLongs(chunk.getLong(base), chunk.getLong(base + offsets[1]));
+            case TupleShape.DOUBLE_PAIR -> Tuple.ofDoubles(chunk.getDouble(base), chunk.getDouble(base + offsets[1]));
+            case TupleShape.INT_LONG_PAIR -> Tuple.ofIntLong(chunk.getInt(base), chunk.getLong(base + offsets[1]));
+            case TupleShape.DOUBLE_TRIPLE -> Tuple.ofDoubles(chunk.getDouble(base), chunk.getDouble(base + offsets[1]),
+                    chunk.getDouble(base + offsets[2]));
+            default -> {
+                final Object[] items = new Object[this.layout.kinds.length];
+                for (int column = 0; column < items.length; column++)
+                    items[column] = this.get(row, column);
+                yield Tuple.fromArray(items);
+            }
+        };
+    }
+
+    /**
+     * Closes this file, releasing its mappings. Closing a file which is already closed has no effect.
+     */
+    @Override
+    public void close() {
+        this.rows = null;
+        this.strings = null;
+    }
+
+    private ByteBuffer chunk(final long row) {
+        if (this.rows == null)
+            throw new IllegalStateException("File is closed");
+        return this.rows[(int) (Objects.checkIndex(row, this.size) / this.rowsPerChunk)];
+    }
+
+    private int base(final long row) {
+        return (int) (row % this.rowsPerChunk) * this.layout.width;
+    }
+
+    /**
+     * Describes where each item of a row of a given shape is stored.
+     */
+    private static final class Layout {
+
+        /**
+         * The size of the header preceding the type tags: the magic number, the number of columns, the number of
+         * rows and the offset of the strings.
+         */
+        static final int FIXED_HEADER = 24;
+
+        final TupleShape shape;
+
+        final byte[] kinds;
+
+        final int[] offsets;
+
+        final int width;
+
+        final long dataOffset;
+
+        Layout(final TupleShape shape) {
+            if (shape.size() == 0)
+                throw new IllegalArgumentException("A tuple file must contain at least one column");
+            this.shape = shape;
+            this.kinds = new byte[shape.size()];
+            this.offsets = new int[shape.size()];
+            int width = 0;
+            for (int column = 0; column < this.kinds.length; column++) {
+                final Class<?> type = Objects.requireNonNull(shape.type(column), "Column types must not be null");
+                this.offsets[column] = width;
+                if (type == int.class) {
+                    this.kinds[column] = INT;
+                    width += Integer.BYTES;
+                } else if (type == long.class) {
+                    this.kinds[column] = LONG;
+                    width += Long.BYTES;
+                } else if (type == double.class) {
+                    this.kinds[column] = DOUBLE;
+                    width += Double.BYTES;
+                } else if (type == String.class) {
+                    this.kinds[column] = STRING;
+                    width += STRING_WIDTH;
+                } else {
+                    throw new IllegalArgumentException("Unsupported column type: " + type);
+                }
+            }
+            this.width = width;
+            // Rows begin at the next multiple of eight after the type tags
+            this.dataOffset = FIXED_HEADER + (this.kinds.length + 7) / 8 * 8;
+        }
+
+        int offset(final int column, final byte kind) {
+            if (this.kinds[column] != kind)
+                throw new ClassCastException("Column " + column + " is of type " + this.shape.type(column).getName());
+            return this.offsets[column];
+        }
+    }
+
+    /**
+     * Writes a tuple file one row at a time. The file is incomplete until the writer is closed. If writing a row
+     * fails, the writer is closed and its temporary strings deleted, leaving an incomplete file behind.
+     */
+    public static final class Writer implements Closeable {
+
+        private static final int BUFFER_SIZE = MAX_WIDTH;
+
+        private final Layout layout;
+
+        private final FileChannel channel;
+
+        /**
+         * The strings are written to a temporary file, as they follow every row and the number of rows is not known
+         * until the writer is closed.
+         */
+        private final Path stringsPath;
+
+        private final FileChannel stringsChannel;
+
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private final ByteBuffer stringsBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private long size;
+
+        private long stringsSize;
+
+        private boolean closed;
+
+        private Writer(final Path path, final Layout layout) throws IOException {
+            if (layout.width > BUFFER_SIZE)
+                throw new IllegalArgumentException("Rows must not be wider than " + BUFFER_SIZE + " bytes");
+            this.layout = layout;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            Path stringsPath = null;
+            try {
+                final Path parent = path.toAbsolutePath().getParent();
+                stringsPath = Files.createTempFile(parent, path.getFileName().toString(), ".strings");
+                this.stringsChannel = FileChannel.open(stringsPath, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+                this.channel.position(layout.dataOffset);
+            } catch (final IOException | RuntimeException e) {
+                try (this.channel) {
+                    if (stringsPath != null)
+                        Files.deleteIfExists(stringsPath);
+                } catch (final IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+            this.stringsPath = stringsPath;
+        }
+
+        /**
+         * Appends the items of the specified tuple as a new row. Numeric items are read through
+         * {@code Tuple.getInt(int)} and its siblings, so primitive-specialized tuples are appended without boxing.
+         *
+         * @param tuple a tuple whose items conform to the shape of this file
+         * @throws IOException              if an I/O error occurs, or this writer is closed
+         * @throws IllegalArgumentException if the arity of the tuple differs from the number of columns
+         * @throws ClassCastException       if an item does not conform to the type of its column
+         * @throws NullPointerException     if a numeric item is null
+         */
+        public void append(final Tuple tuple) throws IOException {
+            if (this.closed)
+                throw new IOException("Writer is closed");
+            final byte[] kinds = this.layout.kinds;
+            if (tuple.arity() != kinds.length)
+                throw new IllegalArgumentException("Expected a tuple of arity " + kinds.length + ", but got "
+                        + tuple.arity());
+
+            // A rejected tuple may leave unreferenced string bytes behind, but never a partial row
+            final byte[][] encoded = new byte[kinds.length][];
+            for (int column = 0; column < kinds.length; column++) {
+                if (kinds[column] == STRING) {
+                    final String string = (String) tuple.get(column);
+                    encoded[column] = string == null ? null : string.getBytes(StandardCharsets.UTF_8);
+                }
+            }
+            if (this.buffer.remaining() < this.layout.width)
+                this.drainOrAbort(this.channel, this.buffer);
+            final int base = this.buffer.position();
+            for (int column = 0; column < kinds.length; column++) {
+                final int position = base + this.layout.offsets[column];
+                switch (kinds[column]) {
+                    case INT -> this.buffer.putInt(position, tuple.getInt(column));
+                    case LONG -> this.buffer.putLong(position, tuple.getLong(column));
+                    case DOUBLE -> this.buffer.putDouble(position, tuple.getDouble(column));
+                    default -> {
+                        final byte[] bytes = encoded[column];
+                        this.buffer.putLong(position, this.stringsSize);
+                        this.buffer.putInt(position + Long.BYTES, bytes == null ? NULL_LENGTH : bytes.length);
+                        if (bytes != null) {
+                            try {
+                                this.writeString(bytes);
+                            } catch (final IOException e) {
+                                throw this.abort(e);
+                            }
+                        }
+                    }
+                }
+            }
+            this.buffer.position(base + this.layout.width);
+            this.size++;
+        }
+
+        private void writeString(final byte[] bytes) throws IOException {
+            for (int written = 0; written < bytes.length; ) {
+                if (!this.stringsBuffer.hasRemaining())
+                    drain(this.stringsChannel, this.stringsBuffer);
+                final int count = Math.min(bytes.length - written, this.stringsBuffer.remaining());
+                this.stringsBuffer.put(bytes, written, count);
+                written += count;
+            }
+            this.stringsSize += bytes.length;
+        }
+
+        private void drainOrAbort(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+            try {
+                drain(channel, buffer);
+            } catch (final IOException e) {
+                throw this.abort(e);
+            }
+        }
+
+        /**
+         * Closes this writer without completing its file, deleting its temporary strings, and returns the specified
+         * exception with any failure to do so suppressed.
+         */
+        private IOException abort(final IOException e) {
+            this.closed = true;
+            try (this.channel; this.stringsChannel) {
+                Files.deleteIfExists(this.stringsPath);
+            } catch (final IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            return e;
+        }
+
+        /**
+         * Completes the file by appending its strings and writing its header. Closing a writer which is already
+         * closed has no effect.
+         *
+         * @throws IOException if an I/O error occurs
+         */
+        @Override
+        public void close() throws IOException {
+            if (this.closed)
+                return;
+            this.closed = true;
+            try (this.channel; this.stringsChannel) {
+                drain(this.channel, this.buffer);
+                drain(this.stringsChannel, this.stringsBuffer);
+                final long stringsOffset = this.layout.dataOffset + this.size * this.layout.width;
+                for (long transferred = 0; transferred < this.stringsSize; )
+                    transferred += this.stringsChannel.transferTo(transferred, this.stringsSize - transferred,
+                            this.channel.position(stringsOffset + transferred));
+
+                final ByteBuffer header = ByteBuffer.allocate((int) this.layout.dataOffset);
+                header.putInt(MAGIC).putInt(this.layout.kinds.length).putLong(this.size).putLong(stringsOffset)
+                        .put(this.layout.kinds).clear();
+                this.channel.position(0);
+                while (header.hasRemaining())
+                    this.channel.write(header);
+            }
+        }
+
+        private static void drain(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.homeworkhopper;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe, size-bounded cache of canonical tuples.
+ * <p>
+ * Interning a tuple returns a canonical instance equal to it, which is the first equal tuple interned since the last
+ * time such a tuple was evicted. Interning the same small tuples repeatedly therefore keeps a single instance of each
+ * alive, and canonical instances may be compared by identity.
+ * <p>
+ * Canonical tuples are evicted in least recently used order once the interner is full. To remain scalable under
+ * contention, the interner is divided into independently locked stripes, chosen by the hash of each tuple, and
+ * eviction is performed per stripe. Hits, misses and evictions are counted without contention.
+ * <p>
+ * As with any canonicalizing cache, the items contained within interned tuples should themselves be immutable.
+ *
+ * @author Shaun Thornton
+ */
+public final class TupleInterner {
+
+    private final Stripe[] stripes;
+
+    /**
+     * The base two logarithm of the number of stripes.
+     */
+    private final int stripeBits;
+
+    private final int maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private TupleInterner(final int maximumSize, final int stripes) {
+        this.maximumSize = maximumSize;
+        this.stripes = new Stripe[stripes];
+        this.stripeBits = Integer.numberOfTrailingZeros(stripes);
+        // The maximum size is divided as evenly as possible between the stripes
+        for (int i = 0; i < stripes; i++)
+            this.stripes[i] = new Stripe(maximumSize / stripes + (i < maximumSize % stripes ? 1 : 0));
+    }
+
+    /**
+     * Returns a new interner which holds at most the specified number of canonical tuples. The number of stripes is
+     * derived from the number of available processors.
+     *
+     * @param maximumSize the maximum number of canonical tuples
+     * @return a new interner
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public static TupleInterner withMaximumSize(final int maximumSize) {
+        return withMaximumSize(maximumSize, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Returns a new interner which holds at most the specified number of canonical tuples, divided between at least
+     * the specified number of stripes. The number of stripes is rounded up to a power of two, but never exceeds the
+     * maximum size.
+     *
+     * @param maximumSize the maximum number of canonical tuples
+     * @param stripes     the minimum number of independently locked stripes
+     * @return a new interner
+     * @throws IllegalArgumentException if either the maximum size or the number of stripes is not positive
+     */
+    public static TupleInterner withMaximumSize(final int maximumSize, final int stripes) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        if (stripes <= 0)
+            throw new IllegalArgumentException("Number of stripes must be positive: " + stripes);
+        // A power of two allows a stripe to be chosen by masking the hash of a tuple
+        int count = Integer.highestOneBit(Math.min(stripes, maximumSize));
+        if (count < stripes && count * 2 <= maximumSize)
+            count *= 2;
+        return new TupleInterner(maximumSize, count);
+    }
+
+    /**
+     * Returns the canonical tuple equal to the specified tuple. If no equal tuple has been interned, the specified
+     * tuple becomes the canonical tuple and is returned.
+     * <p>
+     * Since equal tuples are always instances of the same record, the canonical tuple is returned as the type of the
+     * specified tuple.
+     *
+     * @param tuple a tuple object
+     * @param <T>   the type of the tuple
+     * @return the canonical tuple equal to the specified tuple
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T intern(final T tuple) {
+        // The items of the tuple are hashed once. The hash code chooses the stripe, and is then carried into the map
+        // by the key, so that neither looking the tuple up nor adding it hashes the items again
+        final int hash = tuple.hashCode();
+        final Stripe stripe = this.stripes[Integer.rotateLeft(hash * 0x9e3779b9, this.stripeBits)
+                & (this.stripes.length - 1)];
+        synchronized (stripe) {
+            final Tuple canonical = stripe.get(tuple, hash);
+            if (canonical != null) {
+                this.hits.increment();
+                return (T) canonical;
+            }
+            stripe.add(tuple, hash);
+        }
+        this.misses.increment();
+        return tuple;
+    }
+
+    /**
+     * Returns the number of canonical tuples currently held by this interner.
+     *
+     * @return the number of canonical tuples
+     */
+    public int size() {
+        int size = 0;
+        for (final Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                size += stripe.tuples.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of canonical tuples held by this interner.
+     *
+     * @return the maximum number of canonical tuples
+     */
+    public int maximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Removes every canonical tuple from this interner. The counts of hits, misses and evictions are unaffected.
+     */
+    public void clear() {
+        for (final Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                stripe.tuples.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of times an equal tuple had already been interned.
+     *
+     * @return the number of hits
+     */
+    public long hitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of times no equal tuple had been interned.
+     *
+     * @return the number of misses
+     */
+    public long missCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of canonical tuples which have been evicted to make room for others.
+     *
+     * @return the number of evictions
+     */
+    public long evictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Returns the proportion of interned tuples which were hits, or {@code 1.0} if no tuples have been interned.
+     *
+     * @return the hit rate, between {@code 0.0} and {@code 1.0}
+     */
+    public double hitRate() {
+        final long hits = this.hits.sum(), total = hits + this.misses.sum();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "TupleInterner[size=" + this.size() + ", maximumSize=" + this.maximumSize + ", hits=" + this.hitCount()
+                + ", misses=" + this.missCount() + ", evictions=" + this.evictionCount() + "]";
+    }
+
+    /**
+     * A single stripe of canonical tuples, ordered from least to most recently used. Stripes are guarded by their own
+     * monitors.
+     */
+    private final class Stripe {
+
+        private final LinkedHashMap<Key, Tuple> tuples = new LinkedHashMap<>(16, 0.75f, true);
+
+        /**
+         * The key with which tuples are looked up, reused under the monitor of the stripe so that a hit allocates
+         * nothing.
+         */
+        private final Key probe = new Key();
+
+        private final int capacity;
+
+        private Stripe(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Returns the canonical tuple equal to the specified tuple, which has the specified hash code, or {@code null}
+         * if there is none.
+         */
+        private Tuple get(final Tuple tuple, final int hash) {
+            this.probe.tuple = tuple;
+            this.probe.hash = hash;
+            try {
+                return this.tuples.get(this.probe);
+            } finally {
+                // The probe must not keep the tuple alive once the lookup is over
+                this.probe.tuple = null;
+            }
+        }
+
+        /**
+         * Adds the specified tuple, which has the specified hash code, as a canonical tuple, evicting the least
+         * recently used tuple if the stripe is full.
+         */
+        private void add(final Tuple tuple, final int hash) {
+            if (this.tuples.size() == this.capacity) {
+                final Iterator<Key> eldest = this.tuples.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                TupleInterner.this.evictions.increment();
+            }
+            final Key key = new Key();
+            key.tuple = tuple;
+            key.hash = hash;
+            this.tuples.put(key, tuple);
+        }
+    }
+
+    /**
+     * A tuple together with its hash code, computed once when the tuple is interned. Keys are equal if their tuples
+     * are equal, and the stored hash code is compared first so that most unequal tuples are told apart without
+     * comparing their items.
+     */
+    private static final class Key {
+
+        private Tuple tuple;
+
+        private int hash;
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Key other && this.hash == other.hash && this.tuple.equals(other.tuple);
+        }
+    }
+}
@@ -0,0 +1,836 @@
+package com.homeworkhopper;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Encodes tuples as JSON arrays, and decodes JSON arrays as tuples of a target shape.
+ * <p>
+ * A tuple is encoded as an array of its items, in order, with the items of nested tuples flattened into the same
+ * array. Items are encoded according to their type:
+ * <ul>
+ *     <li>{@code null} items as {@code null}</li>
+ *     <li>{@code Boolean} items as {@code true} or {@code false}</li>
+ *     <li>{@code Byte}, {@code Short}, {@code Integer}, {@code Long}, {@code Float} and {@code Double} items as
+ *     numbers, which must be finite</li>
+ *     <li>{@code String} and {@code Character} items as strings</li>
+ *     <li>{@code Tuple} items as arrays of their own</li>
+ * </ul>
+ * Any other type of item is rejected. Rather than inspecting the type of every item, the encoder prepares a writer
+ * once for each class of item it encounters, and stores it alongside that class, so prepared writers never outlive
+ * the classes they serve.
+ * <p>
+ * Since JSON does not describe the types of numbers, tuples are decoded against a target {@link TupleShape}, such as
+ * the runtime shape of the tuples which were encoded. A target shape may describe any of the above types except
+ * {@code Tuple}, and may describe the primitive types {@code int}, {@code long}, {@code double} and {@code boolean},
+ * which reject {@code null}. Shapes whose types are all primitive and match a primitive-specialized record, such as
+ * {@code (int, int)}, decode as that record.
+ * <p>
+ * Large arrays of tuples are written and read incrementally through an {@link ArrayWriter} and an {@link ArrayReader},
+ * neither of which holds more than a single tuple in memory.
+ *
+ * @author Shaun Thornton
+ */
+public final class TupleJson {
+
+    // Kinds, each of which describes how an item of a target shape is decoded
+    private static final byte NULL = 0, BOOLEAN = 1, BYTE = 2, SHORT = 3, CHARACTER = 4, INTEGER = 5, LONG = 6,
+            FLOAT = 7, DOUBLE = 8, STRING = 9;
+
+    // Forms, each of which describes the record produced by decoding
+    private static final byte FLAT = 0, INT_PAIR = 1, LONG_PAIR = 2, DOUBLE_PAIR = 3, INT_LONG_PAIR = 4,
+            DOUBLE_TRIPLE = 5;
+
+    private static final ItemWriter NULL_WRITER = (sb, item) -> sb.append("null");
+
+    private static final ItemWriter BOOLEAN_WRITER = (sb, item) -> sb.append(((Boolean) item).booleanValue());
+
+    private static final ItemWriter INTEGRAL_WRITER = (sb, item) -> sb.append(((Number) item).longValue());
+
+    private static final ItemWriter FLOAT_WRITER = (sb, item) -> appendFinite(sb, ((Float) item).floatValue());
+
+    private static final ItemWriter DOUBLE_WRITER = (sb, item) -> appendFinite(sb, ((Double) item).doubleValue());
+
+    private static final ItemWriter STRING_WRITER = (sb, item) -> appendString(sb, (CharSequence) item);
+
+    private static final ItemWriter CHARACTER_WRITER = (sb, item) -> appendString(sb, String.valueOf(item));
+
+    private static final ItemWriter TUPLE_WRITER = (sb, item) -> appendTo((Tuple) item, sb);
+
+    private static final ItemWriter UNSUPPORTED_WRITER = (sb, item) -> {
+        throw new IllegalArgumentException("Unsupported item type: " + item.getClass().getName());
+    };
+
+    /**
+     * The writer for the items of each class encountered so far.
+     */
+    private static final ClassValue<ItemWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ItemWriter computeValue(final Class<?> type) {
+            if (type == Boolean.class)
+                return BOOLEAN_WRITER;
+            if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class)
+                return INTEGRAL_WRITER;
+            if (type == Double.class)
+                return DOUBLE_WRITER;
+            if (type == Float.class)
+                return FLOAT_WRITER;
+            if (type == String.class)
+                return STRING_WRITER;
+            if (type == Character.class)
+                return CHARACTER_WRITER;
+            if (Tuple.class.isAssignableFrom(type))
+                return TUPLE_WRITER;
+            return UNSUPPORTED_WRITER;
+        }
+    };
+
+    /**
+     * Every power of ten which a {@code double} represents exactly.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * The largest number of significant digits which a {@code double} represents exactly.
+     */
+    private static final int EXACT_DIGITS = 15;
+
+    private TupleJson() {
+    }
+
+    /**
+     * Returns the specified tuple encoded as a JSON array.
+     *
+     * @param tuple a tuple object
+     * @return the encoded tuple
+     * @throws IllegalArgumentException if the tuple contains an item of an unsupported type, or a number which is not
+     *                                  finite
+     */
+    public static String toJson(final Tuple tuple) {
+        // Allow for the brackets, and for each item to be about as long as a small number or a short word
+        return appendTo(tuple, new StringBuilder(2 + 8 * tuple.arity())).toString();
+    }
+
+    /**
+     * Appends the specified tuple, encoded as a JSON array, to the specified builder. The items of
+     * primitive-specialized tuples are appended without boxing.
+     *
+     * @param tuple a tuple object
+     * @param sb    the builder to append to
+     * @return the specified builder
+     * @throws IllegalArgumentException if the tuple contains an item of an unsupported type, or a number which is not
+     *                                  finite
+     */
+    public static StringBuilder appendTo(final Tuple tuple, final StringBuilder sb) {
+        sb.append('[');
+        if (tuple instanceof Tuple.IntPair pair)
+            return sb.append(pair.item1()).append(',').append(pair.item2()).append(']');
+        if (tuple instanceof Tuple.LongPair pair)
+            return sb.append(pair.item1()).append(',').append(pair.item2()).append(']');
+        if (tuple instanceof Tuple.IntLongPair pair)
+            return sb.append(pair.item1()).append(',').append(pair.item2()).append(']');
+        if (tuple instanceof Tuple.DoublePair pair) {
+            appendFinite(sb, pair.item1());
+            appendFinite(sb.append(','), pair.item2());
+            return sb.append(']');
+        }
+        if (tuple instanceof Tuple.DoubleTriple triple) {
+            appendFinite(sb, triple.item1());
+            appendFinite(sb.append(','), triple.item2());
+            appendFinite(sb.append(','), triple.item3());
+            return sb.append(']');
+        }
+
+        Tuple node = tuple;
+        int offset = 0;
+        // Walk each level of nesting once, rather than resolving every index from the outermost tuple
+        while (node instanceof Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?> nested) {
+            for (int i = 0; i < 7; i++)
+                writeItem(sb, nested.get(i), offset + i);
+            offset += 7;
+            node = nested.rest();
+        }
+        for (int i = 0, size = node.arity(); i < size; i++)
+            writeItem(sb, node.get(i), offset + i);
+        return sb.append(']');
+    }
+
+    /**
+     * Decodes the specified JSON array as a tuple of the specified shape.
+     *
+     * @param json  a JSON array
+     * @param shape the type of each item
+     * @return the decoded tuple
+     * @throws IllegalArgumentException if the shape describes an unsupported type, or the JSON is not an array of
+     *                                  items of the types described by the shape
+     */
+    public static Tuple fromJson(final CharSequence json, final TupleShape shape) {
+        // The characters are parsed in place, rather than copied into a stream or a buffer of their own
+        final Parser parser = new Parser(json, shape);
+        try {
+            final Tuple tuple = parser.readTuple();
+            parser.skipWhitespace();
+            if (parser.peek() >= 0)
+                throw parser.corrupt("Unexpected content after the array");
+            return tuple;
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Invalid JSON tuple: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns a new writer which writes an array of tuples to the specified character stream.
+     *
+     * @param out the character stream to write to
+     * @return a new writer
+     */
+    public static ArrayWriter writer(final java.io.Writer out) {
+        return new ArrayWriter(Objects.requireNonNull(out));
+    }
+
+    /**
+     * Returns a new reader which reads an array of tuples of the specified shape from the specified character stream.
+     *
+     * @param in    the character stream to read from
+     * @param shape the type of each item of every tuple
+     * @return a new reader
+     * @throws IllegalArgumentException if the shape describes an unsupported type
+     */
+    public static ArrayReader reader(final java.io.Reader in, final TupleShape shape) {
+        return new ArrayReader(new Parser(Objects.requireNonNull(in), shape));
+    }
+
+    private static void writeItem(final StringBuilder sb, final Object item, final int index) {
+        if (index > 0)
+            sb.append(',');
+        (item == null ? NULL_WRITER : WRITERS.get(item.getClass())).write(sb, item);
+    }
+
+    private static void appendFinite(final StringBuilder sb, final double value) {
+        if (!Double.isFinite(value))
+            throw new IllegalArgumentException("JSON cannot represent " + value);
+        sb.append(value);
+    }
+
+    private static void appendFinite(final StringBuilder sb, final float value) {
+        if (!Float.isFinite(value))
+            throw new IllegalArgumentException("JSON cannot represent " + value);
+        sb.append(value);
+    }
+
+    private static void appendString(final StringBuilder sb, final CharSequence value) {
+        sb.append('"');
+        int run = 0;
+        // Characters which need no escaping are appended in runs, rather than one at a time
+        for (int i = 0, length = value.length(); i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\')
+                continue;
+            sb.append(value, run, i);
+            run = i + 1;
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                default -> sb.append("\\u00").append(Character.forDigit(c >> 4, 16))
+                        .append(Character.forDigit(c & 0xf, 16));
+            }
+        }
+        sb.append(value, run, value.length()).append('"');
+    }
+
+    /**
+     * Appends a single item to a builder.
+     */
+    @FunctionalInterface
+    private interface ItemWriter {
+        void write(StringBuilder sb, Object item);
+    }
+
+    /**
+     * Writes an array of tuples to a character stream, one tuple at a time.
+     * <p>
+     * Tuples are encoded into a reusable builder, whose contents are written to the stream in bulk once they exceed
+     * the size of its buffer, or once this writer is flushed. The array is completed by closing this writer, which
+     * also closes the stream. Writers are not thread safe.
+     */
+    public static final class ArrayWriter implements Closeable, Flushable {
+
+        private static final int BUFFER_SIZE = 8 * 1024;
+
+        private final java.io.Writer out;
+
+        private final StringBuilder pending = new StringBuilder(BUFFER_SIZE);
+
+        private char[] chars = new char[BUFFER_SIZE];
+
+        private boolean started;
+
+        private boolean closed;
+
+        private ArrayWriter(final java.io.Writer out) {
+            this.out = out;
+        }
+
+        /**
+         * Writes the specified tuple as the next element of the array, which may remain buffered until this writer is
+         * flushed.
+         *
+         * @param tuple a tuple object
+         * @throws IOException              if an I/O error occurs, or this writer is closed
+         * @throws IllegalArgumentException if the tuple contains an item of an unsupported type, or a number which is
+         *                                  not finite
+         */
+        public void write(final Tuple tuple) throws IOException {
+            this.ensureOpen();
+            final int start = this.pending.length();
+            this.pending.append(this.started ? ',' : '[');
+            try {
+                appendTo(tuple, this.pending);
+            } catch (final RuntimeException e) {
+                // A rejected tuple leaves nothing behind
+                this.pending.setLength(start);
+                throw e;
+            }
+            this.started = true;
+            if (this.pending.length() >= BUFFER_SIZE)
+                this.drain();
+        }
+
+        /**
+         * Writes each of the specified tuples, in order.
+         *
+         * @param tuples the tuples to write
+         * @throws IOException              if an I/O error occurs, or this writer is closed
+         * @throws IllegalArgumentException if a tuple contains an item of an unsupported type, or a number which is
+         *                                  not finite
+         */
+        public void writeAll(final Iterable<? extends Tuple> tuples) throws IOException {
+            for (final Tuple tuple : tuples)
+                this.write(tuple);
+        }
+
+        /**
+         * Writes every buffered tuple to the stream, and flushes the stream.
+         *
+         * @throws IOException if an I/O error occurs, or this writer is closed
+         */
+        @Override
+        public void flush() throws IOException {
+            this.ensureOpen();
+            this.drain();
+            this.out.flush();
+        }
+
+        /**
+         * Completes the array, and closes the stream. Closing a writer which is already closed has no effect.
+         *
+         * @throws IOException if an I/O error occurs
+         */
+        @Override
+        public void close() throws IOException {
+            if (this.closed)
+                return;
+            this.closed = true;
+            try (this.out) {
+                this.pending.append(this.started ? "]" : "[]");
+                this.drain();
+            }
+        }
+
+        private void drain() throws IOException {
+            final int length = this.pending.length();
+            if (this.chars.length < length)
+                this.chars = new char[length];
+            // Copying into a reusable array avoids creating a string for every batch of tuples
+            this.pending.getChars(0, length, this.chars, 0);
+            this.out.write(this.chars, 0, length);
+            this.pending.setLength(0);
+        }
+
+        private void ensureOpen() throws IOException {
+            if (this.closed)
+                throw new IOException("Writer is closed");
+        }
+    }
+
+    /**
+     * Reads an array of tuples from a character stream, one tuple at a time, without reading the array as a whole.
+     * Readers are not thread safe.
+     */
+    public static final class ArrayReader implements Closeable {
+
+        private final Parser parser;
+
+        private boolean started;
+
+        private boolean ended;
+
+        private boolean closed;
+
+        private ArrayReader(final Parser parser) {
+            this.parser = parser;
+        }
+
+        /**
+         * Reads the next tuple of the array.
+         *
+         * @return the next tuple, or {@code null} if the end of the array has been reached
+         * @throws EOFException             if the stream ends before the end of the array
+         * @throws StreamCorruptedException if the stream is not an array of arrays of items of the types described by
+         *                                  the target shape
+         * @throws IOException              if any other I/O error occurs, or this reader is closed
+         */
+        public Tuple read() throws IOException {
+            if (this.closed)
+                throw new IOException("Reader is closed");
+            if (this.ended)
+                return null;
+            final Parser parser = this.parser;
+            parser.skipWhitespace();
+            if (!this.started) {
+                parser.expect('[');
+                this.started = true;
+                parser.skipWhitespace();
+                if (parser.peek() == ']') {
+                    parser.next();
+                    this.ended = true;
+                    return null;
+                }
+            } else {
+                final int c = parser.next();
+                if (c == ']') {
+                    this.ended = true;
+                    return null;
+                }
+                if (c != ',')
+                    throw parser.unexpected(c, "',' or ']'");
+            }
+            return parser.readTuple();
+        }
+
+        /**
+         * Reads every remaining tuple of the array, performing the specified action for each.
+         *
+         * @param action the action to perform for each tuple
+         * @throws IOException if an I/O error occurs, the stream is invalid, or this reader is closed
+         */
+        public void readAll(final Consumer<? super Tuple> action) throws IOException {
+            for (Tuple tuple = this.read(); tuple != null; tuple = this.read())
+                action.accept(tuple);
+        }
+
+        /**
+         * Closes this reader and its stream. Closing a reader which is already closed has no effect.
+         *
+         * @throws IOException if an I/O error occurs
+         */
+        @Override
+        public void close() throws IOException {
+            if (this.closed)
+                return;
+            this.closed = true;
+            this.parser.in.close();
+        }
+    }
+
+    /**
+     * Decodes tuples of a target shape from a character stream, which is read in bulk into a reusable buffer, or
+     * directly from a sequence of characters which is already in memory.
+     */
+    private static final class Parser {
+
+        private static final int BUFFER_SIZE = 8 * 1024;
+
+        // The shapes which decode as primitive-specialized records
+        private static final TupleShape INT_PAIR_SHAPE = TupleShape.of(int.class, int.class);
+        private static final TupleShape LONG_PAIR_SHAPE = TupleShape.of(long.class, long.class);
+        private static final TupleShape DOUBLE_PAIR_SHAPE = TupleShape.of(double.class, double.class);
+        private static final TupleShape INT_LONG_PAIR_SHAPE = TupleShape.of(int.class, long.class);
+        private static final TupleShape DOUBLE_TRIPLE_SHAPE = TupleShape.of(double.class, double.class, double.class);
+
+        private final java.io.Reader in;
+
+        /**
+         * The characters being parsed when there is no stream, or {@code null} if the buffer holds them instead.
+         */
+        private final CharSequence text;
+
+        private final byte[] kinds;
+
+        private final boolean[] nullable;
+
+        private final byte form;
+
+        private final char[] buffer;
+
+        private int position;
+
+        private int limit;
+
+        /**
+         * Holds the characters of the current string, or of the current number if it must be parsed slowly.
+         */
+        private final StringBuilder token = new StringBuilder();
+
+        /**
+         * The items of the current tuple, which are copied into a new tuple and then discarded.
+         */
+        private final Object[] items;
+
+        /**
+         * The number of characters consumed before the start of the buffer, used to report the offset of errors.
+         */
+        private long consumed;
+
+        private Parser(final java.io.Reader in, final TupleShape shape) {
+            this(in, null, new char[BUFFER_SIZE], 0, shape);
+        }
+
+        private Parser(final CharSequence text, final TupleShape shape) {
+            this(null, text, null, text.length(), shape);
+        }
+
+        private Parser(final java.io.Reader in, final CharSequence text, final char[] buffer, final int limit,
+                       final TupleShape shape) {
+            if (shape.size() == 0)
+                throw new IllegalArgumentException("A tuple must contain at least one item");
+            this.in = in;
+            this.text = text;
+            this.buffer = buffer;
+            this.limit = limit;
+            this.kinds = new byte[shape.size()];
+            this.nullable = new boolean[shape.size()];
+            for (int i = 0; i < this.kinds.length; i++) {
+                final Class<?> type = shape.type(i);
+                this.nullable[i] = type == null || !type.isPrimitive();
+                this.kinds[i] = kindOf(type);
+            }
+            this.form = formOf(shape);
+            this.items = new Object[this.kinds.length];
+        }
+
+        private Tuple readTuple() throws IOException {
+            this.skipWhitespace();
+            this.expect('[');
+            final byte[] kinds = this.kinds;
+            for (int i = 0; i < kinds.length; i++) {
+                this.skipWhitespace();
+                if (i > 0) {
+                    this.expect(',');
+                    this.skipWhitespace();
+                }
+                this.items[i] = this.readItem(i);
+            }
+            this.skipWhitespace();
+            this.expect(']');
+
+            final Object[] items = this.items;
+            final Tuple tuple = switch (this.form) {
+                case INT_PAIR -> Tuple.ofInts((int) (Integer) items[0], (int) (Integer) items[1]);
+                case LONG_PAIR -> Tuple.ofLongs((long) (Long) items[0], (long) (Long) items[1]);
+                case DOUBLE_PAIR -> Tuple.ofDoubles((double) (Double) items[0], (double) (Double) items[1]);
+                case INT_LONG_PAIR -> Tuple.ofIntLong((int) (Integer) items[0], (long) (Long) items[1]);
+                case DOUBLE_TRIPLE -> Tuple.ofDoubles((double) (Double) items[0], (double) (Double) items[1],
+                        (double) (Double) items[2]);
+                default -> Tuple.fromArray(items);
+            };
+            Arrays.fill(items, null);
+            return tuple;
+        }
+
+        private Object readItem(final int index) throws IOException {
+            final byte kind = this.kinds[index];
+            if (this.peek() == 'n') {
+                this.literal("null");
+                if (!this.nullable[index])
+                    throw this.corrupt("Item " + index + " must not be null");
+                return null;
+            }
+            return switch (kind) {
+                case NULL -> throw this.corrupt("Item " + index + " must be null");
+                case BOOLEAN -> {
+                    if (this.peek() == 't') {
+                        this.literal("true");
+                        yield Boolean.TRUE;
+                    }
+                    this.literal("false");
+                    yield Boolean.FALSE;
+                }
+                case BYTE -> (byte) this.readIntegral(Byte.MIN_VALUE, Byte.MAX_VALUE, "byte");
+                case SHORT -> (short) this.readIntegral(Short.MIN_VALUE, Short.MAX_VALUE, "short");
+                case INTEGER -> (int) this.readIntegral(Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
+                case LONG -> this.readIntegral(Long.MIN_VALUE, Long.MAX_VALUE, "long");
+                case FLOAT -> (float) this.readDouble();
+                case DOUBLE -> this.readDouble();
+                case CHARACTER -> {
+                    final String string = this.readString();
+                    if (string.length() != 1)
+                        throw this.corrupt("Item " + index + " must be a single character");
+                    yield string.charAt(0);
+                }
+                default -> this.readString();
+            };
+        }
+
+        /**
+         * Reads an integer within the specified bounds, directly from the buffer.
+         */
+        private long readIntegral(final long min, final long max, final String type) throws IOException {
+            final boolean negative = this.peek() == '-';
+            if (negative)
+                this.next();
+            // Digits are accumulated as a non-positive value, which is able to represent the minimum of any type
+            final long limit = negative ? min : -max;
+            long value = 0;
+            boolean any = false;
+            for (int c = this.peek(); c >= '0' && c <= '9'; c = this.peek()) {
+                final int digit = this.next() - '0';
+                if (value < limit / 10 || value * 10 < limit + digit)
+                    throw this.corrupt("Number is not a valid " + type);
+                value = value * 10 - digit;
+                any = true;
+            }
+            final int c = this.peek();
+            if (!any || c == '.' || c == 'e' || c == 'E')
+                throw this.corrupt("Number is not a valid " + type);
+            return negative ? value : -value;
+        }
+
+        /**
+         * Reads a number as a {@code double}, directly from the buffer whenever the decimal value is exactly
+         * representable, which holds for the short decimals found in most documents. Other values are parsed by
+         * {@code Double.parseDouble(String)}, which guarantees correct rounding.
+         */
+        private double readDouble() throws IOException {
+            final StringBuilder token = this.token;
+            token.setLength(0);
+            final boolean negative = this.peek() == '-';
+            if (negative)
+                token.append((char) this.next());
+            long significand = 0;
+            int digits = 0, exponent = 0;
+            boolean point = false, any = false;
+            for (int c = this.peek(); c >= '0' && c <= '9' || c == '.' && !point; c = this.peek()) {
+                token.append((char) this.next());
+                if (c == '.') {
+                    point = true;
+                    continue;
+                }
+                any = true;
+                // Leading zeros are not significant
+                if (significand != 0 || c != '0')
+                    digits++;
+                if (digits <= EXACT_DIGITS) {
+                    significand = significand * 10 + (c - '0');
+                    if (point)
+                        exponent--;
+                }
+            }
+            if (!any)
+                throw this.corrupt("Expected a number");
+            boolean exact = digits <= EXACT_DIGITS;
+            int c = this.peek();
+            if (c == 'e' || c == 'E') {
+                token.append((char) this.next());
+                c = this.peek();
+                final boolean negativeExponent = c == '-';
+                if (c == '-' || c == '+')
+                    token.append((char) this.next());
+                int value = 0;
+                boolean exponentDigits = false;
+                for (c = this.peek(); c >= '0' && c <= '9'; c = this.peek()) {
+                    token.append((char) this.next());
+                    value = Math.min(value * 10 + (c - '0'), 10_000);
+                    exponentDigits = true;
+                }
+                if (!exponentDigits)
+                    throw this.corrupt("Expected an exponent");
+                exponent += negativeExponent ? -value : value;
+            }
+            if (exact && exponent >= -22 && exponent <= 22) {
+                final double value = exponent < 0
+                        ? significand / POWERS_OF_TEN[-exponent]
+                        : significand * POWERS_OF_TEN[exponent];
+                return negative ? -value : value;
+            }
+            try {
+                return Double.parseDouble(token.toString());
+            } catch (final NumberFormatException e) {
+                throw this.corrupt("Invalid number: " + token);
+            }
+        }
+
+        private String readString() throws IOException {
+            this.expect('"');
+            final StringBuilder token = this.token;
+            token.setLength(0);
+            while (true) {
+                // Characters which need no unescaping are appended in runs, directly from the buffer
+                int run = this.position;
+                while (this.position < this.limit) {
+                    final char c = this.charAt(this.position);
+                    if (c == '"' || c == '\\' || c < 0x20)
+                        break;
+                    this.position++;
+                }
+                if (this.text != null)
+                    token.append(this.text, run, this.position);
+                else
+                    token.append(this.buffer, run, this.position - run);
+                final int c = this.next();
+                if (c == '"')
+                    return token.toString();
+                if (c == '\\')
+                    token.append(this.readEscape());
+                else if (c < 0)
+                    throw new EOFException("Stream ended within a string");
+                else if (c < 0x20)
+                    throw this.corrupt("Unescaped control character within a string");
+                else
+                    token.append((char) c);
+            }
+        }
+
+        private char readEscape() throws IOException {
+            final int c = this.next();
+            return switch (c) {
+                case '"', '\\', '/' -> (char) c;
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> {
+                    int value = 0;
+                    for (int i = 0; i < 4; i++) {
+                        final int digit = Character.digit(this.next(), 16);
+                        if (digit < 0)
+                            throw this.corrupt("Invalid unicode escape");
+                        value = value << 4 | digit;
+                    }
+                    yield (char) value;
+                }
+                default -> throw this.unexpected(c, "an escape");
+            };
+        }
+
+        private void literal(final String literal) throws IOException {
+            for (int i = 0; i < literal.length(); i++) {
+                final int c = this.next();
+                if (c != literal.charAt(i))
+                    throw this.unexpected(c, "'" + literal + "'");
+            }
+        }
+
+        private void expect(final char expected) throws IOException {
+            final int c = this.next();
+            if (c != expected)
+                throw this.unexpected(c, "'" + expected + "'");
+        }
+
+        private void skipWhitespace() throws IOException {
+            for (int c = this.peek(); c == ' ' || c == '\n' || c == '\r' || c == '\t'; c = this.peek())
+                this.position++;
+        }
+
+        /**
+         * Returns the next character without consuming it, or {@code -1} if the stream has ended.
+         */
+        private int peek() throws IOException {
+            if (this.position == this.limit && !this.fill())
+                return -1;
+            return this.charAt(this.position);
+        }
+
+        /**
+         * Consumes and returns the next character, or returns {@code -1} if the stream has ended.
+         */
+        private int next() throws IOException {
+            if (this.position == this.limit && !this.fill())
+                return -1;
+            return this.charAt(this.position++);
+        }
+
+        private char charAt(final int index) {
+            return this.text != null ? this.text.charAt(index) : this.buffer[index];
+        }
+
+        private boolean fill() throws IOException {
+            if (this.in == null)
+                return false;
+            this.consumed += this.limit;
+            this.position = 0;
+            this.limit = 0;
+            int read;
+            do {
+                read = this.in.read(this.buffer);
+            } while (read == 0);
+            if (read < 0)
+                return false;
+            this.limit = read;
+            return true;
+        }
+
+        private IOException unexpected(final int c, final String expected) {
+            if (c < 0)
+                return new EOFException("Expected " + expected + ", but the stream ended");
+            return this.corrupt("Expected " + expected + ", but found '" + (char) c + "'");
+        }
+
+        private StreamCorruptedException corrupt(final String message) {
+            return new StreamCorruptedException(message + " at offset " + (this.consumed + this.position));
+        }
+
+        private static byte kindOf(final Class<?> type) {
+            if (type == null)
+                return NULL;
+            if (type == Boolean.class || type == boolean.class)
+                return BOOLEAN;
+            if (type == Byte.class)
+                return BYTE;
+            if (type == Short.class)
+                return SHORT;
+            if (type == Character.class)
+                return CHARACTER;
+            if (type == Integer.class || type == int.class)
+                return INTEGER;
+            if (type == Long.class || type == long.class)
+                return LONG;
+            if (type == Float.class)
+                return FLOAT;
+            if (type == Double.class || type == double.class)
+                return DOUBLE;
+            if (type == String.class)
+                return STRING;
+            throw new IllegalArgumentException("Unsupported item type: " + type.getName());
+        }
+
+        private static byte formOf(final TupleShape shape) {
+            if (shape.equals(INT_PAIR_SHAPE))
+                return INT_PAIR;
+            if (shape.equals(LONG_PAIR_SHAPE))
+                return LONG_PAIR;
+            if (shape.equals(DOUBLE_PAIR_SHAPE))
+                return DOUBLE_PAIR;
+            if (shape.equals(INT_LONG_PAIR_SHAPE))
+                return INT_LONG_PAIR;
+            if (shape.equals(DOUBLE_TRIPLE_SHAPE))
+                return DOUBLE_TRIPLE;
+            return FLAT;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.homeworkhopper;
+
+import java.util.Objects;
+
+/**
+ * A tuple intended to be used as a key within hash based collections such as {@code HashMap}.
+ * <p>
+ * Unlike the tuple it wraps, whose hash code is recomputed from every item upon each call, a {@code TupleKey} computes
+ * a well distributed hash code exactly once upon construction. Two keys are equal if, and only if, the tuples they
+ * wrap are equal, and keys with differing hash codes are never compared item by item.
+ * <p>
+ * As with any hash map key, the items contained within the wrapped tuple should themselves be immutable.
+ *
+ * @author Shaun Thornton
+ * @see Tuple#key()
+ */
+public final class TupleKey {
+
+    private static final int C1 = 0xcc9e2d51;
+
+    private static final int C2 = 0x1b873593;
+
+    private final Tuple tuple;
+
+    private final int hash;
+
+    private TupleKey(final Tuple tuple) {
+        this.tuple = tuple;
+        this.hash = hash(tuple);
+    }
+
+    /**
+     * Returns a new {@code TupleKey} wrapping the specified tuple.
+     *
+     * @param tuple a tuple object
+     * @return a new key wrapping the specified tuple
+     */
+    public static TupleKey of(final Tuple tuple) {
+        return new TupleKey(Objects.requireNonNull(tuple));
+    }
+
+    /**
+     * Returns a well distributed hash code for the specified tuple, derived from the hash code of each of its items.
+     * <p>
+     * Item hash codes are combined using the MurmurHash3 mixing functions, meaning that tuples which differ only
+     * slightly (such as by the order of their items) are unlikely to collide.
+     *
+     * @param tuple a tuple object
+     * @return a hash code for the specified tuple
+     */
+    public static int hash(final Tuple tuple) {
+        int hash = 0;
+        Tuple node = tuple;
+        // Walk each level of nesting once, rather than resolving every index from the outermost tuple
+        while (node instanceof Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?> nested) {
+            for (int i = 0; i < 7; i++)
+                hash = mix(hash, Objects.hashCode(nested.get(i)));
+            node = nested.rest();
+        }
+        for (int i = 0, size = node.arity(); i < size; i++)
+            hash = mix(hash, Objects.hashCode(node.get(i)));
+        return finish(hash ^ tuple.arity());
+    }
+
+    private static int mix(final int hash, final int item) {
+        final int k = Integer.rotateLeft(item * C1, 15) * C2;
+        return Integer.rotateLeft(hash ^ k, 13) * 5 + 0xe6546b64;
+    }
+
+    private static int finish(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Returns the tuple wrapped by this key.
+     *
+     * @return the tuple wrapped by this key
+     */
+    public Tuple tuple() {
+        return this.tuple;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        // Differing hash codes are checked first, as they rule out equality without touching any items
+        return this == o || o instanceof TupleKey other && this.hash == other.hash && this.tuple.equals(other.tuple);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return this.tuple.toString();
+    }
+}
@@ -0,0 +1,525 @@
+package com.homeworkhopper;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * An append-only store of same-shape tuples whose items are held outside of the Java heap.
+ * <p>
+ * Rows are laid out back to back within direct {@code ByteBuffer} segments, so the items of a store are never scanned
+ * or moved by the garbage collector. Each row stores its {@code int}, {@code long} and {@code double} items at fixed
+ * offsets, followed by each of its {@code String} items as a length-prefixed sequence of UTF-8 bytes. Only the
+ * location of each row is held on the heap, at a cost of eight bytes per row.
+ * <p>
+ * Rows may be read item by item through the getters of this class, visited in place through a reusable
+ * {@link Cursor}, or materialized as new tuples through {@link #row(int)}. Numeric items are read directly from their
+ * segment without boxing, while strings are decoded upon each read. A materialized row is the same record that was
+ * appended whenever the shape of the store matches a primitive-specialized record, and a generic record otherwise.
+ * <p>
+ * Once a store is closed, its segments are released and every further access fails. Since Java 17 offers no way to
+ * free a direct buffer deterministically, the memory of a closed store is reclaimed once its segments are no longer
+ * reachable. Stores are not thread safe.
+ *
+ * @author Shaun Thornton
+ */
+public final class TupleSegmentStore implements AutoCloseable {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 20;
+
+    private static final byte INT = 0, LONG = 1, DOUBLE = 2, STRING = 3;
+
+    /**
+     * The length prefix of a null string.
+     */
+    private static final int NULL_LENGTH = -1;
+
+    private final TupleShape shape;
+
+    private final int segmentSize;
+
+    /**
+     * The kind of each column.
+     */
+    private final byte[] kinds;
+
+    /**
+     * The offset of each numeric column within a row, or the position of each string column among the string columns
+     * of a row.
+     */
+    private final int[] offsets;
+
+    /**
+     * The combined width of the numeric columns, which precede the string columns of each row.
+     */
+    private final int fixedWidth;
+
+    private List<ByteBuffer> segments = new ArrayList<>();
+
+    /**
+     * The location of each row, as the index of its segment in the upper half and its offset in the lower half.
+     */
+    private long[] rows = new long[16];
+
+    private int size;
+
+    private TupleSegmentStore(final TupleShape shape, final int segmentSize) {
+        if (shape.size() == 0)
+            throw new IllegalArgumentException("A store must contain at least one column");
+        this.shape = shape;
+        this.segmentSize = segmentSize;
+        this.kinds = new byte[shape.size()];
+        this.offsets = new int[shape.size()];
+        int fixedWidth = 0, strings = 0;
+        for (int column = 0; column < this.kinds.length; column++) {
+            final Class<?> type = Objects.requireNonNull(shape.type(column), "Column types must not be null");
+            if (type == int.class) {
+                this.kinds[column] = INT;
+                this.offsets[column] = fixedWidth;
+                fixedWidth += Integer.BYTES;
+            } else if (type == long.class) {
+                this.kinds[column] = LONG;
+                this.offsets[column] = fixedWidth;
+                fixedWidth += Long.BYTES;
+            } else if (type == double.class) {
+                this.kinds[column] = DOUBLE;
+                this.offsets[column] = fixedWidth;
+                fixedWidth += Double.BYTES;
+            } else if (type == String.class) {
+                this.kinds[column] = STRING;
+                this.offsets[column] = strings++;
+            } else {
+                throw new IllegalArgumentException("Unsupported column type: " + type);
+            }
+        }
+        this.fixedWidth = fixedWidth;
+    }
+
+    /**
+     * Returns a new, empty store whose columns have the specified types.
+     *
+     * @param types the type of each column, each of which must be {@code int}, {@code long}, {@code double} or
+     *              {@code String}
+     * @return a new, empty store
+     * @throws IllegalArgumentException if no types are specified, or a type is unsupported
+     */
+    public static TupleSegmentStore of(final Class<?>... types) {
+        return of(TupleShape.of(types));
+    }
+
+    /**
+     * Returns a new, empty store whose columns are described by the specified shape.
+     *
+     * @param shape the shape of each row
+     * @return a new, empty store
+     * @throws IllegalArgumentException if the shape is empty, or describes an unsupported type
+     */
+    public static TupleSegmentStore of(final TupleShape shape) {
+        return withSegmentSize(shape, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Returns a new, empty store whose columns are described by the specified shape, and which allocates segments of
+     * the specified size. Rows larger than a segment are stored within a segment of their own.
+     *
+     * @param shape       the shape of each row
+     * @param segmentSize the size of each segment, in bytes
+     * @return a new, empty store
+     * @throws IllegalArgumentException if the shape is empty or describes an unsupported type, or the segment size is
+     *                                  not positive
+     */
+    public static TupleSegmentStore withSegmentSize(final TupleShape shape, final int segmentSize) {
+        if (segmentSize <= 0)
+            throw new IllegalArgumentException("Segment size must be positive: " + segmentSize);
+        return new TupleSegmentStore(shape, segmentSize);
+    }
+
+    /**
+     * Returns the shape shared by every row of this store, which describes the type of each column.
+     *
+     * @return the shape of each row
+     */
+    public TupleShape shape() {
+        return this.shape;
+    }
+
+    /**
+     * Returns the number of rows within this store.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Appends the items of the specified tuple as a new row. Numeric items are read through
+     * {@code Tuple.getInt(int)} and its siblings, so primitive-specialized tuples are appended without boxing.
+     *
+     * @param tuple a tuple whose items conform to the shape of this store
+     * @throws IllegalArgumentException if the arity of the tuple differs from the number of columns
+     * @throws ClassCastException       if an item does not conform to the type of its column
+     * @throws NullPointerException     if a numeric item is null
+     * @throws IllegalStateException    if this store is closed
+     */
+    public void append(final Tuple tuple) {
+        final List<ByteBuffer> segments = this.segments();
+        if (tuple.arity() != this.kinds.length)
+            throw new IllegalArgumentException("Expected a tuple of arity " + this.kinds.length + ", but got "
+                    + tuple.arity());
+
+        // Strings are encoded up front, as their encoded lengths determine the length of the row
+        int length = this.fixedWidth;
+        final byte[][] strings = new byte[this.kinds.length][];
+        for (int column = 0; column < this.kinds.length; column++) {
+            if (this.kinds[column] != STRING)
+                continue;
+            final String string = (String) tuple.get(column);
+            if (string != null)
+                length += (strings[column] = string.getBytes(StandardCharsets.UTF_8)).length;
+            length += Integer.BYTES;
+        }
+
+        final ByteBuffer segment = this.segmentFor(segments, length);
+        final int base = segment.position();
+        int position = base + this.fixedWidth;
+        for (int column = 0; column < this.kinds.length; column++) {
+            switch (this.kinds[column]) {
+                case INT -> segment.putInt(base + this.offsets[column], tuple.getInt(column));
+                case LONG -> segment.putLong(base + this.offsets[column], tuple.getLong(column));
+                case DOUBLE -> segment.putDouble(base + this.offsets[column], tuple.getDouble(column));
+                default -> {
+                    final byte[] bytes = strings[column];
+                    segment.putInt(position, bytes == null ? NULL_LENGTH : bytes.length);
+                    position += Integer.BYTES;
+                    if (bytes != null) {
+                        segment.put(position, bytes);
+                        position += bytes.length;
+                    }
+                }
+            }
+        }
+        // The row only becomes visible once every item has been written successfully
+        segment.position(base + length);
+        if (this.size == this.rows.length)
+            this.rows = Arrays.copyOf(this.rows, this.size + (this.size >> 1));
+        this.rows[this.size++] = (long) (segments.size() - 1) << 32 | base;
+    }
+
+    /**
+     * Returns the item at the specified row and column. Numeric items are boxed.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws IllegalStateException if this store is closed
+     */
+    public Object get(final int row, final int column) {
+        return this.read(this.segment(row), this.base(row), column);
+    }
+
+    /**
+     * Returns the {@code int} item at the specified row and column, without boxing.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws ClassCastException    if the column is not an {@code int} column
+     * @throws IllegalStateException if this store is closed
+     */
+    public int getInt(final int row, final int column) {
+        return this.segment(row).getInt(this.base(row) + this.offset(column, INT));
+    }
+
+    /**
+     * Returns the {@code long} item at the specified row and column, without boxing.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws ClassCastException    if the column is not a {@code long} column
+     * @throws IllegalStateException if this store is closed
+     */
+    public long getLong(final int row, final int column) {
+        return this.segment(row).getLong(this.base(row) + this.offset(column, LONG));
+    }
+
+    /**
+     * Returns the {@code double} item at the specified row and column, without boxing.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws ClassCastException    if the column is not a {@code double} column
+     * @throws IllegalStateException if this store is closed
+     */
+    public double getDouble(final int row, final int column) {
+        return this.segment(row).getDouble(this.base(row) + this.offset(column, DOUBLE));
+    }
+
+    /**
+     * Returns the {@code String} item at the specified row and column, decoding it from its segment.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws ClassCastException    if the column is not a {@code String} column
+     * @throws IllegalStateException if this store is closed
+     */
+    public String getString(final int row, final int column) {
+        this.offset(column, STRING);
+        return this.readString(this.segment(row), this.base(row), column);
+    }
+
+    /**
+     * Returns a new tuple containing the items of the specified row. If the shape of this store matches a
+     * primitive-specialized record, the row is returned as that record, without boxing. Otherwise, numeric items are
+     * boxed.
+     *
+     * @param row the index of the row
+     * @return a new tuple containing the items of the specified row
+     * @throws IllegalStateException if this store is closed
+     */
+    public Tuple row(final int row) {
+        final ByteBuffer segment = this.segment(row);
+        final int base = this.base(row);
+        final int[] offsets = this.offsets;
+        return switch (this.shape.record()) {
+            case TupleShape.INT_PAIR -> Tuple.ofInts(segment.getInt(base), segment.getInt(base + offsets[1]));
+            case TupleShape.LONG_PAIR -> Tuple.ofLongs(segment.getLong(base), segment.getLong(base + offsets[1]));
+            case TupleShape.DOUBLE_PAIR ->
+                    Tuple.ofDoubles(segment.getDouble(base), segment.getDouble(base + offsets[1]));
+            case TupleShape.INT_LONG_PAIR ->
+                    Tuple.ofIntLong(segment.getInt(base), segment.getLong(base + offsets[1]));
+            case TupleShape.DOUBLE_TRIPLE -> Tuple.ofDoubles(segment.getDouble(base),
+                    segment.getDouble(base + offsets[1]), segment.getDouble(base + offsets[2]));
+            default -> {
+                final Object[] items = new Object[this.kinds.length];
+                for (int column = 0; column < items.length; column++)
+                    items[column] = this.read(segment, base, column);
+                yield Tuple.fromArray(items);
+            }
+        };
+    }
+
+    /**
+     * Returns a new cursor positioned before the first row of this store.
+     *
+     * @return a new cursor
+     * @throws IllegalStateException if this store is closed
+     */
+    public Cursor cursor() {
+        this.segments();
+        return new Cursor();
+    }
+
+    /**
+     * Performs the specified action once for every row of this store, in order. The same cursor is passed to every
+     * invocation, positioned at the current row, so scanning a store does not allocate per row.
+     *
+     * @param action the action to perform for each row
+     * @throws IllegalStateException if this store is closed
+     */
+    public void scan(final Consumer<? super Cursor> action) {
+        final Cursor cursor = this.cursor();
+        while (cursor.next())
+            action.accept(cursor);
+    }
+
+    /**
+     * Closes this store, releasing its segments. Closing a store which is already closed has no effect.
+     */
+    @Override
+    public void close() {
+        this.segments = null;
+        this.rows = null;
+        this.size = 0;
+    }
+
+    private List<ByteBuffer> segments() {
+        if (this.segments == null)
+            throw new IllegalStateException("Store is closed");
+        return this.segments;
+    }
+
+    private ByteBuffer segmentFor(final List<ByteBuffer> segments, final int length) {
+        if (!segments.isEmpty()) {
+            final ByteBuffer last = segments.get(segments.size() - 1);
+            if (last.remaining() >= length)
+                return last;
+        }
+        final ByteBuffer segment = ByteBuffer.allocateDirect(Math.max(this.segmentSize, length))
+                .order(ByteOrder.nativeOrder());
+        segments.add(segment);
+        return segment;
+    }
+
+    private ByteBuffer segment(final int row) {
+        final List<ByteBuffer> segments = this.segments();
+        return segments.get((int) (this.rows[Objects.checkIndex(row, this.size)] >>> 32));
+    }
+
+    private int base(final int row) {
+        return (int) this.rows[row];
+    }
+
+    private int offset(final int column, final byte kind) {
+        if (this.kinds[column] != kind)
+            throw new ClassCastException("Column " + column + " is of type " + this.shape.type(column).getName());
+        return this.offsets[column];
+    }
+
+    private Object read(final ByteBuffer segment, final int base, final int column) {
+        return switch (this.kinds[column]) {
+            case INT -> segment.getInt(base + this.offsets[column]);
+            case LONG -> segment.getLong(base + this.offsets[column]);
+            case DOUBLE -> segment.getDouble(base + this.offsets[column]);
+            default -> this.readString(segment, base, column);
+        };
+    }
+
+    private String readString(final ByteBuffer segment, final int base, final int column) {
+        // Skip over the strings which precede the requested one
+        int position = base + this.fixedWidth;
+        for (int i = this.offsets[column]; i > 0; i--)
+            position += Integer.BYTES + Math.max(0, segment.getInt(position));
+        final int length = segment.getInt(position);
+        if (length == NULL_LENGTH)
+            return null;
+        final byte[] bytes = new byte[length];
+        segment.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A reusable, movable view of a single row of a {@code TupleSegmentStore}. A cursor reads the items of its row
+     * directly from the row's segment. Every read fails unless the cursor is positioned at a row, which it is only
+     * once {@link #next()} has returned {@code true}, and every read fails once its store is closed.
+     */
+    public final class Cursor {
+
+        private int row = -1;
+
+        /**
+         * The segment of the current row, or {@code null} if this cursor is not positioned at a row.
+         */
+        private ByteBuffer segment;
+
+        private int base;
+
+        private Cursor() {
+        }
+
+        /**
+         * Advances this cursor to the next row.
+         *
+         * @return {@code true} if this cursor is now positioned at a row, or {@code false} if no rows remain
+         * @throws IllegalStateException if the store is closed
+         */
+        public boolean next() {
+            final TupleSegmentStore store = TupleSegmentStore.this;
+            store.segments();
+            if (this.row >= store.size)
+                return false;
+            if (++this.row == store.size) {
+                this.segment = null;
+                return false;
+            }
+            this.segment = store.segment(this.row);
+            this.base = store.base(this.row);
+            return true;
+        }
+
+        /**
+         * Returns the index of the row this cursor is positioned at.
+         *
+         * @return the index of the current row
+         */
+        public int row() {
+            return this.row;
+        }
+
+        /**
+         * Returns the item at the specified column of the current row. Numeric items are boxed.
+         *
+         * @param column the index of the column
+         * @return the item at the specified column
+         * @throws IllegalStateException if the store is closed, or this cursor is not positioned at a row
+         */
+        public Object get(final int column) {
+            return TupleSegmentStore.this.read(this.segment(), this.base, column);
+        }
+
+        /**
+         * Returns the {@code int} item at the specified column of the current row, without boxing.
+         *
+         * @param column the index of the column
+         * @return the item at the specified column
+         * @throws IllegalStateException if the store is closed, or this cursor is not positioned at a row
+         */
+        public int getInt(final int column) {
+            return this.segment().getInt(this.base + TupleSegmentStore.this.offset(column, INT));
+        }
+
+        /**
+         * Returns the {@code long} item at the specified column of the current row, without boxing.
+         *
+         * @param column the index of the column
+         * @return the item at the specified column
+         * @throws IllegalStateException if the store is closed, or this cursor is not positioned at a row
+         */
+        public long getLong(final int column) {
+            return this.segment().getLong(this.base + TupleSegmentStore.this.offset(column, LONG));
+        }
+
+        /**
+         * Returns the {@code double} item at the specified column of the current row, without boxing.
+         *
+         * @param column the index of the column
+         * @return the item at the specified column
+         * @throws IllegalStateException if the store is closed, or this cursor is not positioned at a row
+         */
+        public double getDouble(final int column) {
+            return this.segment().getDouble(this.base + TupleSegmentStore.this.offset(column, DOUBLE));
+        }
+
+        /**
+         * Returns the {@code String} item at the specified column of the current row, decoding it from its segment.
+         *
+         * @param column the index of the column
+         * @return the item at the specified column
+         * @throws IllegalStateException if the store is closed, or this cursor is not positioned at a row
+         */
+        public String getString(final int column) {
+            TupleSegmentStore.this.offset(column, STRING);
+            return TupleSegmentStore.this.readString(this.segment(), this.base, column);
+        }
+
+        /**
+         * Returns a new tuple containing the items of the current row.
+         *
+         * @return a new tuple containing the items of the current row
+         * @throws IllegalStateException if the store is closed, or this cursor is not positioned at a row
+         */
+        public Tuple toTuple() {
+            this.segment();
+            return TupleSegmentStore.this.row(this.row);
+        }
+
+        /**
+         * Returns the segment of the current row, which must not be read once the store is closed, even though the
+         * cursor still refers to it.
+         */
+        private ByteBuffer segment() {
+            TupleSegmentStore.this.segments();
+            if (this.segment == null)
+                throw new IllegalStateException("Cursor is not positioned at a row");
+            return this.segment;
+        }
+    }
+}
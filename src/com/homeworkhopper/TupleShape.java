@@ -0,0 +1,364 @@
+package com.homeworkhopper;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable description of the type of each item within a tuple.
+ * <p>
+ * Shapes are canonicalized, meaning that two equal shapes obtained through the static factory methods of this class
+ * are always the same instance and may therefore be compared by identity. A shape may describe either the declared
+ * (erased) types of a tuple's components, or the runtime types of the items actually contained within a tuple.
+ * <p>
+ * Canonical shapes are only held weakly, in the same way as interned strings, so a shape which is no longer in use is
+ * reclaimed along with the classes it describes. As a result, describing the items of a tuple never keeps the class
+ * loader of those items reachable. Interning a shape never blocks, so shapes may be described concurrently from any
+ * number of threads.
+ * <p>
+ * Null items do not have a runtime type, and are therefore described by a {@code null} type.
+ *
+ * @author Shaun Thornton
+ * @see Tuple#shape()
+ * @see Tuple#declaredShape()
+ */
+public final class TupleShape {
+
+    // The records which tuples of a shape are built as, where each primitive-specialized record is built from the
+    // shape whose types are exactly its own components, and every other shape is built as a generic record
+    static final byte GENERIC = 0, INT_PAIR = 1, LONG_PAIR = 2, DOUBLE_PAIR = 3, INT_LONG_PAIR = 4, DOUBLE_TRIPLE = 5;
+
+    /**
+     * The number of runtime shapes remembered for each record class, beyond which the least recently added is
+     * forgotten.
+     */
+    private static final int RECENT_SHAPES = 4;
+
+    /**
+     * A weak reference to every canonical shape, keyed by itself, so that an entry never keeps its own shape
+     * reachable. References to reclaimed shapes are removed as they are enqueued.
+     */
+    private static final ConcurrentHashMap<Canonical, Canonical> SHAPES = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<TupleShape> RECLAIMED = new ReferenceQueue<>();
+
+    /**
+     * The declared shape of each concrete tuple record, derived once from its record components.
+     */
+    private static final ClassValue<TupleShape> DECLARED = new ClassValue<>() {
+        @Override
+        protected TupleShape computeValue(final Class<?> type) {
+            final RecordComponent[] components = type.getRecordComponents();
+            // The nested tuple of an OfNested is not an item in its own right
+            final int size = type == Tuple.OfNested.class ? 7 : components.length;
+            final Class<?>[] types = new Class<?>[size];
+            for (int i = 0; i < size; i++)
+                types[i] = components[i].getType();
+            return intern(types);
+        }
+    };
+
+    /**
+     * The most recently observed runtime shapes of each concrete tuple record. Tuples of the same record class very
+     * often share one of a few runtime shapes, in which case the canonical shape can be found without allocating. The
+     * shapes are held weakly, as they may describe the classes of another class loader.
+     */
+    private static final ClassValue<Recent> RECENT = new ClassValue<>() {
+        @Override
+        protected Recent computeValue(final Class<?> type) {
+            // The items of a primitive-specialized record are always boxed to the same types
+            for (final Class<?> declared : DECLARED.get(type).types)
+                if (!declared.isPrimitive())
+                    return new Recent(false);
+            return new Recent(true);
+        }
+    };
+
+    private final Class<?>[] types;
+
+    private final List<Class<?>> view;
+
+    private final int hash;
+
+    private final byte record;
+
+    /**
+     * The declared shape of a {@code Tuple.OfNested} whose nested tuple has this declared shape, once computed.
+     */
+    private volatile TupleShape nested;
+
+    private TupleShape(final Class<?>[] types) {
+        this.types = types;
+        this.view = Collections.unmodifiableList(Arrays.asList(types));
+        this.hash = Arrays.hashCode(types);
+        this.record = recordOf(types);
+    }
+
+    /**
+     * Returns the canonical shape describing the specified types.
+     *
+     * @param types the type of each item, where {@code null} describes a null item
+     * @return the canonical shape describing the specified types
+     */
+    public static TupleShape of(final Class<?>... types) {
+        return intern(types.clone());
+    }
+
+    /**
+     * Returns the canonical shape describing the runtime types of the items contained within the specified tuple.
+     * <p>
+     * When the specified tuple has the same runtime shape as one of the last four distinct shapes observed of tuples
+     * of the same record class, this method does not allocate.
+     *
+     * @param tuple a tuple object
+     * @return the canonical runtime shape of the specified tuple
+     */
+    public static TupleShape of(final Tuple tuple) {
+        final Recent recent = RECENT.get(tuple.getClass());
+        for (final WeakReference<?> reference : recent.shapes) {
+            final TupleShape shape = (TupleShape) reference.get();
+            if (shape != null && (recent.fixed || shape.matches(tuple)))
+                return shape;
+        }
+
+        final Object[] items = tuple.items();
+        final Class<?>[] types = new Class<?>[items.length];
+        for (int i = 0; i < items.length; i++)
+            types[i] = typeOf(items[i]);
+        final TupleShape shape = intern(types);
+        recent.add(shape);
+        return shape;
+    }
+
+    /**
+     * Returns the canonical shape describing the declared (erased) types of the items contained within the specified
+     * tuple. Generic items are always declared as {@code Object}.
+     * <p>
+     * Once the declared shape of a nested tuple of the same structure has been computed, this method does not
+     * allocate.
+     *
+     * @param tuple a tuple object
+     * @return the canonical declared shape of the specified tuple
+     */
+    public static TupleShape declared(final Tuple tuple) {
+        // The declared shape of a nested tuple depends only on the declared shape of the innermost tuple and the
+        // number of levels of nesting around it, since every level declares seven items of type Object
+        Tuple node = tuple;
+        int levels = 0;
+        while (node instanceof Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?> nested) {
+            node = nested.rest();
+            levels++;
+        }
+        TupleShape shape = DECLARED.get(node.getClass());
+        for (; levels > 0; levels--)
+            shape = shape.nested();
+        return shape;
+    }
+
+    /**
+     * Returns the declared shape of a {@code Tuple.OfNested} whose nested tuple has this declared shape.
+     */
+    private TupleShape nested() {
+        TupleShape nested = this.nested;
+        if (nested == null) {
+            final Class<?>[] outer = DECLARED.get(Tuple.OfNested.class).types;
+            final Class<?>[] types = Arrays.copyOf(outer, outer.length + this.types.length);
+            System.arraycopy(this.types, 0, types, outer.length, this.types.length);
+            // Racing threads intern the same shape, so whichever write wins refers to the canonical instance
+            this.nested = nested = intern(types);
+        }
+        return nested;
+    }
+
+    /**
+     * Returns the runtime type of the specified item, or {@code null} if the item is null.
+     *
+     * @param item an item
+     * @return the runtime type of the specified item
+     */
+    static Class<?> typeOf(final Object item) {
+        return item == null ? null : item.getClass();
+    }
+
+    private static TupleShape intern(final Class<?>[] types) {
+        for (Reference<? extends TupleShape> reclaimed; (reclaimed = RECLAIMED.poll()) != null; )
+            SHAPES.remove((Canonical) reclaimed);
+
+        final TupleShape shape = new TupleShape(types);
+        final Canonical canonical = new Canonical(shape);
+        while (true) {
+            final Canonical existing = SHAPES.putIfAbsent(canonical, canonical);
+            if (existing == null)
+                return shape;
+            final TupleShape found = existing.get();
+            if (found != null)
+                return found;
+            // The existing shape was reclaimed after it was found to be equal, so replace its entry
+            SHAPES.remove(existing, existing);
+        }
+    }
+
+    private static byte recordOf(final Class<?>[] types) {
+        if (types.length == 3)
+            return types[0] == double.class && types[1] == double.class && types[2] == double.class
+                    ? DOUBLE_TRIPLE : GENERIC;
+        if (types.length != 2)
+            return GENERIC;
+        if (types[0] == int.class)
+            return types[1] == int.class ? INT_PAIR : types[1] == long.class ? INT_LONG_PAIR : GENERIC;
+        if (types[0] == long.class)
+            return types[1] == long.class ? LONG_PAIR : GENERIC;
+        if (types[0] == double.class)
+            return types[1] == double.class ? DOUBLE_PAIR : GENERIC;
+        return GENERIC;
+    }
+
+    /**
+     * Returns the record which a tuple of this shape, rebuilt from its items, should be: one of the
+     * primitive-specialized records if this shape describes exactly its components, or a generic record otherwise.
+     * Containers which store items by shape use this to return the same records which were stored.
+     *
+     * @return {@link #GENERIC}, or the constant identifying a primitive-specialized record
+     */
+    byte record() {
+        return this.record;
+    }
+
+    /**
+     * Returns {@code true} if the runtime types of the items contained within the specified tuple are exactly those
+     * described by this shape. This method never allocates.
+     *
+     * @param tuple a tuple object
+     * @return {@code true} if this shape describes the specified tuple
+     */
+    public boolean matches(final Tuple tuple) {
+        if (tuple.arity() != this.types.length)
+            return false;
+        Tuple node = tuple;
+        int offset = 0;
+        // Walk each level of nesting once, rather than resolving every index from the outermost tuple
+        while (node instanceof Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?> nested) {
+            for (int i = 0; i < 7; i++)
+                if (typeOf(nested.get(i)) != this.types[offset + i])
+                    return false;
+            offset += 7;
+            node = nested.rest();
+        }
+        for (int i = 0, size = node.arity(); i < size; i++)
+            if (typeOf(node.get(i)) != this.types[offset + i])
+                return false;
+        return true;
+    }
+
+    /**
+     * Returns the number of items described by this shape.
+     *
+     * @return the number of items described by this shape
+     */
+    public int size() {
+        return this.types.length;
+    }
+
+    /**
+     * Returns the type of the item at the specified position.
+     *
+     * @param index the index of the item
+     * @return the type of the item at the specified position, or {@code null} if it describes a null item
+     */
+    public Class<?> type(final int index) {
+        return this.types[index];
+    }
+
+    /**
+     * Returns an unmodifiable view of the type of each item described by this shape. The same view is returned on
+     * every call.
+     *
+     * @return an unmodifiable list of types
+     */
+    public List<Class<?>> types() {
+        return this.view;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || o instanceof TupleShape other && this.hash == other.hash
+                && Arrays.equals(this.types, other.types);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("(");
+        for (int i = 0; i < this.types.length; i++) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append(this.types[i] == null ? "null" : this.types[i].getSimpleName());
+        }
+        return sb.append(")").toString();
+    }
+
+    /**
+     * A weak reference to a canonical shape, which is equal to another only while both shapes are reachable and equal,
+     * or if it is the same reference. A reclaimed shape's entry is therefore only ever found by its own reference.
+     */
+    private static final class Canonical extends WeakReference<TupleShape> {
+
+        private final int hash;
+
+        private Canonical(final TupleShape shape) {
+            super(shape, RECLAIMED);
+            this.hash = shape.hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Canonical other) || this.hash != other.hash)
+                return false;
+            final TupleShape shape = this.get();
+            return shape != null && shape.equals(other.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * A holder for the most recently observed runtime shapes of a record class, most recent first. The shapes are
+     * replaced as a whole, so readers never observe a partial update, and racing updates at worst forget a shape.
+     */
+    private static final class Recent {
+        /**
+         * Whether every tuple of the record class shares the same runtime shape, in which case matching it against the
+         * remembered shape is unnecessary, and would box its items.
+         */
+        private final boolean fixed;
+
+        private volatile WeakReference<?>[] shapes = new WeakReference<?>[0];
+
+        private Recent(final boolean fixed) {
+            this.fixed = fixed;
+        }
+
+        private void add(final TupleShape shape) {
+            final WeakReference<?>[] shapes = this.shapes;
+            final WeakReference<?>[] added = new WeakReference<?>[Math.min(shapes.length + 1,
+                    this.fixed ? 1 : RECENT_SHAPES)];
+            added[0] = new WeakReference<>(shape);
+            System.arraycopy(shapes, 0, added, 1, added.length - 1);
+            this.shapes = added;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.homeworkhopper;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator over the items of a tuple, which walks nested tuples directly rather than buffering their items.
+ * <p>
+ * Nested tuples are split at their nesting boundaries wherever possible, so that each half begins its walk at the
+ * start of a level of nesting.
+ *
+ * @author Shaun Thornton
+ * @see Tuple#spliterator()
+ */
+final class TupleSpliterator implements Spliterator<Tuple.TupleValue> {
+
+    private static final int CHARACTERISTICS = SIZED | SUBSIZED | ORDERED | IMMUTABLE | NONNULL;
+
+    /**
+     * The level of nesting containing the next item.
+     */
+    private Tuple node;
+
+    /**
+     * The index of the first item of {@code node}, relative to the outermost tuple.
+     */
+    private int offset;
+
+    /**
+     * The index of the next item, relative to the outermost tuple.
+     */
+    private int index;
+
+    /**
+     * The index one past the last item covered by this spliterator, relative to the outermost tuple.
+     */
+    private final int fence;
+
+    TupleSpliterator(final Tuple tuple) {
+        this(tuple, 0, 0, tuple.arity());
+    }
+
+    private TupleSpliterator(final Tuple node, final int offset, final int index, final int fence) {
+        this.node = node;
+        this.offset = offset;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Tuple.TupleValue> action) {
+        if (this.index >= this.fence)
+            return false;
+        action.accept(this.next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super Tuple.TupleValue> action) {
+        while (this.index < this.fence)
+            action.accept(this.next());
+    }
+
+    @Override
+    public Spliterator<Tuple.TupleValue> trySplit() {
+        final int remaining = this.fence - this.index;
+        if (remaining < 2)
+            return null;
+        int mid = this.index + remaining / 2;
+        if (this.node instanceof Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?>) {
+            // Round to the nearest nesting boundary, unless every remaining item belongs to the same level
+            final int below = mid - (mid - this.offset) % 7, above = below + 7;
+            if (below > this.index && (mid - below <= above - mid || above >= this.fence))
+                mid = below;
+            else if (above < this.fence)
+                mid = above;
+        }
+        final TupleSpliterator prefix = new TupleSpliterator(this.node, this.offset, this.index, mid);
+        this.seek(mid);
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.fence - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    private Tuple.TupleValue next() {
+        this.seek(this.index);
+        final Object item = this.node.get(this.index++ - this.offset);
+        return new Tuple.TupleValue(item, TupleShape.typeOf(item));
+    }
+
+    /**
+     * Moves this spliterator to the specified item, stepping into nested tuples as required.
+     *
+     * @param index the index of the item, relative to the outermost tuple
+     */
+    private void seek(final int index) {
+        while (index - this.offset >= 7 && this.node instanceof Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?> nested) {
+            this.node = nested.rest();
+            this.offset += 7;
+        }
+        this.index = index;
+    }
+}
@@ -0,0 +1,434 @@
+package com.homeworkhopper;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A growable, column-oriented table of tuples which all share the same shape.
+ * <p>
+ * Rather than storing a tuple object per row, a {@code TupleTable} stores the items at each position within a separate
+ * column. Columns of type {@code int}, {@code long} or {@code double} are stored within primitive arrays, meaning that
+ * their items are never boxed, while columns of any other type are stored within object arrays. For example, a table
+ * of {@code (int, long, String)} rows costs twelve bytes per row plus a reference to each string, rather than a record
+ * and two boxed numbers per row.
+ * <p>
+ * Rows may be read item by item through the getters of this class, visited in place through a reusable
+ * {@link Cursor}, or materialized as new tuples through {@link #row(int)}. A materialized row is the same record that
+ * was appended whenever the shape of the table matches a primitive-specialized record, such as an
+ * {@code (int, int)} table and {@code Tuple.IntPair}, and a generic record otherwise.
+ * <p>
+ * Rows are not handed out as {@code Tuple} views over the columns. Such a view would have to be another record
+ * permitted by {@code Tuple}, and could not be equal to the tuple it was appended from: generic records are only ever
+ * equal to records of their own class, and making them equal to views would mean comparing every pair of tuples item
+ * by item. Every view would also keep the whole table reachable. The cursor already reads rows without allocating,
+ * and materializing a row of a numeric shape costs a single record, which is what a view would cost too.
+ * <p>
+ * Tables are not thread safe.
+ *
+ * @author Shaun Thornton
+ */
+public final class TupleTable implements Iterable<Tuple> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The largest number of rows, which is the largest array which may be allocated for a column.
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final TupleShape shape;
+
+    /**
+     * The items of each column, each of which is an {@code int[]}, {@code long[]}, {@code double[]} or
+     * {@code Object[]} as determined by the type of the column.
+     */
+    private final Object[] columns;
+
+    private int capacity;
+
+    private int size;
+
+    private TupleTable(final TupleShape shape, final int capacity) {
+        if (shape.size() == 0)
+            throw new IllegalArgumentException("A table must contain at least one column");
+        this.shape = shape;
+        this.capacity = capacity;
+        this.columns = new Object[shape.size()];
+        for (int column = 0; column < this.columns.length; column++) {
+            final Class<?> type = Objects.requireNonNull(shape.type(column), "Column types must not be null");
+            if (type == int.class)
+                this.columns[column] = new int[capacity];
+            else if (type == long.class)
+                this.columns[column] = new long[capacity];
+            else if (type == double.class)
+                this.columns[column] = new double[capacity];
+            else if (type.isPrimitive())
+                throw new IllegalArgumentException("Unsupported primitive column type: " + type);
+            else
+                this.columns[column] = new Object[capacity];
+        }
+    }
+
+    /**
+     * Returns a new, empty table whose columns have the specified types.
+     *
+     * @param types the type of each column, where {@code int}, {@code long} and {@code double} columns are stored
+     *              without boxing
+     * @return a new, empty table
+     * @throws IllegalArgumentException if no types are specified, or a type is an unsupported primitive type
+     */
+    public static TupleTable of(final Class<?>... types) {
+        return of(TupleShape.of(types));
+    }
+
+    /**
+     * Returns a new, empty table whose columns are described by the specified shape.
+     *
+     * @param shape the shape of each row
+     * @return a new, empty table
+     * @throws IllegalArgumentException if the shape is empty, or describes an unsupported primitive type
+     */
+    public static TupleTable of(final TupleShape shape) {
+        return withCapacity(shape, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns a new, empty table whose columns are described by the specified shape, and which is able to hold the
+     * specified number of rows before growing.
+     *
+     * @param shape    the shape of each row
+     * @param capacity the initial number of rows
+     * @return a new, empty table
+     * @throws IllegalArgumentException if the shape is empty or describes an unsupported primitive type, or the
+     *                                  capacity is negative
+     */
+    public static TupleTable withCapacity(final TupleShape shape, final int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        return new TupleTable(shape, capacity);
+    }
+
+    /**
+     * Returns the shape shared by every row of this table, which describes the type of each column.
+     *
+     * @return the shape of each row
+     */
+    public TupleShape shape() {
+        return this.shape;
+    }
+
+    /**
+     * Returns the number of rows within this table.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Appends the items of the specified tuple as a new row. Items of primitive columns are read through
+     * {@code Tuple.getInt(int)} and its siblings, so primitive-specialized tuples are appended without boxing.
+     *
+     * @param tuple a tuple whose items conform to the shape of this table
+     * @throws IllegalArgumentException if the arity of the tuple differs from the number of columns
+     * @throws ClassCastException       if an item does not conform to the type of its column
+     * @throws NullPointerException     if an item of a primitive column is null
+     */
+    public void append(final Tuple tuple) {
+        if (tuple.arity() != this.columns.length)
+            throw new IllegalArgumentException("Expected a tuple of arity " + this.columns.length + ", but got "
+                    + tuple.arity());
+        this.ensureCapacity(this.size + 1L);
+        final int row = this.size;
+        for (int column = 0; column < this.columns.length; column++) {
+            final Object values = this.columns[column];
+            if (values instanceof int[] ints)
+                ints[row] = tuple.getInt(column);
+            else if (values instanceof long[] longs)
+                longs[row] = tuple.getLong(column);
+            else if (values instanceof double[] doubles)
+                doubles[row] = tuple.getDouble(column);
+            else
+                ((Object[]) values)[row] = this.shape.type(column).cast(tuple.get(column));
+        }
+        // The row only becomes visible once every item has been stored successfully
+        this.size++;
+    }
+
+    /**
+     * Appends every row of the specified table, whose shape must be that of this table, copying each column in bulk.
+     *
+     * @param other a table of the same shape
+     * @throws IllegalArgumentException if the shape of the other table differs from that of this table
+     */
+    void appendAll(final TupleTable other) {
+        if (other.shape != this.shape)
+            throw new IllegalArgumentException("Expected a table of shape " + this.shape + ", but got " + other.shape);
+        this.ensureCapacity((long) this.size + other.size);
+        for (int column = 0; column < this.columns.length; column++)
+            System.arraycopy(other.columns[column], 0, this.columns[column], this.size, other.size);
+        this.size += other.size;
+    }
+
+    /**
+     * Returns the item at the specified row and column. Items of primitive columns are boxed.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     */
+    public Object get(final int row, final int column) {
+        Objects.checkIndex(row, this.size);
+        final Object values = this.columns[column];
+        if (values instanceof int[] ints)
+            return ints[row];
+        if (values instanceof long[] longs)
+            return longs[row];
+        if (values instanceof double[] doubles)
+            return doubles[row];
+        return ((Object[]) values)[row];
+    }
+
+    /**
+     * Returns the {@code int} item at the specified row and column, without boxing.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws ClassCastException if the column is not an {@code int} column
+     */
+    public int getInt(final int row, final int column) {
+        return ((int[]) this.columns[column])[Objects.checkIndex(row, this.size)];
+    }
+
+    /**
+     * Returns the {@code long} item at the specified row and column, without boxing.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws ClassCastException if the column is not a {@code long} column
+     */
+    public long getLong(final int row, final int column) {
+        return ((long[]) this.columns[column])[Objects.checkIndex(row, this.size)];
+    }
+
+    /**
+     * Returns the {@code double} item at the specified row and column, without boxing.
+     *
+     * @param row    the index of the row
+     * @param column the index of the column
+     * @return the item at the specified position
+     * @throws ClassCastException if the column is not a {@code double} column
+     */
+    public double getDouble(final int row, final int column) {
+        return ((double[]) this.columns[column])[Objects.checkIndex(row, this.size)];
+    }
+
+    /**
+     * Returns a new tuple containing the items of the specified row. If the shape of this table matches a
+     * primitive-specialized record, the row is returned as that record, without boxing. Otherwise, items of primitive
+     * columns are boxed.
+     *
+     * @param row the index of the row
+     * @return a new tuple containing the items of the specified row
+     */
+    public Tuple row(final int row) {
+        Objects.checkIndex(row, this.size);
+        return switch (this.shape.record()) {
+            case TupleShape.INT_PAIR -> Tuple.ofInts(this.getInt(row, 0), this.getInt(row, 1));
+            case TupleShape.LONG_PAIR -> Tuple.ofLongs(this.getLong(row, 0), this.getLong(row, 1));
+            case TupleShape.DOUBLE_PAIR -> Tuple.ofDoubles(this.getDouble(row, 0), this.getDouble(row, 1));
+            case TupleShape.INT_LONG_PAIR -> Tuple.ofIntLong(this.getInt(row, 0), this.getLong(row, 1));
+            case TupleShape.DOUBLE_TRIPLE ->
+                    Tuple.ofDoubles(this.getDouble(row, 0), this.getDouble(row, 1), this.getDouble(row, 2));
+            default -> {
+                final Object[] items = new Object[this.columns.length];
+                for (int column = 0; column < items.length; column++)
+                    items[column] = this.get(row, column);
+                yield Tuple.fromArray(items);
+            }
+        };
+    }
+
+    /**
+     * Returns a new cursor positioned before the first row of this table.
+     *
+     * @return a new cursor
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Performs the specified action once for every row of this table, in order. The same cursor is passed to every
+     * invocation, positioned at the current row, so scanning a table does not allocate per row.
+     *
+     * @param action the action to perform for each row
+     */
+    public void scan(final Consumer<? super Cursor> action) {
+        final Cursor cursor = new Cursor();
+        while (cursor.next())
+            action.accept(cursor);
+    }
+
+    /**
+     * Returns a new table containing only the specified columns of this table, in the specified order. The items of
+     * the selected columns are copied, so later changes to either table are not reflected in the other.
+     *
+     * @param columns the indexes of the columns to keep, which may repeat
+     * @return a new table containing the specified columns of every row
+     * @throws IllegalArgumentException if no columns are specified
+     */
+    public TupleTable project(final int... columns) {
+        final Class<?>[] types = new Class<?>[columns.length];
+        for (int i = 0; i < columns.length; i++)
+            types[i] = this.shape.type(Objects.checkIndex(columns[i], this.columns.length));
+        final TupleTable projection = new TupleTable(TupleShape.of(types), 0);
+        projection.capacity = this.size;
+        for (int i = 0; i < columns.length; i++) {
+            final Object values = this.columns[columns[i]];
+            if (values instanceof int[] ints)
+                projection.columns[i] = Arrays.copyOf(ints, this.size);
+            else if (values instanceof long[] longs)
+                projection.columns[i] = Arrays.copyOf(longs, this.size);
+            else if (values instanceof double[] doubles)
+                projection.columns[i] = Arrays.copyOf(doubles, this.size);
+            else
+                projection.columns[i] = Arrays.copyOf((Object[]) values, this.size);
+        }
+        projection.size = this.size;
+        return projection;
+    }
+
+    /**
+     * Returns an iterator which materializes each row of this table as a new tuple. Prefer {@link #cursor()} or
+     * {@link #scan(Consumer)} when the rows need not outlive the iteration.
+     *
+     * @return an iterator over the rows of this table
+     */
+    @Override
+    public Iterator<Tuple> iterator() {
+        return new Iterator<>() {
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+                return this.row < TupleTable.this.size;
+            }
+
+            @Override
+            public Tuple next() {
+                if (!this.hasNext())
+                    throw new NoSuchElementException();
+                return TupleTable.this.row(this.row++);
+            }
+        };
+    }
+
+    private void ensureCapacity(final long capacity) {
+        if (capacity <= this.capacity)
+            return;
+        if (capacity > MAX_CAPACITY)
+            throw new IllegalStateException("A table cannot hold more than " + MAX_CAPACITY + " rows");
+        // Grow by half again, as ArrayList does, to amortize the cost of copying every column
+        final int grown = (int) Math.min(Math.max(capacity, this.capacity + (this.capacity >> 1)), MAX_CAPACITY);
+        for (int column = 0; column < this.columns.length; column++) {
+            final Object values = this.columns[column];
+            if (values instanceof int[] ints)
+                this.columns[column] = Arrays.copyOf(ints, grown);
+            else if (values instanceof long[] longs)
+                this.columns[column] = Arrays.copyOf(longs, grown);
+            else if (values instanceof double[] doubles)
+                this.columns[column] = Arrays.copyOf(doubles, grown);
+            else
+                this.columns[column] = Arrays.copyOf((Object[]) values, grown);
+        }
+        this.capacity = grown;
+    }
+
+    /**
+     * A reusable, movable view of a single row of a {@code TupleTable}. A cursor does not copy the items of its row,
+     * and is therefore only valid for as long as its table is not modified.
+     */
+    public final class Cursor {
+
+        private int row = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * Advances this cursor to the next row.
+         *
+         * @return {@code true} if this cursor is now positioned at a row, or {@code false} if no rows remain
+         */
+        public boolean next() {
+            if (this.row >= TupleTable.this.size)
+                return false;
+            return ++this.row < TupleTable.this.size;
+        }
+
+        /**
+         * Returns the index of the row this cursor is positioned at.
+         *
+         * @return the index of the current row
+         */
+        public int row() {
+            return this.row;
+        }
+
+        /**
+         * Returns the item at the specified column of the current row. Items of primitive columns are boxed.
+         *
+         * @param column the index of the column
+         * @return the item at the specified column
+         */
+        public Object get(final int column) {
+            return TupleTable.this.get(this.row, column);
+        }
+
+        /**
+         * Returns the {@code int} item at the specified column of the current row, without boxing.
+         *
+         * @param column the index of the column
+         * @return the item at the specified column
+         */
+        public int getInt(final int column) {
+            return TupleTable.this.getInt(this.row, column);
+        }
+
+        /**
+         * Returns the {@code long} item at the specified column of the current row, without boxing.
+         *
+         * @param column the index of the column
+         * @return the item at the specified column
+         */
+        public long getLong(final int column) {
+            return TupleTable.this.getLong(this.row, column);
+        }
+
+        /**
+         * Returns the {@code double} item at the specified column of the current row, without boxing.
+         *
+         * @param column the index of the column
+         * @return the item at the specified column
+         */
+        public double getDouble(final int column) {
+            return TupleTable.this.getDouble(this.row, column);
+        }
+
+        /**
+         * Returns a new tuple containing the items of the current row.
+         *
+         * @return a new tuple containing the items of the current row
+         */
+        public Tuple toTuple() {
+            return TupleTable.this.row(this.row);
+        }
+    }
+}
@@ -0,0 +1,857 @@
+package com.homeworkhopper;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A precompiled type guard, which recovers statically typed tuples from tuples of unknown type.
+ * <p>
+ * A {@code TypedView} accepts a tuple if, and only if, it is an instance of the view's record (such as
+ * {@code Tuple.OfThree}) and every item is an instance of the corresponding type of the view. These are exactly the
+ * tuples which the {@code asX(...)} methods of {@code Tuple} return as themselves, rather than as copies. Unlike those
+ * methods, a view neither allocates an {@code Optional} nor checks each item against its type upon every call.
+ * Instead, the verdict for each runtime shape is computed once and cached, so checking a tuple whose shape has been
+ * seen before costs no more than reading the class of each item. At most {@value #MAX_VERDICTS} verdicts are cached
+ * per view, and the verdict for any further shape is computed upon every check.
+ * <p>
+ * A view exists for every record. A view of a {@code Tuple.OfNested} is built from the types of its seven items and
+ * a view of its nested tuple, and accepts a tuple only if its nested tuples are instances of the same records as
+ * well. The factories and the per-record checks are generated alongside {@code Tuple} by {@code TupleGenerator}.
+ * <p>
+ * Primitive-specialized tuples are never accepted, since they are not instances of the generic records and a view
+ * cannot return them as the type of the view. The {@code asX(...)} methods accept such tuples by returning boxed
+ * copies of them, so use those methods where a copy is acceptable.
+ * <p>
+ * Views are immutable, thread safe, and intended to be created once and stored in a constant.
+ *
+ * @param <T> the statically typed tuple recovered by this view
+ * @author Shaun Thornton
+ */
+public final class TypedView<T extends Tuple> {
+
+    /**
+     * The number of runtime shapes whose verdicts are found by checking a tuple against each shape in turn.
+     */
+    private static final int MAX_KNOWN = 8;
+
+    /**
+     * The number of runtime shapes whose verdicts are cached. The cache holds its shapes strongly, so bounding it keeps
+     * a view which is shown tuples of ever more shapes from holding every one of those shapes alive.
+     */
+    private static final int MAX_VERDICTS = 256;
+
+    private final Class<?> record;
+
+    /**
+     * The type of every item, including those of any nested tuples.
+     */
+    private final Class<?>[] types;
+
+    /**
+     * The view of the nested tuple of a {@code Tuple.OfNested}, or {@code null} for a view of a flat record.
+     */
+    private final TypedView<?> rest;
+
+    /**
+     * The verdicts for the runtime shapes of the view's record seen so far, up to {@link #MAX_VERDICTS} of them.
+     */
+    private final Map<TupleShape, Verdict> verdicts = new ConcurrentHashMap<>();
+
+    /**
+     * The verdicts for the first few runtime shapes seen. A tuple is checked against each of these shapes in place,
+     * so switching between shapes which have been seen before neither computes the shape of the tuple nor allocates.
+     */
+    private volatile Verdict[] known = new Verdict[0];
+
+    /**
+     * The most recent verdict. Tuples checked by the same view very often share the same runtime shape, in which case
+     * the verdict is found without a map lookup.
+     */
+    private volatile Verdict last;
+
+    private TypedView(final Class<?> record, final Class<?>... types) {
+        this.record = record;
+        this.types = types.clone();
+        this.rest = null;
+        for (final Class<?> type : this.types)
+            if (type == null)
+                throw new NullPointerException("Types must not be null");
+    }
+
+    private TypedView(final TypedView<?> rest, final Class<?>... types) {
+        this.record = Tuple.OfNested.class;
+        this.types = Arrays.copyOf(types, types.length + rest.types.length);
+        System.arraycopy(rest.types, 0, this.types, types.length, rest.types.length);
+        this.rest = rest;
+        for (final Class<?> type : types)
+            if (type == null)
+                throw new NullPointerException("Types must not be null");
+    }
+
+    // region generated: views
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.Single} containing an item of the specified type.
+     *
+     * @param typeA the type of the sole item
+     * @param <A>   the type of the sole item
+     * @return a new view
+     */
+    public static <A> TypedView<Tuple.Single<A>> single(final Class<A> typeA) {
+        return new TypedView<>(Tuple.Single.class, typeA);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfTwo} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @return a new view
+     */
+    public static <A, B> TypedView<Tuple.OfTwo<A, B>> ofTwo(final Class<A> typeA, final Class<B> typeB) {
+        return new TypedView<>(Tuple.OfTwo.class, typeA, typeB);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfThree} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @return a new view
+     */
+    public static <A, B, C> TypedView<Tuple.OfThree<A, B, C>> ofThree(final Class<A> typeA, final Class<B> typeB,
+                                                                      final Class<C> typeC) {
+        return new TypedView<>(Tuple.OfThree.class, typeA, typeB, typeC);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfFour} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @return a new view
+     */
+    public static <A, B, C, D> TypedView<Tuple.OfFour<A, B, C, D>> ofFour(final Class<A> typeA, final Class<B> typeB,
+                                                                          final Class<C> typeC, final Class<D> typeD) {
+        return new TypedView<>(Tuple.OfFour.class, typeA, typeB, typeC, typeD);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfFive} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @return a new view
+     */
+    public static <A, B, C, D, E>
+    TypedView<Tuple.OfFive<A, B, C, D, E>>
+    ofFive(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD,
+           final Class<E> typeE) {
+        return new TypedView<>(Tuple.OfFive.class, typeA, typeB, typeC, typeD, typeE);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfSix} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F>
+    TypedView<Tuple.OfSix<A, B, C, D, E, F>>
+    ofSix(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD, final Class<E> typeE,
+          final Class<F> typeF) {
+        return new TypedView<>(Tuple.OfSix.class, typeA, typeB, typeC, typeD, typeE, typeF);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfSeven} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param typeG the type of the seventh item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @param <G>   the type of the seventh item
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F, G>
+    TypedView<Tuple.OfSeven<A, B, C, D, E, F, G>>
+    ofSeven(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD,
+            final Class<E> typeE, final Class<F> typeF, final Class<G> typeG) {
+        return new TypedView<>(Tuple.OfSeven.class, typeA, typeB, typeC, typeD, typeE, typeF, typeG);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfEight} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param typeG the type of the seventh item
+     * @param typeH the type of the eighth item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @param <G>   the type of the seventh item
+     * @param <H>   the type of the eighth item
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F, G, H>
+    TypedView<Tuple.OfEight<A, B, C, D, E, F, G, H>>
+    ofEight(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD,
+            final Class<E> typeE, final Class<F> typeF, final Class<G> typeG, final Class<H> typeH) {
+        return new TypedView<>(Tuple.OfEight.class, typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfNine} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param typeG the type of the seventh item
+     * @param typeH the type of the eighth item
+     * @param typeI the type of the ninth item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @param <G>   the type of the seventh item
+     * @param <H>   the type of the eighth item
+     * @param <I>   the type of the ninth item
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+    TypedView<Tuple.OfNine<A, B, C, D, E, F, G, H, I>>
+    ofNine(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD, final Class<E> typeE,
+           final Class<F> typeF, final Class<G> typeG, final Class<H> typeH, final Class<I> typeI) {
+        return new TypedView<>(Tuple.OfNine.class, typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfTen} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param typeG the type of the seventh item
+     * @param typeH the type of the eighth item
+     * @param typeI the type of the ninth item
+     * @param typeJ the type of the tenth item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @param <G>   the type of the seventh item
+     * @param <H>   the type of the eighth item
+     * @param <I>   the type of the ninth item
+     * @param <J>   the type of the tenth item
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+    TypedView<Tuple.OfTen<A, B, C, D, E, F, G, H, I, J>>
+    ofTen(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD, final Class<E> typeE,
+          final Class<F> typeF, final Class<G> typeG, final Class<H> typeH, final Class<I> typeI,
+          final Class<J> typeJ) {
+        return new TypedView<>(Tuple.OfTen.class, typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI, typeJ);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfEleven} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param typeG the type of the seventh item
+     * @param typeH the type of the eighth item
+     * @param typeI the type of the ninth item
+     * @param typeJ the type of the tenth item
+     * @param typeK the type of the eleventh item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @param <G>   the type of the seventh item
+     * @param <H>   the type of the eighth item
+     * @param <I>   the type of the ninth item
+     * @param <J>   the type of the tenth item
+     * @param <K>   the type of the eleventh item
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F, G, H, I, J, K>
+    TypedView<Tuple.OfEleven<A, B, C, D, E, F, G, H, I, J, K>>
+    ofEleven(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD,
+             final Class<E> typeE, final Class<F> typeF, final Class<G> typeG, final Class<H> typeH,
+             final Class<I> typeI, final Class<J> typeJ, final Class<K> typeK) {
+        return new TypedView<>(Tuple.OfEleven.class, typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI,
+                typeJ, typeK);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfTwelve} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param typeG the type of the seventh item
+     * @param typeH the type of the eighth item
+     * @param typeI the type of the ninth item
+     * @param typeJ the type of the tenth item
+     * @param typeK the type of the eleventh item
+     * @param typeL the type of the twelfth item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @param <G>   the type of the seventh item
+     * @param <H>   the type of the eighth item
+     * @param <I>   the type of the ninth item
+     * @param <J>   the type of the tenth item
+     * @param <K>   the type of the eleventh item
+     * @param <L>   the type of the twelfth item
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F, G, H, I, J, K, L>
+    TypedView<Tuple.OfTwelve<A, B, C, D, E, F, G, H, I, J, K, L>>
+    ofTwelve(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD,
+             final Class<E> typeE, final Class<F> typeF, final Class<G> typeG, final Class<H> typeH,
+             final Class<I> typeI, final Class<J> typeJ, final Class<K> typeK, final Class<L> typeL) {
+        return new TypedView<>(Tuple.OfTwelve.class, typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI,
+                typeJ, typeK, typeL);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfThirteen} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param typeG the type of the seventh item
+     * @param typeH the type of the eighth item
+     * @param typeI the type of the ninth item
+     * @param typeJ the type of the tenth item
+     * @param typeK the type of the eleventh item
+     * @param typeL the type of the twelfth item
+     * @param typeM the type of the thirteenth item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @param <G>   the type of the seventh item
+     * @param <H>   the type of the eighth item
+     * @param <I>   the type of the ninth item
+     * @param <J>   the type of the tenth item
+     * @param <K>   the type of the eleventh item
+     * @param <L>   the type of the twelfth item
+     * @param <M>   the type of the thirteenth item
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M>
+    TypedView<Tuple.OfThirteen<A, B, C, D, E, F, G, H, I, J, K, L, M>>
+    ofThirteen(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD,
+               final Class<E> typeE, final Class<F> typeF, final Class<G> typeG, final Class<H> typeH,
+               final Class<I> typeI, final Class<J> typeJ, final Class<K> typeK, final Class<L> typeL,
+               final Class<M> typeM) {
+        return new TypedView<>(Tuple.OfThirteen.class, typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI,
+                typeJ, typeK, typeL, typeM);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfFourteen} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param typeG the type of the seventh item
+     * @param typeH the type of the eighth item
+     * @param typeI the type of the ninth item
+     * @param typeJ the type of the tenth item
+     * @param typeK the type of the eleventh item
+     * @param typeL the type of the twelfth item
+     * @param typeM the type of the thirteenth item
+     * @param typeN the type of the fourteenth item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @param <G>   the type of the seventh item
+     * @param <H>   the type of the eighth item
+     * @param <I>   the type of the ninth item
+     * @param <J>   the type of the tenth item
+     * @param <K>   the type of the eleventh item
+     * @param <L>   the type of the twelfth item
+     * @param <M>   the type of the thirteenth item
+     * @param <N>   the type of the fourteenth item
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M, N>
+    TypedView<Tuple.OfFourteen<A, B, C, D, E, F, G, H, I, J, K, L, M, N>>
+    ofFourteen(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD,
+               final Class<E> typeE, final Class<F> typeF, final Class<G> typeG, final Class<H> typeH,
+               final Class<I> typeI, final Class<J> typeJ, final Class<K> typeK, final Class<L> typeL,
+               final Class<M> typeM, final Class<N> typeN) {
+        return new TypedView<>(Tuple.OfFourteen.class, typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI,
+                typeJ, typeK, typeL, typeM, typeN);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfFifteen} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param typeG the type of the seventh item
+     * @param typeH the type of the eighth item
+     * @param typeI the type of the ninth item
+     * @param typeJ the type of the tenth item
+     * @param typeK the type of the eleventh item
+     * @param typeL the type of the twelfth item
+     * @param typeM the type of the thirteenth item
+     * @param typeN the type of the fourteenth item
+     * @param typeO the type of the fifteenth item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @param <G>   the type of the seventh item
+     * @param <H>   the type of the eighth item
+     * @param <I>   the type of the ninth item
+     * @param <J>   the type of the tenth item
+     * @param <K>   the type of the eleventh item
+     * @param <L>   the type of the twelfth item
+     * @param <M>   the type of the thirteenth item
+     * @param <N>   the type of the fourteenth item
+     * @param <O>   the type of the fifteenth item
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O>
+    TypedView<Tuple.OfFifteen<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O>>
+    ofFifteen(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD,
+              final Class<E> typeE, final Class<F> typeF, final Class<G> typeG, final Class<H> typeH,
+              final Class<I> typeI, final Class<J> typeJ, final Class<K> typeK, final Class<L> typeL,
+              final Class<M> typeM, final Class<N> typeN, final Class<O> typeO) {
+        return new TypedView<>(Tuple.OfFifteen.class, typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI,
+                typeJ, typeK, typeL, typeM, typeN, typeO);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfSixteen} containing items of the specified types.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param typeG the type of the seventh item
+     * @param typeH the type of the eighth item
+     * @param typeI the type of the ninth item
+     * @param typeJ the type of the tenth item
+     * @param typeK the type of the eleventh item
+     * @param typeL the type of the twelfth item
+     * @param typeM the type of the thirteenth item
+     * @param typeN the type of the fourteenth item
+     * @param typeO the type of the fifteenth item
+     * @param typeP the type of the sixteenth item
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @param <G>   the type of the seventh item
+     * @param <H>   the type of the eighth item
+     * @param <I>   the type of the ninth item
+     * @param <J>   the type of the tenth item
+     * @param <K>   the type of the eleventh item
+     * @param <L>   the type of the twelfth item
+     * @param <M>   the type of the thirteenth item
+     * @param <N>   the type of the fourteenth item
+     * @param <O>   the type of the fifteenth item
+     * @param <P>   the type of the sixteenth item
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P>
+    TypedView<Tuple.OfSixteen<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P>>
+    ofSixteen(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD,
+              final Class<E> typeE, final Class<F> typeF, final Class<G> typeG, final Class<H> typeH,
+              final Class<I> typeI, final Class<J> typeJ, final Class<K> typeK, final Class<L> typeL,
+              final Class<M> typeM, final Class<N> typeN, final Class<O> typeO, final Class<P> typeP) {
+        return new TypedView<>(Tuple.OfSixteen.class, typeA, typeB, typeC, typeD, typeE, typeF, typeG, typeH, typeI,
+                typeJ, typeK, typeL, typeM, typeN, typeO, typeP);
+    }
+
+    /**
+     * Returns a new view which recovers a {@code Tuple.OfNested} containing items of the specified types, followed by a
+     * nested tuple which is accepted by the specified view.
+     *
+     * @param typeA the type of the first item
+     * @param typeB the type of the second item
+     * @param typeC the type of the third item
+     * @param typeD the type of the fourth item
+     * @param typeE the type of the fifth item
+     * @param typeF the type of the sixth item
+     * @param typeG the type of the seventh item
+     * @param rest  the view which recovers the nested tuple
+     * @param <A>   the type of the first item
+     * @param <B>   the type of the second item
+     * @param <C>   the type of the third item
+     * @param <D>   the type of the fourth item
+     * @param <E>   the type of the fifth item
+     * @param <F>   the type of the sixth item
+     * @param <G>   the type of the seventh item
+     * @param <H>   the type of the nested tuple
+     * @return a new view
+     */
+    public static <A, B, C, D, E, F, G, H extends Tuple>
+    TypedView<Tuple.OfNested<A, B, C, D, E, F, G, H>>
+    ofNested(final Class<A> typeA, final Class<B> typeB, final Class<C> typeC, final Class<D> typeD,
+             final Class<E> typeE, final Class<F> typeF, final Class<G> typeG, final TypedView<H> rest) {
+        return new TypedView<>(rest, typeA, typeB, typeC, typeD, typeE, typeF, typeG);
+    }
+
+    // endregion
+
+    /**
+     * Returns {@code true} if the specified tuple is accepted by this view, meaning that it may be cast to the type of
+     * this view. This method does not allocate once the runtime shape of the tuple has been seen before.
+     *
+     * @param tuple a tuple object
+     * @return {@code true} if this view accepts the specified tuple
+     */
+    public boolean test(final Tuple tuple) {
+        if (!this.structured(tuple))
+            return false;
+        final Verdict last = this.last;
+        if (last != null && this.matches(tuple, last.shape, 0))
+            return last.accepted;
+        final Verdict[] known = this.known;
+        for (final Verdict verdict : known) {
+            if (verdict != last && this.matches(tuple, verdict.shape, 0)) {
+                this.last = verdict;
+                return verdict.accepted;
+            }
+        }
+        final TupleShape shape = TupleShape.of(tuple);
+        Verdict verdict = this.verdicts.get(shape);
+        if (verdict == null) {
+            verdict = new Verdict(shape, this.accepts(shape));
+            // Racing threads may overshoot the bound slightly, or cache the same verdict twice, which is harmless
+            if (this.verdicts.size() < MAX_VERDICTS)
+                this.verdicts.put(shape, verdict);
+        }
+        // Racing threads may drop or repeat a known verdict, which only ever costs a later lookup in the map
+        if (known.length < MAX_KNOWN) {
+            final Verdict[] grown = Arrays.copyOf(known, known.length + 1);
+            grown[known.length] = verdict;
+            this.known = grown;
+        }
+        this.last = verdict;
+        return verdict.accepted;
+    }
+
+    /**
+     * Returns the specified tuple as the type of this view.
+     *
+     * @param tuple a tuple object
+     * @return the specified tuple
+     * @throws ClassCastException if this view does not accept the specified tuple
+     */
+    @SuppressWarnings("unchecked")
+    public T cast(final Tuple tuple) {
+        if (!this.test(tuple))
+            throw new ClassCastException("Tuple " + tuple.shape() + " is not a " + this);
+        return (T) tuple;
+    }
+
+    /**
+     * Returns the specified tuple as the type of this view, or {@code null} if this view does not accept it.
+     *
+     * @param tuple a tuple object
+     * @return the specified tuple, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public T castOrNull(final Tuple tuple) {
+        return this.test(tuple) ? (T) tuple : null;
+    }
+
+    // region generated: view matches
+
+    /**
+     * Returns {@code true} if the specified tuple, which is known to be an instance of this view's record, has the
+     * items described by the specified runtime shape from the specified index onwards. Unlike
+     * {@link TupleShape#matches(Tuple)}, the items are read through the accessors of the record itself, which keeps
+     * this check free of interface dispatch.
+     */
+    private boolean matches(final Tuple tuple, final TupleShape shape, final int offset) {
+        if (this.rest != null) {
+            final Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?> t = (Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+            return is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1) && is(t.item3(), shape, offset + 2)
+                    && is(t.item4(), shape, offset + 3) && is(t.item5(), shape, offset + 4)
+                    && is(t.item6(), shape, offset + 5) && is(t.item7(), shape, offset + 6)
+                    && this.rest.matches(t.rest(), shape, offset + 7);
+        }
+        return switch (this.types.length) {
+            case 1 -> {
+                final Tuple.Single<?> t = (Tuple.Single<?>) tuple;
+                yield is(t.item1(), shape, offset);
+            }
+            case 2 -> {
+                final Tuple.OfTwo<?, ?> t = (Tuple.OfTwo<?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1);
+            }
+            case 3 -> {
+                final Tuple.OfThree<?, ?, ?> t = (Tuple.OfThree<?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2);
+            }
+            case 4 -> {
+                final Tuple.OfFour<?, ?, ?, ?> t = (Tuple.OfFour<?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3);
+            }
+            case 5 -> {
+                final Tuple.OfFive<?, ?, ?, ?, ?> t = (Tuple.OfFive<?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4);
+            }
+            case 6 -> {
+                final Tuple.OfSix<?, ?, ?, ?, ?, ?> t = (Tuple.OfSix<?, ?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4) && is(t.item6(), shape, offset + 5);
+            }
+            case 7 -> {
+                final Tuple.OfSeven<?, ?, ?, ?, ?, ?, ?> t = (Tuple.OfSeven<?, ?, ?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4) && is(t.item6(), shape, offset + 5)
+                        && is(t.item7(), shape, offset + 6);
+            }
+            case 8 -> {
+                final Tuple.OfEight<?, ?, ?, ?, ?, ?, ?, ?> t = (Tuple.OfEight<?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4) && is(t.item6(), shape, offset + 5)
+                        && is(t.item7(), shape, offset + 6) && is(t.item8(), shape, offset + 7);
+            }
+            case 9 -> {
+                final Tuple.OfNine<?, ?, ?, ?, ?, ?, ?, ?, ?> t = (Tuple.OfNine<?, ?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4) && is(t.item6(), shape, offset + 5)
+                        && is(t.item7(), shape, offset + 6) && is(t.item8(), shape, offset + 7)
+                        && is(t.item9(), shape, offset + 8);
+            }
+            case 10 -> {
+                final Tuple.OfTen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?> t = (Tuple.OfTen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4) && is(t.item6(), shape, offset + 5)
+                        && is(t.item7(), shape, offset + 6) && is(t.item8(), shape, offset + 7)
+                        && is(t.item9(), shape, offset + 8) && is(t.item10(), shape, offset + 9);
+            }
+            case 11 -> {
+                final Tuple.OfEleven<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> t =
+                        (Tuple.OfEleven<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4) && is(t.item6(), shape, offset + 5)
+                        && is(t.item7(), shape, offset + 6) && is(t.item8(), shape, offset + 7)
+                        && is(t.item9(), shape, offset + 8) && is(t.item10(), shape, offset + 9)
+                        && is(t.item11(), shape, offset + 10);
+            }
+            case 12 -> {
+                final Tuple.OfTwelve<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> t =
+                        (Tuple.OfTwelve<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4) && is(t.item6(), shape, offset + 5)
+                        && is(t.item7(), shape, offset + 6) && is(t.item8(), shape, offset + 7)
+                        && is(t.item9(), shape, offset + 8) && is(t.item10(), shape, offset + 9)
+                        && is(t.item11(), shape, offset + 10) && is(t.item12(), shape, offset + 11);
+            }
+            case 13 -> {
+                final Tuple.OfThirteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> t =
+                        (Tuple.OfThirteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4) && is(t.item6(), shape, offset + 5)
+                        && is(t.item7(), shape, offset + 6) && is(t.item8(), shape, offset + 7)
+                        && is(t.item9(), shape, offset + 8) && is(t.item10(), shape, offset + 9)
+                        && is(t.item11(), shape, offset + 10) && is(t.item12(), shape, offset + 11)
+                        && is(t.item13(), shape, offset + 12);
+            }
+            case 14 -> {
+                final Tuple.OfFourteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> t =
+                        (Tuple.OfFourteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4) && is(t.item6(), shape, offset + 5)
+                        && is(t.item7(), shape, offset + 6) && is(t.item8(), shape, offset + 7)
+                        && is(t.item9(), shape, offset + 8) && is(t.item10(), shape, offset + 9)
+                        && is(t.item11(), shape, offset + 10) && is(t.item12(), shape, offset + 11)
+                        && is(t.item13(), shape, offset + 12) && is(t.item14(), shape, offset + 13);
+            }
+            case 15 -> {
+                final Tuple.OfFifteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> t =
+                        (Tuple.OfFifteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4) && is(t.item6(), shape, offset + 5)
+                        && is(t.item7(), shape, offset + 6) && is(t.item8(), shape, offset + 7)
+                        && is(t.item9(), shape, offset + 8) && is(t.item10(), shape, offset + 9)
+                        && is(t.item11(), shape, offset + 10) && is(t.item12(), shape, offset + 11)
+                        && is(t.item13(), shape, offset + 12) && is(t.item14(), shape, offset + 13)
+                        && is(t.item15(), shape, offset + 14);
+            }
+            default -> {
+                final Tuple.OfSixteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> t =
+                        (Tuple.OfSixteen<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+                yield is(t.item1(), shape, offset) && is(t.item2(), shape, offset + 1)
+                        && is(t.item3(), shape, offset + 2) && is(t.item4(), shape, offset + 3)
+                        && is(t.item5(), shape, offset + 4) && is(t.item6(), shape, offset + 5)
+                        && is(t.item7(), shape, offset + 6) && is(t.item8(), shape, offset + 7)
+                        && is(t.item9(), shape, offset + 8) && is(t.item10(), shape, offset + 9)
+                        && is(t.item11(), shape, offset + 10) && is(t.item12(), shape, offset + 11)
+                        && is(t.item13(), shape, offset + 12) && is(t.item14(), shape, offset + 13)
+                        && is(t.item15(), shape, offset + 14) && is(t.item16(), shape, offset + 15);
+            }
+        };
+    }
+
+    // endregion
+
+    /**
+     * Returns {@code true} if the specified tuple is an instance of this view's record and, for a view of a nested
+     * tuple, its nested tuples are instances of the records of the nested views in turn.
+     */
+    private boolean structured(final Tuple tuple) {
+        TypedView<?> view = this;
+        Tuple node = tuple;
+        while (node.getClass() == view.record) {
+            if (view.rest == null)
+                return true;
+            node = ((Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?>) node).rest();
+            view = view.rest;
+        }
+        return false;
+    }
+
+    private static boolean is(final Object item, final TupleShape shape, final int index) {
+        return TupleShape.typeOf(item) == shape.type(index);
+    }
+
+    private boolean accepts(final TupleShape shape) {
+        for (int i = 0; i < this.types.length; i++) {
+            // As with Class.isInstance, null items are never accepted
+            final Class<?> type = shape.type(i);
+            if (type == null || !this.types[i].isAssignableFrom(type))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(this.record.getSimpleName()).append('<');
+        final int own = this.rest == null ? this.types.length : 7;
+        for (int i = 0; i < own; i++) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append(this.types[i].getSimpleName());
+        }
+        if (this.rest != null)
+            sb.append(", ").append(this.rest);
+        return sb.append('>').toString();
+    }
+
+    /**
+     * A verdict for a single runtime shape, published as a whole so that racing readers never observe a shape paired
+     * with another shape's verdict.
+     */
+    private record Verdict(TupleShape shape, boolean accepted) {
+    }
+}
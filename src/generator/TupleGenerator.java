@@ -0,0 +1,954 @@
+package generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates the repetitive parts of {@code Tuple.java} from a single template.
+ * <p>
+ * The generated parts are delimited within {@code Tuple.java} by {@code // region generated: <name>} and
+ * {@code // endregion} comments, and everything outside of those regions (such as {@code Tuple.OfNested}) is left
+ * untouched. The regions produced by this generator are:
+ * <ul>
+ *     <li>{@code factories}: the {@code Tuple.of(...)} factory methods for every flat arity</li>
+ *     <li>{@code array factory}: the {@code Tuple.fromArray(...)} factory, which selects a record by arity</li>
+ *     <li>{@code specialized factories}: the named factories, such as {@code Tuple.ofInts(...)}, for every
+ *     primitive specialization</li>
+ *     <li>{@code casts}: the default {@code asX(...)} methods for every flat arity</li>
+ *     <li>{@code records}: the {@code Tuple.Single} through {@code Tuple.OfX} records for every flat arity</li>
+ *     <li>{@code specialized records}: the primitive-specialized records</li>
+ * </ul>
+ * Additionally, the {@code permits} clause of the {@code Tuple} interface is rewritten to list every generated record.
+ * <p>
+ * The generator also rewrites the following regions of {@code TypedView.java}, which is expected alongside
+ * {@code Tuple.java}, so that a view exists for every record:
+ * <ul>
+ *     <li>{@code views}: the {@code TypedView.single(...)} through {@code TypedView.ofX(...)} factories for every flat
+ *     arity, and the {@code TypedView.ofNested(...)} factory</li>
+ *     <li>{@code view matches}: the check of a tuple against a runtime shape through the accessors of each record</li>
+ * </ul>
+ * <p>
+ * Usage: {@code java generator.TupleGenerator <path to Tuple.java> [max arity]}
+ *
+ * @author Shaun Thornton
+ */
+public class TupleGenerator {
+
+    /**
+     * The largest flat arity generated when no arity is specified.
+     */
+    static final int DEFAULT_MAX_ARITY = 16;
+
+    /**
+     * The largest flat arity this generator is able to name.
+     */
+    static final int MAX_SUPPORTED_ARITY = 22;
+
+    private static final int LINE_WIDTH = 120;
+
+    private static final int MAX_INLINE_TAG_WIDTH = 80;
+
+    private static final String[] COUNTS = {"zero", "one", "two", "three", "four", "five", "six", "seven", "eight",
+            "nine", "ten", "eleven", "twelve", "thirteen", "fourteen", "fifteen", "sixteen", "seventeen", "eighteen",
+            "nineteen", "twenty", "twenty-one", "twenty-two"};
+
+    private static final String[] NAMES = {"", "Single", "Two", "Three", "Four", "Five", "Six", "Seven", "Eight",
+            "Nine", "Ten", "Eleven", "Twelve", "Thirteen", "Fourteen", "Fifteen", "Sixteen", "Seventeen", "Eighteen",
+            "Nineteen", "Twenty", "TwentyOne", "TwentyTwo"};
+
+    private static final String[] ORDINALS = {"", "first", "second", "third", "fourth", "fifth", "sixth", "seventh",
+            "eighth", "ninth", "tenth", "eleventh", "twelfth", "thirteenth", "fourteenth", "fifteenth", "sixteenth",
+            "seventeenth", "eighteenth", "nineteenth", "twentieth", "twenty-first", "twenty-second"};
+
+    /**
+     * The primitive-specialized records to generate, in declaration order.
+     */
+    private static final List<Specialization> SPECIALIZATIONS = List.of(
+            new Specialization("IntPair", "ofInts", "int", "int"),
+            new Specialization("LongPair", "ofLongs", "long", "long"),
+            new Specialization("DoublePair", "ofDoubles", "double", "double"),
+            new Specialization("IntLongPair", "ofIntLong", "int", "long"),
+            new Specialization("DoubleTriple", "ofDoubles", "double", "double", "double")
+    );
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: java generator.TupleGenerator <path to Tuple.java> [max arity]");
+            System.exit(1);
+        }
+        final Path path = Path.of(args[0]);
+        final int maxArity = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_ARITY;
+        if (maxArity < 7 || maxArity > MAX_SUPPORTED_ARITY)
+            throw new IllegalArgumentException("Max arity must be between 7 and " + MAX_SUPPORTED_ARITY);
+
+        String source = Files.readString(path);
+        source = replacePermits(source, maxArity);
+        source = replaceRegion(source, "factories", factories(maxArity));
+        source = replaceRegion(source, "array factory", arrayFactory(maxArity));
+        source = replaceRegion(source, "specialized factories", specializedFactories());
+        source = replaceRegion(source, "casts", casts(maxArity));
+        source = replaceRegion(source, "records", records(maxArity));
+        source = replaceRegion(source, "specialized records", specializedRecords());
+        Files.writeString(path, source);
+
+        final Path viewPath = path.resolveSibling("TypedView.java");
+        String view = Files.readString(viewPath);
+        view = replaceRegion(view, "views", views(maxArity));
+        view = replaceRegion(view, "view matches", viewMatches(maxArity));
+        Files.writeString(viewPath, view);
+    }
+
+    // --- Regions ---
+
+    private static String factories(final int maxArity) {
+        final StringBuilder sb = new StringBuilder();
+        for (int arity = 1; arity <= maxArity; arity++)
+            sb.append(arity == 1 ? SINGLE_FACTORY : factory(arity)).append('\n');
+        return sb.toString();
+    }
+
+    private static String specializedFactories() {
+        final StringBuilder sb = new StringBuilder();
+        for (final Specialization specialization : SPECIALIZATIONS)
+            sb.append(specializedFactory(specialization)).append('\n');
+        return sb.toString();
+    }
+
+    private static String casts(final int maxArity) {
+        final StringBuilder sb = new StringBuilder(SINGLE_CAST).append('\n');
+        for (int arity = 2; arity <= maxArity; arity++)
+            sb.append(cast(arity)).append('\n').append(castOnlyType(arity)).append('\n');
+        return sb.toString();
+    }
+
+    private static String records(final int maxArity) {
+        final StringBuilder sb = new StringBuilder();
+        for (int arity = 1; arity <= maxArity; arity++)
+            sb.append(record(arity)).append('\n');
+        return sb.toString();
+    }
+
+    private static String specializedRecords() {
+        final StringBuilder sb = new StringBuilder();
+        for (final Specialization specialization : SPECIALIZATIONS)
+            sb.append(specializedRecord(specialization)).append('\n');
+        return sb.toString();
+    }
+
+    // --- Factories ---
+
+    private static final String SINGLE_FACTORY = """
+    /**
+     * Returns a new {@code Tuple.Single} containing one item.
+     *
+     * @param <OnlyType> the sole item type
+     * @param item1      the sole item
+     * @return a {@code Tuple.Single} containing the specified item
+     */
+    static <OnlyType>
+    Single<OnlyType>
+    of(final OnlyType item1) {
+        // Return a new tuple containing the specified item
+        return new Single<>(item1);
+    }
+""";
+
+    private static String factory(final int arity) {
+        final String name = recordName(arity);
+        final List<String[]> params = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            params.add(new String[]{"<" + typeParam(i) + ">", "the " + ORDINALS[i] + " item type"});
+        for (int i = 1; i <= arity; i++)
+            params.add(new String[]{item(i), "the " + ORDINALS[i] + " item"});
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(javadoc("    ", List.of("Returns a new {@code Tuple." + name + "} containing " + COUNTS[arity]
+                + " items."), params, "a {@code Tuple." + name + "} containing the specified items"));
+        sb.append(wrap("    static <", commaSeparated(typeParams(arity), ">"), "            "));
+        sb.append(wrap("    " + name + "<", commaSeparated(typeParams(arity), ">"), "            "));
+        sb.append(wrap("    of(", commaSeparated(declarations(arity, TupleGenerator::typeParam), ") {"), "       "));
+        sb.append("        // Return a new tuple containing the ").append(COUNTS[arity]).append(" specified items\n");
+        sb.append(wrap("        return new " + name + "<>(", commaSeparated(items(arity), ");"), "                "));
+        return sb.append("    }\n").toString();
+    }
+
+    private static String arrayFactory(final int maxArity) {
+        final StringBuilder sb = new StringBuilder("""
+    /**
+     * Returns a new tuple containing the items of the specified array, in order. The returned tuple is a flat tuple
+     * whenever the array contains no more than %s items, and a nested tuple otherwise.
+     * <p>
+     * Since the type of each item is not statically known, the returned tuple is typed only as a {@code Tuple}, and
+     * primitive-specialized tuples are never returned.
+     *
+     * @param items the items of the tuple
+     * @return a tuple containing the specified items
+     * @throws IllegalArgumentException if the specified array is empty
+     */
+    static Tuple fromArray(final Object... items) {
+        if (items.length == 0)
+            throw new IllegalArgumentException("A tuple must contain at least one item");
+        // Larger tuples nest the remaining items within their eighth item, and are built from the innermost tuple
+        // outwards, so that building a long tuple does not recurse once for every seven items
+        int from = items.length <= %d ? 0 : (items.length - %d + 6) / 7 * 7;
+        Tuple tuple = flat(items, from);
+        while (from > 0) {
+            from -= 7;
+            tuple = new OfNested<>(items[from], items[from + 1], items[from + 2], items[from + 3], items[from + 4],
+                    items[from + 5], items[from + 6], tuple);
+        }
+        return tuple;
+    }
+
+    private static Tuple flat(final Object[] items, final int from) {
+        return switch (items.length - from) {
+""".formatted(COUNTS[maxArity], maxArity, maxArity));
+        for (int arity = 1; arity <= maxArity; arity++) {
+            final List<String> arguments = new ArrayList<>();
+            for (int i = 0; i < arity; i++)
+                arguments.add(i == 0 ? "items[from]" : "items[from + " + i + "]");
+            sb.append(wrap("            case " + arity + " -> new " + recordName(arity) + "<>(",
+                    commaSeparated(arguments, ");"), "                    "));
+        }
+        sb.append("            default -> throw new IllegalArgumentException(\"Too many items for a flat tuple: \"\n");
+        sb.append("                    + (items.length - from));\n");
+        return sb.append("        };\n    }\n\n").toString();
+    }
+
+    private static String specializedFactory(final Specialization specialization) {
+        final List<String[]> params = new ArrayList<>();
+        for (int i = 1; i <= specialization.arity(); i++)
+            params.add(new String[]{item(i), "the " + ORDINALS[i] + " item"});
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(javadoc("    ", List.of(
+                "Returns a new {@code Tuple." + specialization.name() + "} containing " + specialization.description()
+                        + ".",
+                "Unlike {@code Tuple.of(...)}, which always boxes its items, this factory stores the specified "
+                        + "items unboxed. It is named rather than overloaded so that primitive arguments passed to "
+                        + "{@code Tuple.of(...)} are never widened to match it."
+        ), params, "a {@code Tuple." + specialization.name() + "} containing the specified items"));
+        sb.append(wrap("    static " + specialization.name() + " " + specialization.factory() + "(",
+                commaSeparated(declarations(specialization.arity(), i -> specialization.types()[i - 1]), ") {"),
+                "            "));
+        sb.append("        // Return a new primitive-specialized tuple containing the specified items\n");
+        sb.append(wrap("        return new " + specialization.name() + "(",
+                commaSeparated(items(specialization.arity()), ");"), "                "));
+        return sb.append("    }\n").toString();
+    }
+
+    // --- Default casts ---
+
+    private static final String SINGLE_CAST = """
+    /**
+     * Attempts to represent this tuple as an {@code Tuple.Single} of the specified type. If this tuple is not an
+     * {@code Tuple.Single} instance, or does not conform to the specified type, {@code Optional.empty()} is returned.
+     * <p>
+     * Default implementation returns {@code Optional.empty()}.
+     *
+     * @param typeA      the desired type's class
+     * @param <DesiredA> the desired type
+     * @return An {@code Optional} containing an {@code Tuple.Single} representation of this tuple. If this tuple cannot
+     * be represented as an {@code Tuple.Single}, {@code Optional.empty()} is returned instead.
+     */
+    default <DesiredA> Optional<Single<DesiredA>> asSingle(final Class<DesiredA> typeA) {
+        // Default implementation returns Optional.empty()
+        return Optional.empty();
+    }
+""";
+
+    private static String cast(final int arity) {
+        final String name = recordName(arity), cast = castName(arity);
+        final StringBuilder sb = new StringBuilder();
+        sb.append(javadoc("    ", List.of(
+                castSummary(name),
+                "Default implementation returns {@code Optional.empty()}."
+        ), desiredParams(arity), castReturn(name)));
+        sb.append(wrap("    default <", commaSeparated(desiredParams(arity, false), ">"), "            "));
+        sb.append(wrap("    Optional<" + name + "<", commaSeparated(desiredParams(arity, false), ">>"),
+                "            "));
+        sb.append(wrap("    " + cast + "(", commaSeparated(classDeclarations(arity), ") {"),
+                " ".repeat(cast.length() + 5)));
+        sb.append("        // Default implementation returns Optional.empty()\n");
+        sb.append("        return Optional.empty();\n");
+        return sb.append("    }\n").toString();
+    }
+
+    private static String castOnlyType(final int arity) {
+        final String name = recordName(arity), cast = castName(arity);
+        final List<String> onlyTypes = new ArrayList<>(), arguments = new ArrayList<>(), classes = new ArrayList<>();
+        for (int i = 1; i <= arity; i++) {
+            onlyTypes.add("OnlyType");
+            arguments.add("onlyType");
+            classes.add("type" + letter(i));
+        }
+        final StringBuilder sb = new StringBuilder();
+        sb.append(javadoc("    ", List.of(
+                castSummary(name),
+                "This is a specialized version of the {@code " + cast + "(" + String.join(", ", classes) + ")} method "
+                        + "which assumes that all items contained within the tuple can be represented as the "
+                        + "specified type.",
+                "Default implementation returns {@code Optional.empty()}."
+        ), List.of(
+                new String[]{"onlyType", "the singular desired type's class"},
+                new String[]{"<OnlyType>", "the singular desired type"}
+        ), castReturn(name)));
+        sb.append("    default <OnlyType>\n");
+        sb.append(wrap("    Optional<" + name + "<", commaSeparated(onlyTypes, ">>"), "            "));
+        sb.append("    ").append(cast).append("(final Class<OnlyType> onlyType) {\n");
+        sb.append("        // Delegate to explicit type implementation\n");
+        sb.append(wrap("        return this." + cast + "(", commaSeparated(arguments, ");"), "                "));
+        return sb.append("    }\n").toString();
+    }
+
+    private static String castSummary(final String name) {
+        return "Attempts to represent this tuple as an {@code Tuple." + name + "} of the specified types. If this "
+                + "tuple is not an {@code Tuple." + name + "} instance, or does not conform to the specified types, "
+                + "{@code Optional.empty()} is returned.";
+    }
+
+    private static String castReturn(final String name) {
+        return "An {@code Optional} containing an {@code Tuple." + name + "} representation of this tuple. If this "
+                + "tuple cannot be represented as an {@code Tuple." + name + "}, {@code Optional.empty()} is "
+                + "returned instead.";
+    }
+
+    // --- Records ---
+
+    private static final String SINGLE_RECORD_HEADER = """
+    /**
+     * Represents a tuple object which contains a single item.
+     *
+     * @param <OnlyType> The type of the sole item contained within the tuple
+     */
+    record Single<OnlyType>(OnlyType item1) implements Tuple {
+        /**
+         * Attempts to represent this tuple as an {@code Tuple.Single} of the specified type. Although polymorphism
+         * ensures that this tuple will always be an {@code Tuple.Single} instance, the actual type of the sole item
+         * could potentially differ. If the sole item contained within this tuple does not conform to the specified
+         * type, {@code Optional.empty()} is returned.
+         *
+         * @param typeA         the desired type's class
+         * @param <DesiredType> the desired type
+         * @return An {@code Optional} containing an {@code Tuple.Single} representation of this tuple. If this tuple
+         * cannot be represented as an {@code Tuple.Single}, {@code Optional.empty()} is returned instead.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <DesiredType> Optional<Single<DesiredType>> asSingle(final Class<DesiredType> typeA) {
+            if (typeA.isInstance(item1))
+                return Optional.of((Single<DesiredType>) this);
+            // Delegate to default implementation
+            return Tuple.super.asSingle(typeA);
+        }
+
+""";
+
+    private static String record(final int arity) {
+        final StringBuilder sb = new StringBuilder();
+        if (arity == 1) {
+            sb.append(SINGLE_RECORD_HEADER);
+        } else {
+            sb.append(recordHeader(arity));
+            sb.append(recordCast(arity)).append('\n');
+        }
+        sb.append(accessors(arity, null)).append('\n');
+        sb.append(equality(arity, null)).append('\n');
+        sb.append(TO_STRING);
+        return sb.append("    }\n").toString();
+    }
+
+    private static String recordHeader(final int arity) {
+        final String name = recordName(arity);
+        final List<String[]> params = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            params.add(new String[]{"<" + typeParam(i) + ">",
+                    "The type of the " + ORDINALS[i] + " item contained within the tuple"});
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(javadoc("    ", List.of("Represents a tuple object which contains " + COUNTS[arity] + " items."),
+                params, null));
+        final List<String> components = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            components.add(typeParam(i) + " " + item(i));
+        final String declaration = "    record " + name + "<" + String.join(", ", typeParams(arity)) + ">(";
+        final List<String> tokens = commaSeparated(components, ") implements Tuple {");
+        if (declaration.length() + longest(tokens) <= LINE_WIDTH) {
+            // Align the record components with the opening parenthesis
+            sb.append(wrap(declaration, tokens, " ".repeat(declaration.length())));
+        } else {
+            // Too wide to align, so fall back to continuation indents
+            final String typeParams = wrap("    record " + name + "<", commaSeparated(typeParams(arity), ">("),
+                    "            ");
+            sb.append(typeParams);
+            sb.append(wrap("            ", tokens, "            "));
+        }
+        return sb.toString();
+    }
+
+    private static String recordCast(final int arity) {
+        final String name = recordName(arity), cast = castName(arity);
+        final StringBuilder sb = new StringBuilder();
+        sb.append(javadoc("        ", List.of(
+                "Attempts to represent this tuple as an {@code Tuple." + name + "} of the specified types. Although "
+                        + "polymorphism\nensures that this tuple will always be an {@code Tuple." + name + "} "
+                        + "instance, the actual types of each item\ncould potentially differ. If the items contained "
+                        + "within this tuple do not conform to the specified types,\n{@code Optional.empty()} is "
+                        + "returned."
+        ), desiredParams(arity), castReturn(name)));
+        sb.append("        @Override\n");
+        sb.append("        @SuppressWarnings(\"unchecked\")\n");
+        sb.append(wrap("        public <", commaSeparated(desiredParams(arity, false), ">"), "                "));
+        sb.append(wrap("        Optional<" + name + "<", commaSeparated(desiredParams(arity, false), ">>"),
+                "                "));
+        sb.append(wrap("        " + cast + "(", commaSeparated(classDeclarations(arity), ") {"),
+                " ".repeat(cast.length() + 9)));
+
+        // Check the type of every item before casting
+        final String singleLine = "            if (" + check(1) + " && " + check(2) + ")";
+        if (arity == 2 && singleLine.length() <= LINE_WIDTH) {
+            sb.append(singleLine).append('\n');
+        } else {
+            sb.append("            if (").append(check(1)).append('\n');
+            for (int i = 2; i <= arity; i++)
+                sb.append("                    && ").append(check(i)).append(i == arity ? ")\n" : "\n");
+        }
+        final String target = name + "<" + String.join(", ", desiredParams(arity, false)) + ">";
+        final String cast1 = "                return Optional.of((" + target + ") this);";
+        if (cast1.length() <= LINE_WIDTH) {
+            sb.append(cast1).append('\n');
+        } else {
+            sb.append("                return Optional.of(\n");
+            sb.append(wrap("                        (" + name + "<", commaSeparated(desiredParams(arity, false),
+                    ">) this"), "                                "));
+            sb.append("                );\n");
+        }
+        sb.append("            // Delegate to default implementation\n");
+        final List<String> classes = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            classes.add("type" + letter(i));
+        sb.append(wrap("            return Tuple.super." + cast + "(", commaSeparated(classes, ");"),
+                "                    "));
+        return sb.append("        }\n").toString();
+    }
+
+    private static String check(final int index) {
+        return "type" + letter(index) + ".isInstance(" + item(index) + ")";
+    }
+
+    // --- Specialized records ---
+
+    private static String specializedRecord(final Specialization specialization) {
+        final int arity = specialization.arity();
+        final String name = specialization.name(), boxed = recordName(arity), cast = castName(arity);
+        final List<String> getters = new ArrayList<>();
+        for (final String type : specialization.distinctTypes())
+            getters.add("{@code get" + capitalize(type) + "(int)}");
+        final List<String[]> params = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            params.add(new String[]{item(i), "the " + ORDINALS[i] + " item contained within the tuple"});
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(javadoc("    ", List.of(
+                "Represents a primitive-specialized tuple object which contains " + specialization.description()
+                        + ".",
+                "Items are stored unboxed and may be read without boxing through " + String.join(" and ", getters)
+                        + ". Please note that a {@code Tuple." + name + "} is never equal to a {@code Tuple." + boxed
+                        + "} containing the same (boxed) items."
+        ), params, null));
+        final List<String> components = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            components.add(specialization.types()[i - 1] + " " + item(i));
+        sb.append(wrap("    record " + name + "(", commaSeparated(components, ") implements Tuple {"),
+                "            "));
+
+        sb.append(javadoc("        ", List.of(
+                "Attempts to represent this tuple as an {@code Tuple." + boxed + "} of the specified types. Since "
+                        + "this tuple stores its items unboxed, the returned {@code Tuple." + boxed + "} is a boxed "
+                        + "copy of this tuple. If the boxed items contained within this tuple do not conform to the "
+                        + "specified types, {@code Optional.empty()} is returned."
+        ), desiredParams(arity), castReturn(boxed)));
+        sb.append("        @Override\n");
+        sb.append(wrap("        public <", commaSeparated(desiredParams(arity, false), ">"), "                "));
+        sb.append(wrap("        Optional<" + boxed + "<", commaSeparated(desiredParams(arity, false), ">>"),
+                "                "));
+        sb.append(wrap("        " + cast + "(", commaSeparated(classDeclarations(arity), ") {"),
+                " ".repeat(cast.length() + 9)));
+        sb.append("            if (").append(check(1)).append('\n');
+        for (int i = 2; i <= arity; i++)
+            sb.append("                    && ").append(check(i)).append(i == arity ? ")\n" : "\n");
+        final List<String> casts = new ArrayList<>(), classes = new ArrayList<>();
+        for (int i = 1; i <= arity; i++) {
+            casts.add("type" + letter(i) + ".cast(" + item(i) + ")");
+            classes.add("type" + letter(i));
+        }
+        sb.append(wrap("                return Optional.of(new " + boxed + "<>(", commaSeparated(casts, "));"),
+                "                        "));
+        sb.append("            // Delegate to default implementation\n");
+        sb.append(wrap("            return Tuple.super." + cast + "(", commaSeparated(classes, ");"),
+                "                    "));
+        sb.append("        }\n\n");
+
+        sb.append(accessors(arity, specialization)).append('\n');
+        sb.append(equality(arity, specialization)).append('\n');
+        sb.append(TO_STRING);
+        return sb.append("    }\n").toString();
+    }
+
+    // --- Shared record members ---
+
+    private static final String TO_STRING = """
+        @Override
+        public String toString() {
+            // For consistency purposes, delegate to static toString implementation
+            return Tuple.toString(this);
+        }
+""";
+
+    private static String accessors(final int arity, final Specialization specialization) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("        @Override\n");
+        sb.append("        public Object get(final int index) {\n");
+        sb.append("            return switch (index) {\n");
+        for (int i = 1; i <= arity; i++)
+            sb.append("                case ").append(i - 1).append(" -> ").append(item(i)).append(";\n");
+        sb.append("                default -> throw new IndexOutOfBoundsException(index);\n");
+        sb.append("            };\n");
+        sb.append("        }\n\n");
+
+        // Primitive-specialized records read their own items without boxing
+        if (specialization != null) {
+            for (final String type : specialization.distinctTypes()) {
+                sb.append("        @Override\n");
+                sb.append("        public ").append(type).append(" get").append(capitalize(type))
+                        .append("(final int index) {\n");
+                sb.append("            return switch (index) {\n");
+                for (int i = 1; i <= arity; i++)
+                    if (specialization.types()[i - 1].equals(type))
+                        sb.append("                case ").append(i - 1).append(" -> ").append(item(i)).append(";\n");
+                sb.append("                default -> Tuple.super.get").append(capitalize(type)).append("(index);\n");
+                sb.append("            };\n");
+                sb.append("        }\n\n");
+            }
+        }
+
+        sb.append("        @Override\n");
+        sb.append("        public int arity() {\n");
+        sb.append("            return ").append(arity).append(";\n");
+        sb.append("        }\n\n");
+
+        sb.append("        @Override\n");
+        sb.append("        public void copyInto(final Object[] dest, final int offset) {\n");
+        for (int i = 1; i <= arity; i++)
+            sb.append("            dest[offset").append(i == 1 ? "" : " + " + (i - 1)).append("] = ").append(item(i))
+                    .append(";\n");
+        return sb.append("        }\n").toString();
+    }
+
+    private static String equality(final int arity, final Specialization specialization) {
+        // The pattern variable declaration, such as: o instanceof OfTwo<?, ?> other
+        final List<String> pattern = new ArrayList<>(List.of("this", "==", "o", "||", "o", "instanceof"));
+        if (specialization != null) {
+            pattern.add(specialization.name());
+        } else {
+            final List<String> wildcards = new ArrayList<>();
+            for (int i = 1; i <= arity; i++)
+                wildcards.add(i == 1 ? recordName(arity) + "<?" : "?");
+            pattern.addAll(commaSeparated(wildcards, ">"));
+        }
+        pattern.add("other");
+
+        final List<String> comparisons = new ArrayList<>();
+        for (int i = 1; i <= arity; i++) {
+            final String primitive = specialization == null ? null : specialization.types()[i - 1];
+            if (primitive == null)
+                comparisons.add("Objects.equals(" + item(i) + ", other." + item(i) + ")");
+            else if (primitive.equals("double"))
+                // Matches the semantics of the equals method which records otherwise generate
+                comparisons.add("Double.compare(" + item(i) + ", other." + item(i) + ") == 0");
+            else
+                comparisons.add(item(i) + " == other." + item(i));
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("        @Override\n");
+        sb.append("        public boolean equals(final Object o) {\n");
+        sb.append("            // Identical tuples are always equal, so no items need to be compared\n");
+        final String singleLine = "            return " + String.join(" ", pattern) + " && "
+                + String.join(" && ", comparisons) + ";";
+        if (singleLine.length() <= LINE_WIDTH) {
+            sb.append(singleLine).append('\n');
+        } else {
+            sb.append(wrap("            return ", pattern, "                    "));
+            for (int i = 0; i < comparisons.size(); i++)
+                sb.append("                    && ").append(comparisons.get(i))
+                        .append(i == comparisons.size() - 1 ? ";\n" : "\n");
+        }
+        return sb.append("        }\n").toString();
+    }
+
+    // --- Typed views ---
+
+    private static String views(final int maxArity) {
+        final StringBuilder sb = new StringBuilder();
+        for (int arity = 1; arity <= maxArity; arity++)
+            sb.append(view(arity)).append('\n');
+        return sb.append(nestedView()).append('\n').toString();
+    }
+
+    private static String view(final int arity) {
+        final String name = recordName(arity), method = arity == 1 ? "single" : "of" + NAMES[arity];
+        final List<String[]> params = viewParams(arity);
+        final List<String> letters = letters(arity), declarations = viewDeclarations(arity);
+        final String typeArgs = String.join(", ", letters);
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(javadoc("    ", List.of("Returns a new view which recovers a {@code Tuple." + name + "} containing "
+                + (arity == 1 ? "an item of the specified type." : "items of the specified types.")),
+                params, "a new view"));
+        if (arity <= 4) {
+            final String first = "    public static <" + typeArgs + "> TypedView<Tuple." + name + "<" + typeArgs
+                    + ">> " + method + "(";
+            sb.append(wrap(first, commaSeparated(declarations, ") {"), " ".repeat(first.length())));
+        } else {
+            sb.append("    public static <").append(typeArgs).append(">\n");
+            sb.append("    TypedView<Tuple.").append(name).append('<').append(typeArgs).append(">>\n");
+            sb.append(wrap("    " + method + "(", commaSeparated(declarations, ") {"),
+                    " ".repeat(method.length() + 5)));
+        }
+        sb.append(wrap("        return new TypedView<>(Tuple." + name + ".class, ",
+                commaSeparated(viewTypes(arity), ");"), "                "));
+        return sb.append("    }\n").toString();
+    }
+
+    private static String nestedView() {
+        final List<String[]> params = new ArrayList<>(viewParams(7));
+        params.add(7, new String[]{"rest", "the view which recovers the nested tuple"});
+        params.add(new String[]{"<H>", "the type of the nested tuple"});
+        final List<String> declarations = new ArrayList<>(viewDeclarations(7));
+        declarations.add("final TypedView<H> rest");
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(javadoc("    ", List.of("Returns a new view which recovers a {@code Tuple.OfNested} containing items "
+                + "of the specified types, followed by a nested tuple which is accepted by the specified view."),
+                params, "a new view"));
+        sb.append("    public static <").append(String.join(", ", letters(7))).append(", H extends Tuple>\n");
+        sb.append("    TypedView<Tuple.OfNested<").append(String.join(", ", letters(8))).append(">>\n");
+        sb.append(wrap("    ofNested(", commaSeparated(declarations, ") {"), "             "));
+        sb.append(wrap("        return new TypedView<>(rest, ", commaSeparated(viewTypes(7), ");"),
+                "                "));
+        return sb.append("    }\n").toString();
+    }
+
+    private static String viewMatches(final int maxArity) {
+        final StringBuilder sb = new StringBuilder("""
+    /**
+     * Returns {@code true} if the specified tuple, which is known to be an instance of this view's record, has the
+     * items described by the specified runtime shape from the specified index onwards. Unlike
+     * {@link TupleShape#matches(Tuple)}, the items are read through the accessors of the record itself, which keeps
+     * this check free of interface dispatch.
+     */
+    private boolean matches(final Tuple tuple, final TupleShape shape, final int offset) {
+        if (this.rest != null) {
+            final Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?> t = (Tuple.OfNested<?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+""");
+        final List<String> nested = checks(7);
+        nested.add("&& this.rest.matches(t.rest(), shape, offset + 7);");
+        sb.append(wrap("            return ", nested, "                    "));
+        sb.append("        }\n");
+        sb.append("        return switch (this.types.length) {\n");
+        for (int arity = 1; arity <= maxArity; arity++) {
+            final String wildcards = String.join(", ", Collections.nCopies(arity, "?"));
+            final String type = "Tuple." + recordName(arity) + "<" + wildcards + ">";
+            sb.append(arity == maxArity ? "            default -> {\n" : "            case " + arity + " -> {\n");
+            final String cast = "                final " + type + " t = (" + type + ") tuple;";
+            if (cast.length() <= LINE_WIDTH)
+                sb.append(cast).append('\n');
+            else
+                sb.append("                final ").append(type).append(" t =\n                        (").append(type)
+                        .append(") tuple;\n");
+            final List<String> checks = checks(arity);
+            checks.set(arity - 1, checks.get(arity - 1) + ";");
+            sb.append(wrap("                yield ", checks, "                        "));
+            sb.append("            }\n");
+        }
+        return sb.append("        };\n    }\n\n").toString();
+    }
+
+    /**
+     * Returns the check of each item of a tuple against a shape, each but the first prefixed by {@code &&}, so that
+     * wrapped conditions begin each continuation line with an operator.
+     */
+    private static List<String> checks(final int arity) {
+        final List<String> checks = new ArrayList<>();
+        for (int i = 1; i <= arity; i++) {
+            final String index = i == 1 ? "offset" : "offset + " + (i - 1);
+            checks.add((i == 1 ? "" : "&& ") + "is(t." + item(i) + "(), shape, " + index + ")");
+        }
+        return checks;
+    }
+
+    private static List<String[]> viewParams(final int arity) {
+        final List<String[]> params = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            params.add(new String[]{"type" + letter(i), "the type of the " + ORDINALS[i] + " item"});
+        for (int i = 1; i <= arity; i++)
+            params.add(new String[]{"<" + letter(i) + ">", "the type of the " + ORDINALS[i] + " item"});
+        if (arity == 1) {
+            params.set(0, new String[]{"typeA", "the type of the sole item"});
+            params.set(1, new String[]{"<A>", "the type of the sole item"});
+        }
+        return params;
+    }
+
+    private static List<String> viewDeclarations(final int arity) {
+        final List<String> declarations = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            declarations.add("final Class<" + letter(i) + "> type" + letter(i));
+        return declarations;
+    }
+
+    private static List<String> viewTypes(final int arity) {
+        final List<String> types = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            types.add("type" + letter(i));
+        return types;
+    }
+
+    private static List<String> letters(final int arity) {
+        final List<String> letters = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            letters.add(String.valueOf(letter(i)));
+        return letters;
+    }
+
+    // --- Naming ---
+
+    private static String recordName(final int arity) {
+        return arity == 1 ? "Single" : "Of" + NAMES[arity];
+    }
+
+    private static String castName(final int arity) {
+        return "as" + NAMES[arity];
+    }
+
+    private static char letter(final int index) {
+        return (char) ('A' + index - 1);
+    }
+
+    private static String typeParam(final int index) {
+        return "Type" + letter(index);
+    }
+
+    private static String item(final int index) {
+        return "item" + index;
+    }
+
+    private static String capitalize(final String type) {
+        return Character.toUpperCase(type.charAt(0)) + type.substring(1);
+    }
+
+    private static List<String> typeParams(final int arity) {
+        final List<String> typeParams = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            typeParams.add(typeParam(i));
+        return typeParams;
+    }
+
+    private static List<String> items(final int arity) {
+        final List<String> items = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            items.add(item(i));
+        return items;
+    }
+
+    private static List<String> declarations(final int arity, final IntFunction<String> type) {
+        final List<String> declarations = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            declarations.add("final " + type.apply(i) + " " + item(i));
+        return declarations;
+    }
+
+    private static List<String> classDeclarations(final int arity) {
+        final List<String> declarations = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            declarations.add("final Class<Desired" + letter(i) + "> type" + letter(i));
+        return declarations;
+    }
+
+    private static List<String> desiredParams(final int arity, final boolean brackets) {
+        final List<String> params = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            params.add(brackets ? "<Desired" + letter(i) + ">" : "Desired" + letter(i));
+        return params;
+    }
+
+    private static List<String[]> desiredParams(final int arity) {
+        final List<String[]> params = new ArrayList<>();
+        for (int i = 1; i <= arity; i++)
+            params.add(new String[]{"type" + letter(i), "the " + ORDINALS[i] + " desired type's class"});
+        for (int i = 1; i <= arity; i++)
+            params.add(new String[]{"<Desired" + letter(i) + ">", "the " + ORDINALS[i] + " desired type"});
+        return params;
+    }
+
+    // --- Formatting ---
+
+    /**
+     * Returns a javadoc comment consisting of the specified paragraphs, tags and return description, wrapped to fit
+     * within the line width.
+     */
+    private static String javadoc(final String indent, final List<String> paragraphs, final List<String[]> params,
+                                  final String returns) {
+        final String prefix = indent + " * ";
+        final StringBuilder sb = new StringBuilder(indent).append("/**\n");
+        for (int i = 0; i < paragraphs.size(); i++) {
+            if (i > 0)
+                sb.append(prefix).append("<p>\n");
+            sb.append(wrapText(prefix, paragraphs.get(i), prefix));
+        }
+        if (!params.isEmpty() || returns != null)
+            sb.append(indent).append(" *\n");
+        int width = 0;
+        for (final String[] param : params)
+            width = Math.max(width, param[0].length());
+        for (final String[] param : params)
+            sb.append(wrapText(prefix + "@param " + pad(param[0], width) + " ", param[1], prefix));
+        if (returns != null)
+            sb.append(wrapText(prefix + "@return ", returns, prefix));
+        return sb.append(indent).append(" */\n").toString();
+    }
+
+    private static String wrapText(final String first, final String text, final String continuation) {
+        // Explicit line breaks within the text are always preserved
+        final StringBuilder sb = new StringBuilder();
+        String prefix = first;
+        for (final String line : text.split("\n")) {
+            // Short inline tags such as {@code Tuple.OfTwo} are never split across lines
+            final List<String> words = new ArrayList<>();
+            for (final String word : line.split(" ")) {
+                final int last = words.size() - 1;
+                if (last >= 0 && words.get(last).lastIndexOf('{') > words.get(last).lastIndexOf('}')
+                        && words.get(last).length() + word.length() < MAX_INLINE_TAG_WIDTH)
+                    words.set(last, words.get(last) + " " + word);
+                else
+                    words.add(word);
+            }
+            sb.append(wrap(prefix, words, continuation));
+            prefix = continuation;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Greedily joins the specified tokens with spaces, starting new lines (prefixed by {@code continuation}) whenever
+     * the next token would not fit within the line width.
+     */
+    private static String wrap(final String first, final List<String> tokens, final String continuation) {
+        final StringBuilder sb = new StringBuilder();
+        final StringBuilder line = new StringBuilder(first);
+        boolean empty = true;
+        for (final String token : tokens) {
+            if (!empty && line.length() + 1 + token.length() > LINE_WIDTH) {
+                sb.append(line).append('\n');
+                line.setLength(0);
+                line.append(continuation);
+                empty = true;
+            }
+            if (!empty)
+                line.append(' ');
+            line.append(token);
+            empty = false;
+        }
+        return sb.append(line).append('\n').toString();
+    }
+
+    private static List<String> commaSeparated(final List<String> items, final String suffix) {
+        final List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++)
+            tokens.add(items.get(i) + (i == items.size() - 1 ? suffix : ","));
+        return tokens;
+    }
+
+    private static int longest(final List<String> tokens) {
+        int longest = 0;
+        for (final String token : tokens)
+            longest = Math.max(longest, token.length());
+        return longest;
+    }
+
+    private static String pad(final String value, final int width) {
+        return value + " ".repeat(width - value.length());
+    }
+
+    // --- Source rewriting ---
+
+    private static String replacePermits(final String source, final int maxArity) {
+        final List<String> permitted = new ArrayList<>();
+        for (int arity = 1; arity <= maxArity; arity++)
+            permitted.add(recordName(arity));
+        permitted.add("OfNested");
+        for (final Specialization specialization : SPECIALIZATIONS)
+            permitted.add(specialization.name());
+        final Matcher matcher = Pattern.compile("\n        permits [^{]*\\{").matcher(source);
+        if (!matcher.find())
+            throw new IllegalStateException("Unable to find the permits clause");
+        final String permits = wrap("        permits ", commaSeparated(permitted, " {"), "        ");
+        return source.substring(0, matcher.start() + 1) + permits.substring(0, permits.length() - 1)
+                + source.substring(matcher.end());
+    }
+
+    private static String replaceRegion(final String source, final String name, final String content) {
+        final String start = "    // region generated: " + name + "\n", end = "    // endregion\n";
+        final int from = source.indexOf(start);
+        if (from < 0)
+            throw new IllegalStateException("Unable to find region: " + name);
+        final int to = source.indexOf(end, from);
+        // Every generated member is followed by a blank line, so the region is padded on both sides
+        return source.substring(0, from + start.length()) + '\n' + content + source.substring(to);
+    }
+
+    /**
+     * Describes a sequence of primitive items in prose, such as "two {@code int} items".
+     *
+     * @param types the primitive type of each item
+     * @return a description of the items
+     */
+    private static String describe(final String[] types) {
+        if (Arrays.stream(types).distinct().count() == 1)
+            return COUNTS[types.length] + " {@code " + types[0] + "} items";
+        final List<String> items = new ArrayList<>();
+        for (final String type : types)
+            items.add((type.startsWith("i") ? "an" : "a") + " {@code " + type + "} item");
+        return String.join(" followed by ", items);
+    }
+
+    /**
+     * Describes a primitive-specialized record.
+     *
+     * @param name    the simple name of the record
+     * @param factory the name of the factory which creates the record
+     * @param types   the primitive type of each item
+     */
+    private record Specialization(String name, String factory, String... types) {
+        int arity() {
+            return this.types.length;
+        }
+
+        List<String> distinctTypes() {
+            return List.of(this.types).stream().distinct().toList();
+        }
+
+        String description() {
+            return describe(this.types);
+        }
+    }
+}